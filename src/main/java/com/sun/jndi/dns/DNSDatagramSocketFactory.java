@@ -94,6 +94,7 @@ class DNSDatagramSocketFactory {
     int suitablePortCount;
     int unsuitablePortCount;
     final ProtocolFamily family; // null (default) means dual stack
+    final boolean channels; // whether sockets are opened from channels
     final int thresholdCount; // decision point
     final int deviation;
     final Random random;
@@ -106,13 +107,32 @@ class DNSDatagramSocketFactory {
     DNSDatagramSocketFactory(Random random) {
         this(Objects.requireNonNull(random), null, DEVIATION, THRESHOLD);
     }
+
+    /**
+     * Creates a factory whose sockets, if channels is true, are those of
+     * DatagramChannels, so that they can be used in non-blocking mode.
+     */
+    DNSDatagramSocketFactory(Random random, boolean channels) {
+        this(Objects.requireNonNull(random), null, DEVIATION, THRESHOLD,
+             channels);
+    }
+
     DNSDatagramSocketFactory(Random random,
                              ProtocolFamily family,
                              int deviation,
                              int threshold) {
+        this(random, family, deviation, threshold, false);
+    }
+
+    DNSDatagramSocketFactory(Random random,
+                             ProtocolFamily family,
+                             int deviation,
+                             int threshold,
+                             boolean channels) {
         this.random = Objects.requireNonNull(random);
         this.history = new PortHistory(HISTORY, random);
         this.family = family;
+        this.channels = channels;
         this.deviation = Math.max(1, deviation);
         this.thresholdCount = Math.max(2, threshold);
     }
@@ -182,9 +202,11 @@ class DNSDatagramSocketFactory {
     }
 
     private DatagramSocket openDefault() throws SocketException {
-        if (family != null) {
+        if (family != null || channels) {
             try {
-                DatagramChannel c = DatagramChannel.open(family);
+                DatagramChannel c = (family != null)
+                        ? DatagramChannel.open(family)
+                        : DatagramChannel.open();
                 try {
                     DatagramSocket s = c.socket();
                     s.bind(null);
@@ -224,8 +246,10 @@ class DNSDatagramSocketFactory {
             int port = EphemeralPortRange.LOWER
                     + random.nextInt(EphemeralPortRange.RANGE);
             try {
-                if (family != null) {
-                    DatagramChannel c = DatagramChannel.open(family);
+                if (family != null || channels) {
+                    DatagramChannel c = (family != null)
+                            ? DatagramChannel.open(family)
+                            : DatagramChannel.open();
                     try {
                         DatagramSocket s = c.socket();
                         s.bind(new InetSocketAddress(port));
@@ -0,0 +1,151 @@
+package com.sun.jndi.dns;
+
+import java.security.AccessController;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.naming.NamingException;
+
+import sun.security.action.GetIntegerAction;
+
+/**
+ * A cache of DNS responses shared by all DnsClients, keyed by the servers
+ * queried and the question.
+ *
+ * A response is kept for the lowest TTL of its records, at most
+ * com.sun.jndi.dns.cache.ttl seconds (0 by default, which disables the
+ * cache). A name error, or a response without answers, is kept for the
+ * negative TTL of the SOA record of its authority section as in RFC 2308,
+ * at most com.sun.jndi.dns.cache.negative.ttl seconds (60 by default);
+ * without an SOA record it is not kept. Responses are kept as messages,
+ * and parsed anew for each hit.
+ */
+final class DnsCache {
+    private DnsCache() { }
+
+    private static final int MAX_TTL;
+    private static final int MAX_NEGATIVE_TTL;
+    private static final int MAX_ENTRIES = 10000;
+
+    static {
+        MAX_TTL = AccessController.doPrivileged(
+            new GetIntegerAction("com.sun.jndi.dns.cache.ttl", 0));
+        MAX_NEGATIVE_TTL = AccessController.doPrivileged(
+            new GetIntegerAction("com.sun.jndi.dns.cache.negative.ttl", 60));
+    }
+
+    private static final class Entry {
+        final byte[] msg;
+        final long expiration;
+
+        Entry(byte[] msg, long expiration) {
+            this.msg = msg;
+            this.expiration = expiration;
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Entry> cache =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the key of a question to the given servers, or null if
+     * responses are not cached.
+     */
+    static String key(String servers, DnsName fqdn, int qclass, int qtype,
+                      boolean recursion, boolean auth) {
+        if (MAX_TTL <= 0) {
+            return null;
+        }
+        return servers + ' ' + fqdn.toString().toLowerCase(Locale.ENGLISH) +
+            ' ' + qclass + ' ' + qtype + (recursion ? " r" : " -") +
+            (auth ? "a" : "-");
+    }
+
+    /**
+     * Returns the cached response to a question, or null.
+     */
+    static byte[] get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Entry e = cache.get(key);
+        if (e == null) {
+            return null;
+        }
+        if (e.expiration < System.currentTimeMillis()) {
+            cache.remove(key, e);
+            return null;
+        }
+        return e.msg;
+    }
+
+    /**
+     * Caches a response for its TTL, if it has one.
+     */
+    static void put(String key, byte[] msg, Header hdr) {
+        if (key == null || hdr.truncated) {
+            return;
+        }
+        long ttl;
+        try {
+            ttl = ttl(msg, hdr);
+        } catch (NamingException e) {
+            return;
+        }
+        if (ttl <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= MAX_ENTRIES) {
+            purge(now);
+            if (cache.size() >= MAX_ENTRIES) {
+                return;
+            }
+        }
+        cache.put(key, new Entry(msg, now + ttl * 1000));
+    }
+
+    private static void purge(long now) {
+        for (Map.Entry<String, Entry> e : cache.entrySet()) {
+            if (e.getValue().expiration < now) {
+                cache.remove(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /*
+     * Returns the number of seconds the response may be cached, 0 if it
+     * may not.
+     */
+    private static long ttl(byte[] msg, Header hdr) throws NamingException {
+        if (hdr.rcode != 0 && hdr.rcode != 3) {
+            return 0;   // only answers and name errors are cached
+        }
+        ResourceRecords rrs = new ResourceRecords(msg, msg.length, hdr, false);
+        if (hdr.rcode == 0 && !rrs.answer.isEmpty()) {
+            long ttl = MAX_TTL;
+            for (ResourceRecord rr : rrs.answer) {
+                ttl = Math.min(ttl, rr.ttl);
+            }
+            for (ResourceRecord rr : rrs.authority) {
+                ttl = Math.min(ttl, rr.ttl);
+            }
+            return ttl;
+        }
+        // negative response
+        for (ResourceRecord rr : rrs.authority) {
+            if (rr.getType() == ResourceRecord.TYPE_SOA) {
+                String soa = (String)rr.getRdata();
+                long minimum;
+                try {
+                    minimum = Long.parseLong(
+                        soa.substring(soa.lastIndexOf(' ') + 1));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+                return Math.min(Math.min(rr.ttl, minimum), MAX_NEGATIVE_TTL);
+            }
+        }
+        return 0;
+    }
+}
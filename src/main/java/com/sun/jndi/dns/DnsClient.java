@@ -26,17 +26,21 @@
 package com.sun.jndi.dns;
 
 import java.io.IOException;
-import java.net.DatagramSocket;
-import java.net.DatagramPacket;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.SecureRandom;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.naming.*;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.HashMap;
-
 import sun.security.jca.JCAUtil;
 
 // Some of this code began life as part of sun.javaos.net.DnsClient
@@ -47,6 +51,10 @@ import sun.security.jca.JCAUtil;
 /**
  * The DnsClient class performs DNS client operations in support of DnsContext.
  *
+ * UDP queries are sent through the UdpMultiplexer shared by all clients,
+ * so that any number of threads may have queries in flight at once, and
+ * responses may be cached by DnsCache, if enabled. Queries retried over
+ * TCP reuse the connections kept by Tcp.
  */
 
 public class DnsClient {
@@ -84,16 +92,7 @@ public class DnsClient {
     private int[] serverPorts;
     private int timeout;                // initial timeout on UDP queries in ms
     private int retries;                // number of UDP retries
-
-    private final Object udpSocketLock = new Object();
-    private static final DNSDatagramSocketFactory factory =
-            new DNSDatagramSocketFactory(random);
-
-    // Requests sent
-    private Map<Integer, ResourceRecord> reqs;
-
-    // Responses received
-    private Map<Integer, byte[]> resps;
+    private final String serversKey;    // the servers, for DnsCache keys
 
     //-------------------------------------------------------------------------
 
@@ -109,6 +108,7 @@ public class DnsClient {
         this.retries = retries;
         this.servers = new InetAddress[servers.length];
         serverPorts = new int[servers.length];
+        StringBuilder key = new StringBuilder();
 
         for (int i = 0; i < servers.length; i++) {
 
@@ -130,34 +130,27 @@ public class DnsClient {
                 ne.setRootCause(e);
                 throw ne;
             }
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(this.servers[i].getHostAddress())
+               .append(':').append(serverPorts[i]);
         }
-        reqs = Collections.synchronizedMap(
-            new HashMap<Integer, ResourceRecord>());
-        resps = Collections.synchronizedMap(new HashMap<Integer, byte[]>());
+        serversKey = key.toString();
     }
 
-    DatagramSocket getDatagramSocket() throws NamingException {
+    UdpMultiplexer getMultiplexer() throws NamingException {
         try {
-            return factory.open();
-        } catch (java.net.SocketException e) {
+            return UdpMultiplexer.getInstance();
+        } catch (IOException e) {
             NamingException ne = new ConfigurationException();
             ne.setRootCause(e);
             throw ne;
         }
     }
 
-    protected void finalize() {
-        close();
-    }
-
-    // A lock to access the request and response queues in tandem.
-    private Object queuesLock = new Object();
-
     public void close() {
-        synchronized (queuesLock) {
-            reqs.clear();
-            resps.clear();
-        }
+        // Nothing to release: UDP channels and TCP connections are shared.
     }
 
     /*
@@ -169,20 +162,26 @@ public class DnsClient {
                           boolean recursion, boolean auth)
             throws NamingException {
 
-        int xid;
-        Packet pkt;
-        ResourceRecord collision;
+        String key = DnsCache.key(serversKey, fqdn, qclass, qtype,
+                                  recursion, auth);
+        byte[] cached = DnsCache.get(key);
+        if (cached != null) {
+            if (debug) {
+                dprint("CACHED: " + fqdn);
+            }
+            Header hdr = new Header(cached, cached.length);
+            checkResponseCode(hdr);
+            return new ResourceRecords(cached, cached.length, hdr, false);
+        }
 
-        do {
-            // Generate a random transaction ID
-            xid = random.nextInt(TRANSACTION_ID_BOUND);
-            pkt = makeQueryPacket(fqdn, xid, qclass, qtype, recursion);
+        UdpMultiplexer udp = getMultiplexer();
 
-            // enqueue the outstanding request
-            collision = reqs.putIfAbsent(xid, new ResourceRecord(pkt.getData(),
-                pkt.length(), Header.HEADER_SIZE, true, false));
+        // Generate a random transaction ID
+        int xid = random.nextInt(TRANSACTION_ID_BOUND);
+        Packet pkt = makeQueryPacket(fqdn, xid, qclass, qtype, recursion);
 
-        } while (collision != null);
+        // register the outstanding request
+        UdpMultiplexer.Query q = udp.register(xid, pkt.getData(), pkt.length());
 
         Exception caughtException = null;
         boolean[] doNotRetry = new boolean[servers.length];
@@ -207,24 +206,25 @@ public class DnsClient {
                             dprint("SEND ID (" + (retry + 1) + "): " + xid);
                         }
 
-                        byte[] msg = null;
-                        msg = doUdpQuery(pkt, servers[i], serverPorts[i],
-                                            retry, xid);
+                        byte[] msg = doUdpQuery(udp, q, pkt, servers[i],
+                                                serverPorts[i], retry);
                         //
-                        // If the matching response is not got within the
-                        // given timeout, check if the response was enqueued
-                        // by some other thread, if not proceed with the next
-                        // server or retry.
+                        // Only a response to the packet just sent is
+                        // accepted. If none came within the timeout, proceed
+                        // with the next server or retry.
                         //
                         if (msg == null) {
-                            if (resps.size() > 0) {
-                                msg = lookupResponse(xid);
-                            }
-                            if (msg == null) { // try next server or retry
-                                continue;
+                            if (Thread.currentThread().isInterrupted()) {
+                                throw new InterruptedNamingException(
+                                    "Interrupted during DNS query");
                             }
+                            continue;
                         }
                         Header hdr = new Header(msg, msg.length);
+                        if (hdr.rcode == NAME_ERROR) {
+                            DnsCache.put(key, msg, hdr);
+                        }
+                        checkResponseCode(hdr);
 
                         if (auth && !hdr.authoritative) {
                             caughtException = new NameNotFoundException(
@@ -242,14 +242,8 @@ public class DnsClient {
                                     continue;
                                 }
                                 try {
-                                    Tcp tcp =
-                                        new Tcp(servers[ij], serverPorts[ij]);
-                                    byte[] msg2;
-                                    try {
-                                        msg2 = doTcpQuery(tcp, pkt);
-                                    } finally {
-                                        tcp.close();
-                                    }
+                                    byte[] msg2 = doPooledTcpQuery(servers[ij],
+                                        serverPorts[ij], pkt, xid);
                                     Header hdr2 = new Header(msg2, msg2.length);
                                     if (hdr2.query) {
                                         throw new CommunicationException(
@@ -270,7 +264,10 @@ public class DnsClient {
                                 }
                             } // servers
                         }
-                        return new ResourceRecords(msg, msg.length, hdr, false);
+                        ResourceRecords rrs =
+                            new ResourceRecords(msg, msg.length, hdr, false);
+                        DnsCache.put(key, msg, hdr);
+                        return rrs;
 
                     } catch (IOException e) {
                         if (debug) {
@@ -285,7 +282,8 @@ public class DnsClient {
                                 "java.net.PortUnreachableException")) {
                             doNotRetry[i] = true;
                         }
-                    } catch (NameNotFoundException e) {
+                    } catch (NameNotFoundException |
+                             InterruptedNamingException e) {
                         // This is authoritative, so return immediately
                         throw e;
                     } catch (CommunicationException e) {
@@ -302,7 +300,7 @@ public class DnsClient {
             } // retries
 
         } finally {
-            reqs.remove(xid); // cleanup
+            udp.unregister(q); // cleanup
         }
 
         if (caughtException instanceof NamingException) {
@@ -384,55 +382,55 @@ public class DnsClient {
 
 
     /**
-     * Tries to retreive an UDP packet matching the given xid
-     * received within the timeout.
-     * If a packet with different xid is received, the received packet
-     * is enqueued with the corresponding xid in 'resps'.
+     * Sends a query packet to a server through the multiplexer, and waits
+     * for a response to the query within the timeout of the given retry.
+     * Returns null if none was received.
      */
-    private byte[] doUdpQuery(Packet pkt, InetAddress server,
-                                     int port, int retry, int xid)
-            throws IOException, NamingException {
-
-        int minTimeout = 50; // msec after which there are no retries.
-
-        synchronized (udpSocketLock) {
-            try (DatagramSocket udpSocket = getDatagramSocket()) {
-                DatagramPacket opkt = new DatagramPacket(
-                        pkt.getData(), pkt.length(), server, port);
-                DatagramPacket ipkt = new DatagramPacket(new byte[8000], 8000);
-                // Packets may only be sent to or received from this server address
-                udpSocket.connect(server, port);
-                int pktTimeout = (timeout * (1 << retry));
-                try {
-                    udpSocket.send(opkt);
+    private byte[] doUdpQuery(UdpMultiplexer udp, UdpMultiplexer.Query q,
+                              Packet pkt, InetAddress server, int port,
+                              int retry) throws IOException {
 
-                    // timeout remaining after successive 'receive()'
-                    int timeoutLeft = pktTimeout;
-                    int cnt = 0;
-                    do {
-                        if (debug) {
-                           cnt++;
-                            dprint("Trying RECEIVE(" +
-                                    cnt + ") retry(" + (retry + 1) +
-                                    ") for:" + xid  + "    sock-timeout:" +
-                                    timeoutLeft + " ms.");
-                        }
-                        udpSocket.setSoTimeout(timeoutLeft);
-                        long start = System.currentTimeMillis();
-                        udpSocket.receive(ipkt);
-                        long end = System.currentTimeMillis();
-
-                        byte[] data = ipkt.getData();
-                        if (isMatchResponse(data, xid)) {
-                            return data;
-                        }
-                        timeoutLeft = pktTimeout - ((int) (end - start));
-                    } while (timeoutLeft > minTimeout);
+        int pktTimeout = (timeout * (1 << retry));
+        if (debug) {
+            dprint("Trying RECEIVE retry(" + (retry + 1) + ") for:" + q.xid +
+                   "    timeout:" + pktTimeout + " ms.");
+        }
+        udp.send(q, pkt.getData(), pkt.length(),
+                 new InetSocketAddress(server, port));
+        return q.await(pktTimeout);
+    }
 
-                } finally {
-                    udpSocket.disconnect();
+    /*
+     * Sends a TCP query on a pooled connection, and returns the response.
+     * A reused connection may have been closed by the server meanwhile;
+     * the query is then sent again on another one.
+     */
+    private byte[] doPooledTcpQuery(InetAddress server, int port, Packet pkt,
+                                    int xid) throws IOException {
+        for (;;) {
+            Tcp tcp = Tcp.acquire(server, port);
+            boolean done = false;
+            try {
+                // as long as the UDP queries would have waited at most
+                tcp.setTimeout(timeout * (1 << Math.max(0, retries - 1)));
+                byte[] msg = doTcpQuery(tcp, pkt);
+                if (msg.length < DNS_HDR_SIZE ||
+                        (((msg[IDENT_OFFSET] & 0xff) << 8) |
+                         (msg[IDENT_OFFSET + 1] & 0xff)) != xid) {
+                    throw new IOException("DNS error: unexpected response");
+                }
+                done = true;
+                return msg;
+            } catch (IOException e) {
+                if (!tcp.reused) {
+                    throw e;
+                }
+            } finally {
+                if (done) {
+                    tcp.release();
+                } else {
+                    tcp.close();
                 }
-                return null; // no matching packet received within the timeout
             }
         }
     }
@@ -525,119 +523,6 @@ public class DnsClient {
 
     //-------------------------------------------------------------------------
 
-    private byte[] lookupResponse(Integer xid) throws NamingException {
-        //
-        // Check the queued responses: some other thread in between
-        // received the response for this request.
-        //
-        if (debug) {
-            dprint("LOOKUP for: " + xid +
-                "\tResponse Q:" + resps);
-        }
-        byte[] pkt;
-        if ((pkt = resps.get(xid)) != null) {
-            checkResponseCode(new Header(pkt, pkt.length));
-            synchronized (queuesLock) {
-                resps.remove(xid);
-                reqs.remove(xid);
-            }
-
-            if (debug) {
-                dprint("FOUND (" + Thread.currentThread() +
-                    ") for:" + xid);
-            }
-        }
-        return pkt;
-    }
-
-    /*
-     * Checks the header of an incoming DNS response.
-     * Returns true if it matches the given xid and throws a naming
-     * exception, if appropriate, based on the response code.
-     *
-     * Also checks that the domain name, type and class in the response
-     * match those in the original query.
-     */
-    private boolean isMatchResponse(byte[] pkt, int xid)
-                throws NamingException {
-
-        Header hdr = new Header(pkt, pkt.length);
-        if (hdr.query) {
-            throw new CommunicationException("DNS error: expecting response");
-        }
-
-        if (!reqs.containsKey(xid)) { // already received, ignore the response
-            return false;
-        }
-
-        // common case- the request sent matches the subsequent response read
-        if (hdr.xid == xid) {
-            if (debug) {
-                dprint("XID MATCH:" + xid);
-            }
-            checkResponseCode(hdr);
-            if (!hdr.query && hdr.numQuestions == 1) {
-
-                ResourceRecord rr = new ResourceRecord(pkt, pkt.length,
-                    Header.HEADER_SIZE, true, false);
-
-                // Retrieve the original query
-                ResourceRecord query = reqs.get(xid);
-                int qtype = query.getType();
-                int qclass = query.getRrclass();
-                DnsName qname = query.getName();
-
-                // Check that the type/class/name in the query section of the
-                // response match those in the original query
-                if ((qtype == ResourceRecord.QTYPE_STAR ||
-                    qtype == rr.getType()) &&
-                    (qclass == ResourceRecord.QCLASS_STAR ||
-                    qclass == rr.getRrclass()) &&
-                    qname.equals(rr.getName())) {
-
-                    if (debug) {
-                        dprint("MATCH NAME:" + qname + " QTYPE:" + qtype +
-                            " QCLASS:" + qclass);
-                    }
-
-                    // Remove the response for the xid if received by some other
-                    // thread.
-                    synchronized (queuesLock) {
-                        resps.remove(xid);
-                        reqs.remove(xid);
-                    }
-                    return true;
-
-                } else {
-                    if (debug) {
-                        dprint("NO-MATCH NAME:" + qname + " QTYPE:" + qtype +
-                            " QCLASS:" + qclass);
-                    }
-                }
-            }
-            return false;
-        }
-
-        //
-        // xid mis-match: enqueue the response, it may belong to some other
-        // thread that has not yet had a chance to read its response.
-        // enqueue only the first response, responses for retries are ignored.
-        //
-        synchronized (queuesLock) {
-            if (reqs.containsKey(hdr.xid)) { // enqueue only the first response
-                resps.put(hdr.xid, pkt);
-            }
-        }
-
-        if (debug) {
-            dprint("NO-MATCH SEND ID:" +
-                                xid + " RECVD ID:" + hdr.xid +
-                                "    Response Q:" + resps +
-                                "    Reqs size:" + reqs.size());
-        }
-        return false;
-    }
-
     /*
      * Throws an exception if appropriate for the response code of a
      * given header.
@@ -669,9 +554,9 @@ public class DnsClient {
 
     //-------------------------------------------------------------------------
 
-    private static final boolean debug = false;
+    static final boolean debug = false;
 
-    private static void dprint(String mess) {
+    static void dprint(String mess) {
         if (debug) {
             System.err.println("DNS: " + mess);
         }
@@ -679,22 +564,156 @@ public class DnsClient {
 
 }
 
+/*
+ * A TCP connection to a DNS server. The connections of queries retried
+ * over TCP are kept open for IDLE_TIMEOUT once released, at most MAX_IDLE
+ * per server, and reused by later queries to the server (RFC 7766).
+ */
 class Tcp {
 
+    private static final int MAX_IDLE = 4;
+    private static final long IDLE_TIMEOUT = 10000;    // ms
+
+    private static final ConcurrentHashMap<InetSocketAddress, Deque<Tcp>>
+        idle = new ConcurrentHashMap<>();
+    private static final AtomicBoolean reaperScheduled = new AtomicBoolean();
+
     private Socket sock;
+    private final InetSocketAddress address;
+    private long idleSince;
+    boolean reused;             // whether taken from the idle connections
     java.io.InputStream in;
     java.io.OutputStream out;
 
     Tcp(InetAddress server, int port) throws IOException {
+        address = new InetSocketAddress(server, port);
         sock = new Socket(server, port);
         sock.setTcpNoDelay(true);
         out = new java.io.BufferedOutputStream(sock.getOutputStream());
         in = new java.io.BufferedInputStream(sock.getInputStream());
     }
 
+    /*
+     * Returns the most recently released connection to a server, or a new
+     * one if there is none.
+     */
+    static Tcp acquire(InetAddress server, int port) throws IOException {
+        Deque<Tcp> d = idle.get(new InetSocketAddress(server, port));
+        if (d != null) {
+            long now = System.currentTimeMillis();
+            Tcp tcp;
+            while ((tcp = d.pollLast()) != null) {
+                if (now - tcp.idleSince < IDLE_TIMEOUT) {
+                    tcp.reused = true;
+                    return tcp;
+                }
+                tcp.closeQuietly();
+            }
+        }
+        return new Tcp(server, port);
+    }
+
+    /*
+     * Keeps the connection for a later query, closing the connections
+     * idle for too long. Those left are closed by the reaper once idle
+     * for IDLE_TIMEOUT.
+     */
+    void release() {
+        Deque<Tcp> d = idle.computeIfAbsent(address,
+            a -> new ConcurrentLinkedDeque<>());
+        long now = System.currentTimeMillis();
+        Tcp tcp;
+        while ((tcp = d.peekFirst()) != null &&
+                now - tcp.idleSince >= IDLE_TIMEOUT) {
+            if (d.remove(tcp)) {
+                tcp.closeQuietly();
+            }
+        }
+        if (d.size() >= MAX_IDLE) {
+            closeQuietly();
+            return;
+        }
+        idleSince = now;
+        d.addLast(this);
+        scheduleReaper();
+    }
+
+    private static void scheduleReaper() {
+        if (reaperScheduled.compareAndSet(false, true)) {
+            Reaper.scheduler.schedule(Tcp::reap, IDLE_TIMEOUT,
+                                      TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /*
+     * Closes the connections to all servers idle for too long, then runs
+     * again while there are idle connections.
+     */
+    private static void reap() {
+        long now = System.currentTimeMillis();
+        boolean remaining = false;
+        for (Deque<Tcp> d : idle.values()) {
+            for (Tcp tcp : d) {
+                if (now - tcp.idleSince >= IDLE_TIMEOUT) {
+                    if (d.remove(tcp)) {
+                        tcp.closeQuietly();
+                    }
+                } else {
+                    remaining = true;
+                }
+            }
+        }
+        reaperScheduled.set(false);
+        if (remaining) {
+            scheduleReaper();
+        }
+    }
+
+    /*
+     * The scheduler of the reaper, with a single thread that is created
+     * when needed and ends when idle.
+     */
+    private static class Reaper {
+        static final ScheduledThreadPoolExecutor scheduler;
+        static {
+            scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                public Thread newThread(final Runnable r) {
+                    return AccessController.doPrivileged(
+                        new PrivilegedAction<Thread>() {
+                        public Thread run() {
+                            // in the system thread group
+                            ThreadGroup grp = Thread.currentThread().getThreadGroup();
+                            ThreadGroup parent;
+                            while ((parent = grp.getParent()) != null) {
+                                grp = parent;
+                            }
+                            Thread t = new Thread(grp, r, "JNDI-DNS-TCP-Reaper");
+                            t.setDaemon(true);
+                            t.setContextClassLoader(null);
+                            return t;
+                        }
+                    });
+                }
+            });
+            scheduler.setKeepAliveTime(IDLE_TIMEOUT, TimeUnit.MILLISECONDS);
+            scheduler.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    void setTimeout(int timeout) throws IOException {
+        sock.setSoTimeout(timeout);
+    }
+
     void close() throws IOException {
         sock.close();
     }
+
+    private void closeQuietly() {
+        try {
+            sock.close();
+        } catch (IOException ignore) {
+        }
+    }
 }
 
 /*
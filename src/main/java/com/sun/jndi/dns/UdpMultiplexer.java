@@ -0,0 +1,289 @@
+package com.sun.jndi.dns;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.naming.NamingException;
+
+import sun.security.jca.JCAUtil;
+
+/**
+ * Receives the responses to the UDP queries of all DnsClients with a single
+ * thread and selector, so that any number of queries may be in flight at
+ * once without a thread blocked in receive for each.
+ *
+ * As with a DatagramSocket per query, each packet of a query is sent from
+ * a DatagramChannel of its own, bound to a random port by
+ * DNSDatagramSocketFactory. The channel of a packet is closed when the
+ * query sends another packet or completes. A response is accepted only on
+ * the channel of the last packet, from the server that packet was sent to,
+ * and only if its question has the name, type and class of the query.
+ */
+final class UdpMultiplexer implements Runnable {
+
+    private static final int MAX_PACKET = 8000;
+
+    private static final SecureRandom random = JCAUtil.getSecureRandom();
+    private static final DNSDatagramSocketFactory factory =
+            new DNSDatagramSocketFactory(random, true);
+
+    private static UdpMultiplexer instance;
+
+    private final Selector selector;
+
+    // channels to register with the selector
+    private final ConcurrentLinkedQueue<Port> opened =
+            new ConcurrentLinkedQueue<>();
+
+    private UdpMultiplexer() throws IOException {
+        selector = Selector.open();
+    }
+
+    /**
+     * Returns the multiplexer, starting its receiver thread the first time.
+     */
+    static synchronized UdpMultiplexer getInstance() throws IOException {
+        if (instance == null) {
+            final UdpMultiplexer m = new UdpMultiplexer();
+            AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                public Void run() {
+                    // in the system thread group
+                    ThreadGroup grp = Thread.currentThread().getThreadGroup();
+                    ThreadGroup parent;
+                    while ((parent = grp.getParent()) != null) {
+                        grp = parent;
+                    }
+                    Thread t = new Thread(grp, m, "JNDI-DNS-Receiver");
+                    t.setDaemon(true);
+                    t.setContextClassLoader(null);
+                    t.start();
+                    return null;
+                }
+            });
+            instance = m;
+        }
+        return instance;
+    }
+
+    /*
+     * The channel a packet of a query was sent from, and the server it was
+     * sent to.
+     */
+    private static final class Port {
+        final DatagramChannel channel;
+        final Query query;
+        final SocketAddress server;
+
+        Port(DatagramChannel channel, Query query, SocketAddress server) {
+            this.channel = channel;
+            this.query = query;
+            this.server = server;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    /**
+     * A query in flight, and the response to it once received.
+     */
+    static final class Query {
+        final int xid;
+        private final DnsName name;
+        private final int qtype;
+        private final int qclass;
+        // the port of the last packet sent, null once completed
+        private Port port;
+        private boolean closed;
+        private byte[] response;
+
+        Query(int xid, ResourceRecord query) {
+            this.xid = xid;
+            this.name = query.getName();
+            this.qtype = query.getType();
+            this.qclass = query.getRrclass();
+        }
+
+        /*
+         * Makes p the port of the query, closing that of the previous
+         * packet. Returns false if the query has completed.
+         */
+        synchronized boolean sentFrom(Port p) {
+            if (closed) {
+                return false;
+            }
+            if (port != null) {
+                port.close();
+            }
+            port = p;
+            return true;
+        }
+
+        synchronized boolean accepts(Port p, SocketAddress from) {
+            return p == port && p.server.equals(from);
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (port != null) {
+                port.close();
+                port = null;
+            }
+        }
+
+        /*
+         * Checks that the question of a response is that of the query.
+         */
+        boolean matches(byte[] msg) throws NamingException {
+            Header hdr = new Header(msg, msg.length);
+            if (hdr.query || hdr.xid != xid || hdr.numQuestions != 1) {
+                return false;
+            }
+            ResourceRecord rr = new ResourceRecord(msg, msg.length,
+                    Header.HEADER_SIZE, true, false);
+            return (qtype == ResourceRecord.QTYPE_STAR ||
+                    qtype == rr.getType()) &&
+                   (qclass == ResourceRecord.QCLASS_STAR ||
+                    qclass == rr.getRrclass()) &&
+                   name.equals(rr.getName());
+        }
+
+        synchronized void complete(byte[] msg) {
+            if (response == null) {
+                response = msg;
+                notifyAll();
+            }
+        }
+
+        /*
+         * Returns the response, waiting for it at most the given time, or
+         * null if none was received.
+         */
+        synchronized byte[] await(long timeout) {
+            long deadline = System.currentTimeMillis() + timeout;
+            while (response == null && timeout > 0) {
+                try {
+                    wait(timeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                timeout = deadline - System.currentTimeMillis();
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Returns a new query for the given query message.
+     */
+    Query register(int xid, byte[] msg, int len) throws NamingException {
+        return new Query(xid, new ResourceRecord(msg, len,
+            Header.HEADER_SIZE, true, false));
+    }
+
+    /**
+     * Closes the channel of the query once it has completed.
+     */
+    void unregister(Query q) {
+        q.close();
+    }
+
+    /**
+     * Sends a query message to a server from a new channel, which replaces
+     * the channel of the previous packet of the query.
+     */
+    void send(Query q, byte[] msg, int len, InetSocketAddress server)
+            throws IOException {
+        DatagramChannel ch = factory.open().getChannel();
+        Port p = new Port(ch, q, server);
+        try {
+            ch.configureBlocking(false);
+        } catch (IOException e) {
+            p.close();
+            throw e;
+        }
+        if (!q.sentFrom(p)) {
+            p.close();
+            return;
+        }
+        opened.add(p);
+        selector.wakeup();
+        // a full send buffer loses the packet, as the network may
+        ch.send(ByteBuffer.wrap(msg, 0, len), server);
+    }
+
+    public void run() {
+        ByteBuffer buf = ByteBuffer.allocate(MAX_PACKET);
+        for (;;) {
+            try {
+                Port p;
+                while ((p = opened.poll()) != null) {
+                    try {
+                        p.channel.register(selector, SelectionKey.OP_READ, p);
+                    } catch (IOException e) {
+                        // closed already, the query sent another packet
+                    }
+                }
+
+                // closed channels are deregistered, and their descriptors
+                // released, by the next select
+                selector.select(1000);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey k = keys.next();
+                    keys.remove();
+                    receive((Port)k.attachment(), buf);
+                }
+            } catch (IOException | RuntimeException e) {
+                // keep serving the other channels
+                if (DnsClient.debug) {
+                    DnsClient.dprint("UDP receiver: " + e);
+                }
+            }
+        }
+    }
+
+    private void receive(Port p, ByteBuffer buf) {
+        for (;;) {
+            SocketAddress from;
+            buf.clear();
+            try {
+                from = p.channel.receive(buf);
+            } catch (IOException e) {
+                // e.g. ICMP unreachable, or closed; the query times out
+                return;
+            }
+            if (from == null) {
+                return;
+            }
+            buf.flip();
+            if (buf.remaining() < Header.HEADER_SIZE ||
+                    !p.query.accepts(p, from)) {
+                continue;
+            }
+            byte[] msg = new byte[buf.remaining()];
+            buf.get(msg);
+            try {
+                if (p.query.matches(msg)) {
+                    p.query.complete(msg);
+                }
+            } catch (NamingException | RuntimeException e) {
+                // malformed, ignore it
+            }
+        }
+    }
+}
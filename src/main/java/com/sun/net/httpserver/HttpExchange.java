@@ -31,6 +31,9 @@ import java.nio.channels.*;
 import java.net.*;
 import javax.net.ssl.*;
 import java.util.*;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import sun.net.www.MessageHeader;
 
 /**
@@ -185,6 +188,198 @@ public abstract class HttpExchange {
      */
     public abstract void sendResponseHeaders (int rCode, long responseLength) throws IOException ;
 
+    /**
+     * Writes <code>count</code> bytes of the given file, starting at the
+     * given file position, to the response body. The position of the file
+     * channel is not changed. {@link #sendResponseHeaders(int,long)} must
+     * be called prior to calling this method, and the bytes written count
+     * towards any fixed response body length given in that call. The
+     * response body stream must still be closed to end the exchange.
+     * <p>
+     * This implementation copies the bytes to the stream returned by
+     * {@link #getResponseBody()}. The server's own exchanges send them
+     * directly from the file, with {@link FileChannel#transferTo
+     * FileChannel.transferTo} on plain HTTP connections, when the response
+     * has a fixed length and no filter has wrapped the response stream.
+     * @param src the file to send
+     * @param position the position in the file of the first byte to send
+     * @param count the number of bytes to send
+     * @throws IOException if an I/O error occurs, or if the file ends
+     *         before <code>count</code> bytes have been sent
+     * @throws IllegalArgumentException if position or count is negative
+     */
+    public void sendResponseBody (FileChannel src, long position, long count)
+        throws IOException
+    {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException ("negative position or count");
+        }
+        OutputStream os = getResponseBody();
+        byte[] b = new byte [(int)Math.min (count, 8192)];
+        ByteBuffer buf = ByteBuffer.wrap (b);
+        while (count > 0) {
+            buf.clear();
+            if (count < b.length) {
+                buf.limit ((int)count);
+            }
+            int n = src.read (buf, position);
+            if (n <= 0) {
+                throw new IOException ("unexpected end of file");
+            }
+            os.write (b, 0, n);
+            position += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Sends the whole of the given file, or the part of it asked for, as
+     * the response to this request and then closes the exchange. The
+     * response headers, other than those described below, must be set
+     * before calling this method.
+     * <p>
+     * For GET and HEAD requests, a request with an
+     * <code>If-Modified-Since</code> header not older than the last
+     * modification time gets a 304 (Not Modified) response, and a request
+     * for a single byte range with a <code>Range</code> header gets a 206
+     * (Partial Content) response with that range of the file, or a 416
+     * (Range Not Satisfiable) response if the range starts beyond the end
+     * of the file. An <code>If-Range</code> header that does not match the
+     * last modification time causes the whole file to be sent. Requests
+     * for several ranges get the whole file. Otherwise the response is 200
+     * (OK). The response has <code>Accept-Ranges</code> and, if the last
+     * modification time is known, <code>Last-Modified</code> headers.
+     * <p>
+     * The file is sent with {@link #sendResponseBody(FileChannel,long,long)}.
+     * @param src the file to send
+     * @param lastModified the time the file was last modified, in
+     *        milliseconds since the epoch, or <code>-1</code> if not known
+     * @throws IOException if an I/O error occurs
+     */
+    public void sendFile (FileChannel src, long lastModified)
+        throws IOException
+    {
+        try {
+            long size = src.size();
+            long first = 0;
+            long length = size;
+            int rCode = 200;
+            Headers req = getRequestHeaders();
+            Headers rsp = getResponseHeaders();
+            String method = getRequestMethod();
+            boolean head = method.equals ("HEAD");
+            boolean conditional = head || method.equals ("GET");
+
+            rsp.set ("Accept-Ranges", "bytes");
+            String lm = null;
+            if (lastModified >= 0) {
+                // HTTP dates do not have fractions of a second
+                lastModified -= lastModified % 1000;
+                lm = formatDate (lastModified);
+                rsp.set ("Last-Modified", lm);
+            }
+            if (conditional && lastModified >= 0) {
+                long since = parseDate (req.getFirst ("If-Modified-Since"));
+                if (since >= 0 && lastModified <= since) {
+                    sendResponseHeaders (304, -1);
+                    return;
+                }
+            }
+            String range = conditional ? req.getFirst ("Range") : null;
+            String ifRange = req.getFirst ("If-Range");
+            if (range != null && (ifRange == null || ifRange.equals (lm))) {
+                long[] r = parseRange (range, size);
+                if (r == UNSATISFIABLE) {
+                    rsp.set ("Content-Range", "bytes */" + size);
+                    sendResponseHeaders (416, -1);
+                    return;
+                }
+                if (r != null) {
+                    first = r[0];
+                    length = r[1] - r[0] + 1;
+                    rCode = 206;
+                    rsp.set ("Content-Range",
+                             "bytes " + r[0] + "-" + r[1] + "/" + size);
+                }
+            }
+            if (head) {
+                rsp.set ("Content-length", Long.toString (length));
+                sendResponseHeaders (rCode, -1);
+                return;
+            }
+            sendResponseHeaders (rCode, length == 0 ? -1 : length);
+            sendResponseBody (src, first, length);
+        } finally {
+            close();
+        }
+    }
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    /* parses a Range header, returning the first and last byte of a single
+     * byte range, UNSATISFIABLE, or null if the header is to be ignored
+     */
+    private static long[] parseRange (String range, long size) {
+        if (!range.startsWith ("bytes=") || range.indexOf (',') >= 0) {
+            return null;
+        }
+        String spec = range.substring (6).trim();
+        int dash = spec.indexOf ('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            long first, last;
+            if (dash == 0) {
+                /* the last n bytes */
+                long n = Long.parseLong (spec.substring (1));
+                if (n <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                first = Math.max (size - n, 0);
+                last = size - 1;
+            } else {
+                first = Long.parseLong (spec.substring (0, dash));
+                String l = spec.substring (dash + 1);
+                last = l.isEmpty() ? Long.MAX_VALUE : Long.parseLong (l);
+                if (first < 0 || last < first) {
+                    return null;
+                }
+                if (first >= size) {
+                    return UNSATISFIABLE;
+                }
+                last = Math.min (last, size - 1);
+            }
+            return new long[] {first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static DateFormat httpDateFormat () {
+        DateFormat df = new SimpleDateFormat (
+            "EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US
+        );
+        df.setTimeZone (TimeZone.getTimeZone ("GMT"));
+        return df;
+    }
+
+    private static String formatDate (long time) {
+        return httpDateFormat().format (new Date (time));
+    }
+
+    /* returns -1 if the date is missing or cannot be parsed */
+    private static long parseDate (String date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            return httpDateFormat().parse (date).getTime();
+        } catch (ParseException e) {
+            return -1;
+        }
+    }
+
     /**
      * Returns the address of the remote entity invoking this request
      * @return the InetSocketAddress of the caller
@@ -40,4 +40,15 @@ public enum ExtendedCopyOption implements CopyOption {
      * method.
      */
     INTERRUPTIBLE,
+
+    /**
+     * The copy may share the data blocks of the source file, where the file
+     * system supports copy-on-write clones (a <em>reflink</em>), instead of
+     * copying the data. If the source and target files are on different file
+     * systems, or the file system does not support clones, then the data is
+     * copied.
+     *
+     * @since 1.8
+     */
+    CLONE,
 }
@@ -0,0 +1,41 @@
+package com.sun.nio.file;
+
+/**
+ * Statistics about the events observed by a {@link java.nio.file.WatchService}.
+ * Watch services created by Sun's provider implementation implement this
+ * interface on platforms where the statistics are maintained; the statistics
+ * may be used to detect when the events for a watched file tree are arriving
+ * faster than they are being consumed.
+ *
+ * @since 1.8
+ */
+
+public interface WatchServiceStatistics {
+
+    /**
+     * Returns the number of times that the operating system's event queue
+     * has overflowed, causing events to be lost and an {@link
+     * java.nio.file.StandardWatchEventKinds#OVERFLOW OVERFLOW} event to be
+     * signalled to all keys.
+     */
+    long kernelQueueOverflowCount();
+
+    /**
+     * Returns the number of times that the pending events of a watch key
+     * have been discarded and replaced by an {@code OVERFLOW} event because
+     * the key was not retrieved and reset quickly enough.
+     */
+    long eventListOverflowCount();
+
+    /**
+     * Returns the number of events that were merged into an event for the
+     * same file received earlier within the coalescing window.
+     */
+    long coalescedEventCount();
+
+    /**
+     * Returns the number of directories that are currently being watched,
+     * including the subdirectories of registered file trees.
+     */
+    int watchedDirectoryCount();
+}
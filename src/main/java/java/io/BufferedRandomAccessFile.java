@@ -0,0 +1,555 @@
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * 带页缓存的随机访问文件.
+ * <p>
+ * RandomAccessFile 的 readInt / readLong 每读一个字节都是一次系统调用,
+ * 这里把文件按 pageSize 分页,最多缓存 pageCount 页,按 LRU 淘汰.
+ * 读写都只操作缓存页,脏页在淘汰、flush、close、setLength 的时候写回文件.
+ * 所有的读写都经过缓存,所以 seek 只修改文件指针.
+ * 提供大端 (与 DataInput 相同) 和小端 (xxxLE) 两套基本类型读写方法.
+ * 只能在单个线程中使用
+ */
+public class BufferedRandomAccessFile implements Closeable {
+
+    private static final int DEFAULT_PAGE_SIZE = 8192;
+
+    private static final int DEFAULT_PAGE_COUNT = 64;
+
+    /**
+     * 缓存页
+     */
+    private static final class Page {
+        long index;
+        final byte[] data;
+        /**
+         * 页中有效数据的长度
+         */
+        int limit;
+        boolean dirty;
+
+        Page(int size) {
+            data = new byte[size];
+        }
+    }
+
+    private final RandomAccessFile raf;
+
+    private final FileChannel channel;
+
+    private final boolean writable;
+
+    private final int pageSize;
+
+    private final int pageCount;
+
+    /**
+     * 按访问顺序排列的页,第一个是最久没有访问的页
+     */
+    private final LinkedHashMap<Long, Page> pages;
+
+    /**
+     * 最近访问的页,顺序读写时不用查 map
+     */
+    private Page last;
+
+    /**
+     * 文件指针
+     */
+    private long pos;
+
+    /**
+     * 文件的逻辑长度,包括还没有写回的数据
+     */
+    private long length;
+
+    private final byte[] scratch = new byte[8];
+
+    public BufferedRandomAccessFile(String name, String mode) throws IOException {
+        this(new File(name), mode, DEFAULT_PAGE_SIZE, DEFAULT_PAGE_COUNT);
+    }
+
+    public BufferedRandomAccessFile(File file, String mode) throws IOException {
+        this(file, mode, DEFAULT_PAGE_SIZE, DEFAULT_PAGE_COUNT);
+    }
+
+    /**
+     * @param pageSize  每页的字节数
+     * @param pageCount 最多缓存的页数
+     */
+    public BufferedRandomAccessFile(File file, String mode, int pageSize, int pageCount)
+            throws IOException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size <= 0");
+        }
+        if (pageCount <= 0) {
+            throw new IllegalArgumentException("Page count <= 0");
+        }
+        this.raf = new RandomAccessFile(file, mode);
+        this.channel = raf.getChannel();
+        this.writable = mode.indexOf('w') >= 0;
+        this.pageSize = pageSize;
+        this.pageCount = pageCount;
+        this.pages = new LinkedHashMap<>(16, 0.75f, true);
+        this.length = raf.length();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (!channel.isOpen()) {
+            throw new IOException("Stream Closed");
+        }
+    }
+
+    private void ensureWritable() throws IOException {
+        if (!writable) {
+            throw new IOException("File opened read-only");
+        }
+    }
+
+    // -- 页缓存 --
+
+    /**
+     * 返回包含文件位置 p 的页,没有缓存时先淘汰再从文件加载.
+     * 返回的页中,文件长度以内的数据都是有效的
+     */
+    private Page page(long p) throws IOException {
+        long index = p / pageSize;
+        Page page = last;
+        if (page == null || page.index != index) {
+            page = pages.get(index);
+            if (page == null) {
+                page = evict();
+                page.index = index;
+                page.limit = 0;
+                page.dirty = false;
+                load(page);
+                pages.put(index, page);
+            }
+            last = page;
+        }
+        // 文件在别的页被写长了,或者文件中还没写回的部分,这一段是空洞,补 0
+        long start = index * pageSize;
+        if (page.limit < pageSize && start + page.limit < length) {
+            int end = (int) Math.min(pageSize, length - start);
+            Arrays.fill(page.data, page.limit, end, (byte) 0);
+            page.limit = end;
+        }
+        return page;
+    }
+
+    /**
+     * 缓存满时写回并移除最久没有访问的页,复用它的数组
+     */
+    private Page evict() throws IOException {
+        if (pages.size() < pageCount) {
+            return new Page(pageSize);
+        }
+        Iterator<Page> it = pages.values().iterator();
+        Page eldest = it.next();
+        writeBack(eldest);
+        it.remove();
+        if (last == eldest) {
+            last = null;
+        }
+        return eldest;
+    }
+
+    private void load(Page page) throws IOException {
+        long start = page.index * pageSize;
+        if (start >= length) {
+            return;
+        }
+        ByteBuffer bb = ByteBuffer.wrap(page.data, 0, (int) Math.min(pageSize, length - start));
+        while (bb.hasRemaining()) {
+            int n = channel.read(bb, start + bb.position());
+            if (n < 0) {
+                break;
+            }
+        }
+        page.limit = bb.position();
+    }
+
+    private void writeBack(Page page) throws IOException {
+        if (!page.dirty) {
+            return;
+        }
+        long start = page.index * pageSize;
+        ByteBuffer bb = ByteBuffer.wrap(page.data, 0, page.limit);
+        while (bb.hasRemaining()) {
+            channel.write(bb, start + bb.position());
+        }
+        page.dirty = false;
+    }
+
+    /**
+     * 把所有的脏页写回文件
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        for (Page page : pages.values()) {
+            writeBack(page);
+        }
+    }
+
+    // -- 文件指针 --
+
+    public long getFilePointer() throws IOException {
+        ensureOpen();
+        return pos;
+    }
+
+    public void seek(long pos) throws IOException {
+        ensureOpen();
+        if (pos < 0) {
+            throw new IOException("Negative seek offset");
+        }
+        this.pos = pos;
+    }
+
+    public long length() throws IOException {
+        ensureOpen();
+        return length;
+    }
+
+    /**
+     * 写回脏页后修改文件长度,并丢弃所有缓存页
+     */
+    public void setLength(long newLength) throws IOException {
+        ensureOpen();
+        ensureWritable();
+        flush();
+        raf.setLength(newLength);
+        pages.clear();
+        last = null;
+        length = newLength;
+        if (pos > newLength) {
+            pos = newLength;
+        }
+    }
+
+    // -- 读 --
+
+    public int read() throws IOException {
+        ensureOpen();
+        if (pos >= length) {
+            return -1;
+        }
+        Page page = page(pos);
+        int off = (int) (pos % pageSize);
+        pos++;
+        return page.data[off] & 0xff;
+    }
+
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+        if (pos >= length) {
+            return -1;
+        }
+        len = (int) Math.min(len, length - pos);
+        int n = 0;
+        while (n < len) {
+            Page page = page(pos);
+            int poff = (int) (pos % pageSize);
+            int cnt = Math.min(len - n, pageSize - poff);
+            System.arraycopy(page.data, poff, b, off + n, cnt);
+            n += cnt;
+            pos += cnt;
+        }
+        return n;
+    }
+
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        if (len > length - pos) {
+            throw new EOFException();
+        }
+        read(b, off, len);
+    }
+
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    /**
+     * 读满 dst 中剩余的空间,文件提前结束时抛出 EOFException
+     */
+    public void readFully(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        int len = dst.remaining();
+        if (len > length - pos) {
+            throw new EOFException();
+        }
+        while (dst.hasRemaining()) {
+            Page page = page(pos);
+            int poff = (int) (pos % pageSize);
+            int cnt = Math.min(dst.remaining(), pageSize - poff);
+            dst.put(page.data, poff, cnt);
+            pos += cnt;
+        }
+    }
+
+    public int skipBytes(int n) throws IOException {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        long newpos = Math.min(pos + n, Math.max(length, pos));
+        int skipped = (int) (newpos - pos);
+        pos = newpos;
+        return skipped;
+    }
+
+    /**
+     * 返回 len 个字节所在的页数组中的偏移,这些字节不在同一页时读到 scratch 中并返回 -1
+     */
+    private int prepareRead(int len) throws IOException {
+        ensureOpen();
+        if (len > length - pos) {
+            throw new EOFException();
+        }
+        int poff = (int) (pos % pageSize);
+        if (poff + len <= pageSize) {
+            page(pos);
+            pos += len;
+            return poff;
+        }
+        read(scratch, 0, len);
+        return -1;
+    }
+
+    private byte[] readArray(int off) {
+        return (off < 0) ? scratch : last.data;
+    }
+
+    public byte readByte() throws IOException {
+        int ch = read();
+        if (ch < 0) {
+            throw new EOFException();
+        }
+        return (byte) ch;
+    }
+
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xff;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public short readShort() throws IOException {
+        int off = prepareRead(2);
+        byte[] b = readArray(off);
+        off = Math.max(off, 0);
+        return (short) (((b[off] & 0xff) << 8) | (b[off + 1] & 0xff));
+    }
+
+    public short readShortLE() throws IOException {
+        return Short.reverseBytes(readShort());
+    }
+
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xffff;
+    }
+
+    public char readChar() throws IOException {
+        return (char) readShort();
+    }
+
+    public int readInt() throws IOException {
+        int off = prepareRead(4);
+        byte[] b = readArray(off);
+        off = Math.max(off, 0);
+        return ((b[off] & 0xff) << 24) | ((b[off + 1] & 0xff) << 16)
+                | ((b[off + 2] & 0xff) << 8) | (b[off + 3] & 0xff);
+    }
+
+    public int readIntLE() throws IOException {
+        return Integer.reverseBytes(readInt());
+    }
+
+    public long readLong() throws IOException {
+        int off = prepareRead(8);
+        byte[] b = readArray(off);
+        off = Math.max(off, 0);
+        long v = 0;
+        for (int i = 0; i < 8; i++) {
+            v = (v << 8) | (b[off + i] & 0xff);
+        }
+        return v;
+    }
+
+    public long readLongLE() throws IOException {
+        return Long.reverseBytes(readLong());
+    }
+
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public float readFloatLE() throws IOException {
+        return Float.intBitsToFloat(readIntLE());
+    }
+
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public double readDoubleLE() throws IOException {
+        return Double.longBitsToDouble(readLongLE());
+    }
+
+    // -- 写 --
+
+    public void write(int b) throws IOException {
+        ensureOpen();
+        ensureWritable();
+        Page page = page(pos);
+        int off = (int) (pos % pageSize);
+        wrote(page, off, off + 1);
+        page.data[off] = (byte) b;
+        pos++;
+        if (pos > length) {
+            length = pos;
+        }
+    }
+
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        ensureWritable();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        int n = 0;
+        while (n < len) {
+            Page page = page(pos);
+            int poff = (int) (pos % pageSize);
+            int cnt = Math.min(len - n, pageSize - poff);
+            wrote(page, poff, poff + cnt);
+            System.arraycopy(b, off + n, page.data, poff, cnt);
+            n += cnt;
+            pos += cnt;
+        }
+        if (pos > length) {
+            length = pos;
+        }
+    }
+
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    /**
+     * 标记页为脏页,写到有效数据之后时扩展有效长度
+     */
+    private void wrote(Page page, int start, int end) {
+        page.dirty = true;
+        if (end > page.limit) {
+            // 在文件末尾之后写入时,中间的空洞补 0
+            if (start > page.limit) {
+                Arrays.fill(page.data, page.limit, start, (byte) 0);
+            }
+            page.limit = end;
+        }
+    }
+
+    private void writeScratch(int len) throws IOException {
+        write(scratch, 0, len);
+    }
+
+    public void writeBoolean(boolean v) throws IOException {
+        write(v ? 1 : 0);
+    }
+
+    public void writeByte(int v) throws IOException {
+        write(v);
+    }
+
+    public void writeShort(int v) throws IOException {
+        scratch[0] = (byte) (v >>> 8);
+        scratch[1] = (byte) v;
+        writeScratch(2);
+    }
+
+    public void writeShortLE(int v) throws IOException {
+        writeShort(Short.reverseBytes((short) v));
+    }
+
+    public void writeChar(int v) throws IOException {
+        writeShort(v);
+    }
+
+    public void writeInt(int v) throws IOException {
+        scratch[0] = (byte) (v >>> 24);
+        scratch[1] = (byte) (v >>> 16);
+        scratch[2] = (byte) (v >>> 8);
+        scratch[3] = (byte) v;
+        writeScratch(4);
+    }
+
+    public void writeIntLE(int v) throws IOException {
+        writeInt(Integer.reverseBytes(v));
+    }
+
+    public void writeLong(long v) throws IOException {
+        for (int i = 0; i < 8; i++) {
+            scratch[i] = (byte) (v >>> (56 - 8 * i));
+        }
+        writeScratch(8);
+    }
+
+    public void writeLongLE(long v) throws IOException {
+        writeLong(Long.reverseBytes(v));
+    }
+
+    public void writeFloat(float v) throws IOException {
+        writeInt(Float.floatToIntBits(v));
+    }
+
+    public void writeFloatLE(float v) throws IOException {
+        writeIntLE(Float.floatToIntBits(v));
+    }
+
+    public void writeDouble(double v) throws IOException {
+        writeLong(Double.doubleToLongBits(v));
+    }
+
+    public void writeDoubleLE(double v) throws IOException {
+        writeLongLE(Double.doubleToLongBits(v));
+    }
+
+    /**
+     * 写回脏页并关闭文件
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            pages.clear();
+            last = null;
+            raf.close();
+        }
+    }
+}
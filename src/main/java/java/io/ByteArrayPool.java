@@ -0,0 +1,108 @@
+package java.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 按大小分级的字节数组池,流关闭时把缓冲区归还,避免每个流都分配新的数组.
+ * 级别为 2 的幂,从 MIN_SIZE 到 MAX_SIZE,每一级最多缓存 SLOTS 个数组,
+ * 取和还都是对槽位的 CAS,不加锁
+ */
+final class ByteArrayPool {
+
+    private static final int MIN_SHIFT = 9;
+
+    private static final int MAX_SHIFT = 20;
+
+    /**
+     * 池化的最小数组长度 512B
+     */
+    static final int MIN_SIZE = 1 << MIN_SHIFT;
+
+    /**
+     * 池化的最大数组长度 1MB,更大的数组直接分配,不归还
+     */
+    static final int MAX_SIZE = 1 << MAX_SHIFT;
+
+    private static final int SLOTS = 64;
+
+    private static final AtomicReferenceArray<byte[]>[] classes;
+
+    static {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        AtomicReferenceArray<byte[]>[] a = new AtomicReferenceArray[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new AtomicReferenceArray<>(SLOTS);
+        }
+        classes = a;
+    }
+
+    private ByteArrayPool() {
+    }
+
+    /**
+     * size 所在的级别,size 大于 MAX_SIZE 时返回 -1
+     */
+    private static int sizeClass(int size) {
+        if (size > MAX_SIZE) {
+            return -1;
+        }
+        if (size <= MIN_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * 池化的数组会被下一个借用者复用,只有流的实现是已知只复制数据、不保留数组引用的
+     * JDK 类时,才能把池化的数组交给它的 read / write.
+     * 子类可能覆盖 read / write,所以必须是这几个类本身
+     */
+    static boolean canPool(Object stream) {
+        Class<?> c = stream.getClass();
+        return c == FileInputStream.class || c == FileOutputStream.class
+                || c == ByteArrayInputStream.class || c == ByteArrayOutputStream.class;
+    }
+
+    /**
+     * 借出一个长度不小于 size 的数组,数组中的内容是未定义的
+     */
+    static byte[] lease(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        int c = sizeClass(size);
+        if (c < 0) {
+            return new byte[size];
+        }
+        AtomicReferenceArray<byte[]> slots = classes[c];
+        int start = (int) Thread.currentThread().getId() & (SLOTS - 1);
+        for (int i = 0; i < SLOTS; i++) {
+            int slot = (start + i) & (SLOTS - 1);
+            if (slots.get(slot) != null) {
+                byte[] buf = slots.getAndSet(slot, null);
+                if (buf != null) {
+                    return buf;
+                }
+            }
+        }
+        return new byte[1 << (c + MIN_SHIFT)];
+    }
+
+    /**
+     * 归还数组,长度不是某一级大小或者该级已满的数组直接丢弃
+     */
+    static void release(byte[] buf) {
+        int len = buf.length;
+        if (len < MIN_SIZE || len > MAX_SIZE || (len & (len - 1)) != 0) {
+            return;
+        }
+        AtomicReferenceArray<byte[]> slots = classes[sizeClass(len)];
+        int start = (int) Thread.currentThread().getId() & (SLOTS - 1);
+        for (int i = 0; i < SLOTS; i++) {
+            int slot = (start + i) & (SLOTS - 1);
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, buf)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 单生产者单消费者的环形缓冲区管道,用来替代 PipedInputStream / PipedOutputStream.
+ * <p>
+ * 一个线程写,一个线程读.读写索引各自只被一个线程修改,不加锁;
+ * 缓冲区空或满的时候用 park / unpark 交接,不像 PipedInputStream 那样 wait(1000) 轮询.
+ * 读端可以用 InputStream 或 ReadableByteChannel 访问,写端可以用 OutputStream 或 WritableByteChannel 访问
+ */
+public final class RingBufferPipe {
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final byte[] buf;
+
+    private final int mask;
+
+    /**
+     * 已经读出的字节总数,只由读线程修改
+     */
+    private volatile long head;
+
+    /**
+     * 已经写入的字节总数,只由写线程修改
+     */
+    private volatile long tail;
+
+    /**
+     * 等待数据的读线程 / 等待空间的写线程
+     */
+    private volatile Thread waitingReader;
+    private volatile Thread waitingWriter;
+
+    private volatile boolean readerClosed;
+    private volatile boolean writerClosed;
+
+    private final InputStream inputStream = new SourceStream();
+    private final OutputStream outputStream = new SinkStream();
+    private final ReadableByteChannel sourceChannel = new SourceChannel();
+    private final WritableByteChannel sinkChannel = new SinkChannel();
+
+    public RingBufferPipe() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 缓冲区大小,向上取整为 2 的幂
+     */
+    public RingBufferPipe(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pipe Size <= 0");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Pipe Size too large");
+        }
+        int cap = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buf = new byte[cap];
+        mask = cap - 1;
+    }
+
+    public int capacity() {
+        return buf.length;
+    }
+
+    /**
+     * 读端的输入流,关闭时关闭读端
+     */
+    public InputStream inputStream() {
+        return inputStream;
+    }
+
+    /**
+     * 写端的输出流,关闭时关闭写端
+     */
+    public OutputStream outputStream() {
+        return outputStream;
+    }
+
+    /**
+     * 读端的 channel,与 inputStream() 共享同一个读端
+     */
+    public ReadableByteChannel sourceChannel() {
+        return sourceChannel;
+    }
+
+    /**
+     * 写端的 channel,与 outputStream() 共享同一个写端
+     */
+    public WritableByteChannel sinkChannel() {
+        return sinkChannel;
+    }
+
+    // -- 读端 --
+
+    /**
+     * 等待直到有数据可读,返回可读的字节数,写端关闭并且数据读完时返回 -1
+     */
+    private int awaitReadable() throws IOException {
+        for (;;) {
+            if (readerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            long avail = tail - head;
+            if (avail > 0) {
+                return (int) avail;
+            }
+            if (writerClosed) {
+                // 写端关闭前写入的数据要先读完
+                avail = tail - head;
+                return (avail > 0) ? (int) avail : -1;
+            }
+            waitingReader = Thread.currentThread();
+            if (tail == head && !writerClosed && !readerClosed) {
+                LockSupport.park(this);
+            }
+            waitingReader = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private void signalWriter() {
+        Thread t = waitingWriter;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    private int read(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+        int avail = awaitReadable();
+        if (avail < 0) {
+            return -1;
+        }
+        long h = head;
+        int n = Math.min(avail, len);
+        int idx = (int) h & mask;
+        int first = Math.min(n, buf.length - idx);
+        System.arraycopy(buf, idx, b, off, first);
+        if (n > first) {
+            System.arraycopy(buf, 0, b, off + first, n - first);
+        }
+        head = h + n;
+        signalWriter();
+        return n;
+    }
+
+    private int read(ByteBuffer dst) throws IOException {
+        int len = dst.remaining();
+        if (len == 0) {
+            return 0;
+        }
+        int avail = awaitReadable();
+        if (avail < 0) {
+            return -1;
+        }
+        long h = head;
+        int n = Math.min(avail, len);
+        int idx = (int) h & mask;
+        int first = Math.min(n, buf.length - idx);
+        dst.put(buf, idx, first);
+        if (n > first) {
+            dst.put(buf, 0, n - first);
+        }
+        head = h + n;
+        signalWriter();
+        return n;
+    }
+
+    private void closeReader() {
+        readerClosed = true;
+        signalWriter();
+    }
+
+    // -- 写端 --
+
+    /**
+     * 等待直到有空闲空间,返回空闲的字节数
+     */
+    private int awaitWritable() throws IOException {
+        for (;;) {
+            if (writerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            if (readerClosed) {
+                throw new IOException("Read end dead");
+            }
+            long free = buf.length - (tail - head);
+            if (free > 0) {
+                return (int) free;
+            }
+            waitingWriter = Thread.currentThread();
+            if (tail - head == buf.length && !readerClosed && !writerClosed) {
+                LockSupport.park(this);
+            }
+            waitingWriter = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private void signalReader() {
+        Thread t = waitingReader;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            int free = awaitWritable();
+            long t = tail;
+            int n = Math.min(free, len);
+            int idx = (int) t & mask;
+            int first = Math.min(n, buf.length - idx);
+            System.arraycopy(b, off, buf, idx, first);
+            if (n > first) {
+                System.arraycopy(b, off + first, buf, 0, n - first);
+            }
+            tail = t + n;
+            signalReader();
+            off += n;
+            len -= n;
+        }
+    }
+
+    private int write(ByteBuffer src) throws IOException {
+        int written = 0;
+        while (src.hasRemaining()) {
+            int free = awaitWritable();
+            long t = tail;
+            int n = Math.min(free, src.remaining());
+            int idx = (int) t & mask;
+            int first = Math.min(n, buf.length - idx);
+            src.get(buf, idx, first);
+            if (n > first) {
+                src.get(buf, 0, n - first);
+            }
+            tail = t + n;
+            signalReader();
+            written += n;
+        }
+        return written;
+    }
+
+    private void closeWriter() {
+        writerClosed = true;
+        signalReader();
+    }
+
+    private final class SourceStream extends InputStream {
+        private final byte[] one = new byte[1];
+
+        @Override
+        public int read() throws IOException {
+            int n = RingBufferPipe.this.read(one, 0, 1);
+            return (n < 0) ? -1 : (one[0] & 0xff);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return RingBufferPipe.this.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (readerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            return (int) (tail - head);
+        }
+
+        @Override
+        public void close() {
+            closeReader();
+        }
+    }
+
+    private final class SinkStream extends OutputStream {
+        private final byte[] one = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            one[0] = (byte) b;
+            RingBufferPipe.this.write(one, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            RingBufferPipe.this.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closeWriter();
+        }
+    }
+
+    private final class SourceChannel implements ReadableByteChannel {
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (readerClosed) {
+                throw new ClosedChannelException();
+            }
+            return RingBufferPipe.this.read(dst);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !readerClosed;
+        }
+
+        @Override
+        public void close() {
+            closeReader();
+        }
+    }
+
+    private final class SinkChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (writerClosed) {
+                throw new ClosedChannelException();
+            }
+            return RingBufferPipe.this.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !writerClosed;
+        }
+
+        @Override
+        public void close() {
+            closeWriter();
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package java.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 分段的字节输出流.数据写入固定大小的段中,写满了就追加一个新段,
+ * 扩容时不会像 ByteArrayOutputStream 那样复制已有的数据,总大小也不受 2GB 限制.
+ * 段可以是堆内存 (从 ByteArrayPool 借出) 或者直接内存 (从池中借出),在 reset 和 close 时归还.
+ * toByteBuffers / toInputStream / writeTo 都直接使用段中的数据,不做复制,
+ * 因此在 reset 和 close 之后不能再使用它们返回的视图.只能在单个线程中使用
+ */
+public class SegmentedByteArrayOutputStream extends OutputStream {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * 缓存的直接内存段的最大个数
+     */
+    private static final int MAX_POOLED_DIRECT_SEGMENTS = 256;
+
+    private static final ConcurrentLinkedQueue<ByteBuffer> directPool =
+            new ConcurrentLinkedQueue<>();
+
+    private static final AtomicInteger directPoolSize = new AtomicInteger();
+
+    /**
+     * 已经分配的段,每个段的 position 是段中已写入的字节数
+     */
+    private final ArrayList<ByteBuffer> segments = new ArrayList<>();
+
+    private final int segmentSize;
+
+    private final boolean direct;
+
+    /**
+     * 当前写入的段,没有段时为 null
+     */
+    private ByteBuffer current;
+
+    /**
+     * 已写入的总字节数
+     */
+    private long count;
+
+    private boolean closed;
+
+    public SegmentedByteArrayOutputStream() {
+        this(DEFAULT_SEGMENT_SIZE, false);
+    }
+
+    /**
+     * @param segmentSize 每个段的大小
+     * @param direct      为 true 时使用直接内存段
+     */
+    public SegmentedByteArrayOutputStream(int segmentSize, boolean direct) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size <= 0");
+        }
+        this.segmentSize = segmentSize;
+        this.direct = direct;
+    }
+
+    private ByteBuffer newSegment() {
+        if (direct) {
+            ByteBuffer bb = directPool.poll();
+            if (bb != null) {
+                directPoolSize.decrementAndGet();
+                if (bb.capacity() == segmentSize) {
+                    bb.clear();
+                    return bb;
+                }
+            }
+            return ByteBuffer.allocateDirect(segmentSize);
+        }
+        // 借出的数组可能比 segmentSize 大,整个数组都作为段使用
+        return ByteBuffer.wrap(ByteArrayPool.lease(segmentSize));
+    }
+
+    private static void releaseSegment(ByteBuffer bb) {
+        if (bb.isDirect()) {
+            if (directPoolSize.incrementAndGet() <= MAX_POOLED_DIRECT_SEGMENTS) {
+                directPool.offer(bb);
+            } else {
+                directPoolSize.decrementAndGet();
+            }
+        } else {
+            ByteArrayPool.release(bb.array());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * 返回一个还有剩余空间的段,当前段写满时追加新段
+     */
+    private ByteBuffer writableSegment() {
+        ByteBuffer seg = current;
+        if (seg == null || !seg.hasRemaining()) {
+            seg = newSegment();
+            segments.add(seg);
+            current = seg;
+        }
+        return seg;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        writableSegment().put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            ByteBuffer seg = writableSegment();
+            int n = Math.min(len, seg.remaining());
+            seg.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    /**
+     * 写入 src 中剩余的字节
+     */
+    public void write(ByteBuffer src) throws IOException {
+        ensureOpen();
+        while (src.hasRemaining()) {
+            ByteBuffer seg = writableSegment();
+            int n = Math.min(src.remaining(), seg.remaining());
+            ByteBuffer slice = src.duplicate();
+            slice.limit(slice.position() + n);
+            seg.put(slice);
+            src.position(src.position() + n);
+            count += n;
+        }
+    }
+
+    /**
+     * 已写入的字节数,可以超过 Integer.MAX_VALUE
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 丢弃已写入的数据,并归还所有的段
+     */
+    public void reset() {
+        for (ByteBuffer seg : segments) {
+            releaseSegment(seg);
+        }
+        segments.clear();
+        current = null;
+        count = 0;
+    }
+
+    /**
+     * 返回每个段中已写入数据的只读视图,不复制数据
+     */
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] bufs = new ByteBuffer[segments.size()];
+        for (int i = 0; i < bufs.length; i++) {
+            ByteBuffer bb = segments.get(i).asReadOnlyBuffer();
+            bb.flip();
+            bufs[i] = bb;
+        }
+        return bufs;
+    }
+
+    /**
+     * 使用 gathering write 把所有数据写入 channel,返回写入的字节数.
+     * channel 必须是阻塞模式
+     */
+    public long writeTo(GatheringByteChannel ch) throws IOException {
+        ensureOpen();
+        if (ch instanceof SelectableChannel && !((SelectableChannel) ch).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        ByteBuffer[] bufs = toByteBuffers();
+        long total = 0;
+        int off = 0;
+        while (off < bufs.length) {
+            total += ch.write(bufs, off, bufs.length - off);
+            while (off < bufs.length && !bufs[off].hasRemaining()) {
+                off++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 把所有数据写入到 out 中.段的数组是池化的,只有 out 是 ByteArrayPool.canPool 认可的 JDK 流时
+     * 才直接写出段的数组,否则和直接内存段一样经过私有的临时数组复制,out 拿不到池化的数组
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ensureOpen();
+        boolean trusted = ByteArrayPool.canPool(out);
+        byte[] tmp = null;
+        for (ByteBuffer seg : segments) {
+            int len = seg.position();
+            if (seg.hasArray() && trusted) {
+                out.write(seg.array(), seg.arrayOffset(), len);
+            } else {
+                if (tmp == null) {
+                    tmp = new byte[Math.min(segmentSize, 8192)];
+                }
+                ByteBuffer bb = seg.duplicate();
+                bb.flip();
+                while (bb.hasRemaining()) {
+                    int n = Math.min(bb.remaining(), tmp.length);
+                    bb.get(tmp, 0, n);
+                    out.write(tmp, 0, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * 复制出所有数据,数据超过数组的最大长度时抛出 OutOfMemoryError
+     */
+    public byte[] toByteArray() {
+        if (count > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        byte[] result = new byte[(int) count];
+        int off = 0;
+        for (ByteBuffer seg : segments) {
+            ByteBuffer bb = seg.duplicate();
+            bb.flip();
+            int n = bb.remaining();
+            bb.get(result, off, n);
+            off += n;
+        }
+        return result;
+    }
+
+    /**
+     * 返回一个读取当前所有数据的输入流,与本流共享段,不复制数据
+     */
+    public InputStream toInputStream() {
+        return new SegmentInputStream(toByteBuffers());
+    }
+
+    /**
+     * 归还所有的段,之后再写入会抛出 IOException
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            reset();
+        }
+    }
+
+    private static final class SegmentInputStream extends InputStream {
+
+        private final ByteBuffer[] bufs;
+
+        private int index;
+
+        SegmentInputStream(ByteBuffer[] bufs) {
+            this.bufs = bufs;
+        }
+
+        /**
+         * 当前还有数据的段,没有数据时返回 null
+         */
+        private ByteBuffer segment() {
+            while (index < bufs.length) {
+                ByteBuffer bb = bufs[index];
+                if (bb.hasRemaining()) {
+                    return bb;
+                }
+                index++;
+            }
+            return null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer bb = segment();
+            return (bb == null) ? -1 : (bb.get() & 0xff);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+                throw new IndexOutOfBoundsException();
+            } else if (len == 0) {
+                return 0;
+            }
+            int n = 0;
+            ByteBuffer bb;
+            while (n < len && (bb = segment()) != null) {
+                int cnt = Math.min(len - n, bb.remaining());
+                bb.get(b, off + n, cnt);
+                n += cnt;
+            }
+            return (n == 0) ? -1 : n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            ByteBuffer bb;
+            while (skipped < n && (bb = segment()) != null) {
+                int cnt = (int) Math.min(n - skipped, bb.remaining());
+                bb.position(bb.position() + cnt);
+                skipped += cnt;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long avail = 0;
+            for (int i = index; i < bufs.length; i++) {
+                avail += bufs[i].remaining();
+            }
+            return (int) Math.min(avail, Integer.MAX_VALUE);
+        }
+    }
+}
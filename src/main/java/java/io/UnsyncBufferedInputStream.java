@@ -0,0 +1,248 @@
+package java.io;
+
+/**
+ * 不加锁的 BufferedInputStream,只能在单个线程中使用.
+ * 底层流是 ByteArrayPool.canPool 认可的 JDK 流时,缓冲区从 ByteArrayPool 中借出,close 的时候归还,
+ * 否则直接分配,避免把池化的数组交给不可信的流
+ */
+public class UnsyncBufferedInputStream extends FilterInputStream {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * 缓冲区,关闭之后为 null
+     */
+    private byte[] buf;
+
+    /**
+     * 缓冲区中有效字节的末尾
+     */
+    private int count;
+
+    /**
+     * 下一个要读取的字节的索引
+     */
+    private int pos;
+
+    /**
+     * 标记的位置,-1 表示没有标记
+     */
+    private int markpos = -1;
+
+    private int marklimit;
+
+    /**
+     * 缓冲区是否从 ByteArrayPool 借出
+     */
+    private final boolean pooled;
+
+    public UnsyncBufferedInputStream(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public UnsyncBufferedInputStream(InputStream in, int size) {
+        super(in);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        pooled = in != null && ByteArrayPool.canPool(in);
+        buf = pooled ? ByteArrayPool.lease(size) : new byte[size];
+    }
+
+    private byte[] getBufIfOpen() throws IOException {
+        byte[] buffer = buf;
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+        return buffer;
+    }
+
+    /**
+     * 从输入流读取数据填充缓冲区,逻辑同 BufferedInputStream.fill
+     */
+    private void fill() throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if (markpos < 0) {
+            pos = 0;
+        } else if (pos >= buffer.length) {
+            if (markpos > 0) {
+                int sz = pos - markpos;
+                System.arraycopy(buffer, markpos, buffer, 0, sz);
+                pos = sz;
+                markpos = 0;
+            } else if (buffer.length >= marklimit) {
+                markpos = -1;
+                pos = 0;
+            } else if (buffer.length >= MAX_BUFFER_SIZE) {
+                throw new OutOfMemoryError("Required array size too large");
+            } else {
+                int nsz = (pos <= MAX_BUFFER_SIZE - pos) ?
+                        pos * 2 : MAX_BUFFER_SIZE;
+                if (nsz > marklimit) {
+                    nsz = marklimit;
+                }
+                byte[] nbuf = pooled ? ByteArrayPool.lease(nsz) : new byte[nsz];
+                System.arraycopy(buffer, 0, nbuf, 0, pos);
+                if (pooled) {
+                    ByteArrayPool.release(buffer);
+                }
+                buf = nbuf;
+                buffer = nbuf;
+            }
+        }
+        count = pos;
+        int n = in.read(buffer, pos, buffer.length - pos);
+        if (n > 0) {
+            count = n + pos;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (pos >= count) {
+            fill();
+            if (pos >= count) {
+                return -1;
+            }
+        }
+        return buf[pos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+        int avail = count - pos;
+        if (avail <= 0) {
+            // 没有标记并且要读的数据不少于缓冲区,直接从流中读,不经过缓冲区
+            if (len >= buffer.length && markpos < 0) {
+                return in.read(b, off, len);
+            }
+            fill();
+            avail = count - pos;
+            if (avail <= 0) {
+                return -1;
+            }
+        }
+        int cnt = (avail < len) ? avail : len;
+        System.arraycopy(buf, pos, b, off, cnt);
+        pos += cnt;
+        return cnt;
+    }
+
+    /**
+     * 读满 len 个字节,流提前结束时抛出 EOFException
+     */
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        int n = 0;
+        while (n < len) {
+            int nread = read(b, off + n, len - n);
+            if (nread < 0) {
+                throw new EOFException();
+            }
+            n += nread;
+        }
+    }
+
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        getBufIfOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        long avail = count - pos;
+        if (avail <= 0) {
+            if (markpos < 0) {
+                return in.skip(n);
+            }
+            fill();
+            avail = count - pos;
+            if (avail <= 0) {
+                return 0;
+            }
+        }
+        long skipped = (avail < n) ? avail : n;
+        pos += skipped;
+        return skipped;
+    }
+
+    /**
+     * 跳过正好 n 个字节,流提前结束时抛出 EOFException
+     */
+    public void skipNBytes(long n) throws IOException {
+        while (n > 0) {
+            long ns = skip(n);
+            if (ns > 0) {
+                n -= ns;
+            } else if (read() == -1) {
+                // skip 返回 0 时读一个字节,区分流结束和暂时跳不过去
+                throw new EOFException();
+            } else {
+                n--;
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        getBufIfOpen();
+        int n = count - pos;
+        int avail = in.available();
+        return n > (Integer.MAX_VALUE - avail) ? Integer.MAX_VALUE : n + avail;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        marklimit = readlimit;
+        markpos = pos;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        getBufIfOpen();
+        if (markpos < 0) {
+            throw new IOException("Resetting to invalid mark");
+        }
+        pos = markpos;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * 关闭流,池化的缓冲区归还给 ByteArrayPool
+     */
+    @Override
+    public void close() throws IOException {
+        byte[] buffer = buf;
+        if (buffer == null) {
+            return;
+        }
+        buf = null;
+        count = pos = 0;
+        markpos = -1;
+        if (pooled) {
+            ByteArrayPool.release(buffer);
+        }
+        InputStream input = in;
+        in = null;
+        if (input != null) {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package java.io;
+
+/**
+ * 不加锁的 BufferedOutputStream,只能在单个线程中使用.
+ * 底层流是 ByteArrayPool.canPool 认可的 JDK 流时,缓冲区从 ByteArrayPool 中借出,close 的时候归还,
+ * 否则直接分配,避免把池化的数组交给不可信的流
+ */
+public class UnsyncBufferedOutputStream extends FilterOutputStream {
+
+    /**
+     * 缓冲区,关闭之后为 null
+     */
+    private byte[] buf;
+
+    /**
+     * 缓冲区中有效的字节数
+     */
+    private int count;
+
+    /**
+     * 缓冲区是否从 ByteArrayPool 借出
+     */
+    private final boolean pooled;
+
+    public UnsyncBufferedOutputStream(OutputStream out) {
+        this(out, 8192);
+    }
+
+    public UnsyncBufferedOutputStream(OutputStream out, int size) {
+        super(out);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        pooled = out != null && ByteArrayPool.canPool(out);
+        buf = pooled ? ByteArrayPool.lease(size) : new byte[size];
+    }
+
+    private byte[] getBufIfOpen() throws IOException {
+        byte[] buffer = buf;
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+        return buffer;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if (count >= buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        byte[] buffer = getBufIfOpen();
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        // 写入的数据不少于缓冲区,刷新缓冲区后直接写入到流中
+        if (len >= buffer.length) {
+            flushBuffer();
+            out.write(b, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            flushBuffer();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        getBufIfOpen();
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * 刷新并关闭流,池化的缓冲区归还给 ByteArrayPool
+     */
+    @Override
+    public void close() throws IOException {
+        byte[] buffer = buf;
+        if (buffer == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+            out.flush();
+        } finally {
+            buf = null;
+            count = 0;
+            if (pooled) {
+                ByteArrayPool.release(buffer);
+            }
+            out.close();
+        }
+    }
+}
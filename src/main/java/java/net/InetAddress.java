@@ -1,9 +1,11 @@
 package java.net;
 
 import sun.net.InetAddressCachePolicy;
+import sun.net.InetAddressCacheStats;
 import sun.net.spi.nameservice.NameService;
 import sun.net.spi.nameservice.NameServiceDescriptor;
 import sun.net.util.IPAddressUtil;
+import sun.misc.InnocuousThread;
 import sun.security.action.GetBooleanAction;
 import sun.security.action.GetPropertyAction;
 
@@ -12,6 +14,11 @@ import java.io.ObjectInputStream.GetField;
 import java.io.ObjectOutputStream.PutField;
 import java.security.AccessController;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class InetAddress implements java.io.Serializable {
     /**
@@ -562,35 +569,73 @@ public class InetAddress implements java.io.Serializable {
 
     private static Cache negativeCache = new Cache(Cache.Type.Negative);
 
-    private static boolean addressCacheInit = false;
+    private static volatile boolean addressCacheInit = false;
 
     static InetAddress[] unknown_array; // put THIS in cache
 
     static InetAddressImpl impl;
 
-    private static final HashMap<String, Void> lookupTable = new HashMap<>();
+    /*
+     * The lookups in progress, by lower case host name. A thread that
+     * misses the cache waits for the lookup of the same name by another
+     * thread, if there is one, rather than doing its own.
+     */
+    private static final ConcurrentHashMap<String, Lookup> lookups =
+        new ConcurrentHashMap<>();
 
     /**
      * Represents a cache entry
      */
     static final class CacheEntry {
 
-        CacheEntry(InetAddress[] addresses, long expiration) {
+        CacheEntry(String host, InetAddress[] addresses, long expiration,
+                   long refreshTime, long staleExpiration) {
+            this.host = host;
             this.addresses = addresses;
             this.expiration = expiration;
+            this.refreshTime = refreshTime;
+            this.staleExpiration = staleExpiration;
+        }
+
+        // the name as it was looked up
+        final String host;
+        final InetAddress[] addresses;
+        // -1 for entries that never expire
+        final long expiration;
+        // the time after which a use of the entry refreshes it, -1 if never
+        final long refreshTime;
+        // the time until which the entry may be used after it expired
+        final long staleExpiration;
+
+        boolean isExpired(long now) {
+            return expiration >= 0 && expiration < now;
         }
 
-        InetAddress[] addresses;
-        long expiration;
+        boolean isRefreshDue(long now) {
+            return refreshTime >= 0 && refreshTime < now;
+        }
+
+        /**
+         * Returns a copy of this entry, to be refreshed again at the
+         * given time.
+         */
+        CacheEntry refreshAt(long time) {
+            return new CacheEntry(host, addresses, expiration, time, staleExpiration);
+        }
     }
 
     /**
      * A cache that manages entries based on a policy specified
      * at creation time.
+     *
+     * The entries are kept in a concurrent map and read without locking.
+     * Expired entries are removed when they are read, and by a sweep of
+     * the whole map at most once per second when entries are added.
      */
     static final class Cache {
-        private LinkedHashMap<String, CacheEntry> cache;
-        private Type type;
+        private final ConcurrentHashMap<String, CacheEntry> cache;
+        private final Type type;
+        private volatile long nextPurge;
 
         enum Type {Positive, Negative}
 
@@ -601,7 +646,7 @@ public class InetAddress implements java.io.Serializable {
          */
         public Cache(Type type) {
             this.type = type;
-            cache = new LinkedHashMap<String, CacheEntry>();
+            cache = new ConcurrentHashMap<String, CacheEntry>();
         }
 
         private int getPolicy() {
@@ -617,55 +662,66 @@ public class InetAddress implements java.io.Serializable {
          * entry then for this host then the entry will be
          * replaced.
          */
-        public Cache put(String host, InetAddress[] addresses) {
+        public Cache put(String host, String name, InetAddress[] addresses) {
             int policy = getPolicy();
             if (policy == InetAddressCachePolicy.NEVER) {
                 return this;
             }
 
-            // purge any expired entries
+            long now = System.currentTimeMillis();
+            if (policy != InetAddressCachePolicy.FOREVER && now >= nextPurge) {
+                nextPurge = now + 1000;
+                purge(now);
+            }
 
+            long expiration = -1;
+            long refreshTime = -1;
+            long staleExpiration = -1;
             if (policy != InetAddressCachePolicy.FOREVER) {
-
-                // As we iterate in insertion order we can
-                // terminate when a non-expired entry is found.
-                LinkedList<String> expired = new LinkedList<>();
-                long now = System.currentTimeMillis();
-                for (String key : cache.keySet()) {
-                    CacheEntry entry = cache.get(key);
-
-                    if (entry.expiration >= 0 && entry.expiration < now) {
-                        expired.add(key);
-                    } else {
-                        break;
+                expiration = now + (policy * 1000L);
+                staleExpiration = expiration;
+                if (type == Type.Positive) {
+                    int ahead = InetAddressCachePolicy.getRefreshAhead();
+                    if (ahead > 0) {
+                        refreshTime = now + (policy * 10L * ahead);
+                    }
+                    int stale = InetAddressCachePolicy.getStale();
+                    if (stale > 0) {
+                        staleExpiration = expiration + (stale * 1000L);
+                        if (refreshTime < 0) {
+                            refreshTime = expiration;
+                        }
                     }
-                }
-
-                for (String key : expired) {
-                    cache.remove(key);
                 }
             }
+            cache.put(host, new CacheEntry(name, addresses, expiration,
+                                           refreshTime, staleExpiration));
+            return this;
+        }
 
-            // create new entry and add it to the cache
-            // -- as a HashMap replaces existing entries we
-            //    don't need to explicitly check if there is
-            //    already an entry for this host.
-            long expiration;
-            if (policy == InetAddressCachePolicy.FOREVER) {
-                expiration = -1;
-            } else {
-                expiration = System.currentTimeMillis() + (policy * 1000);
+        /**
+         * Replaces the entry of the given host if it is still the given
+         * one.
+         */
+        boolean replace(String host, CacheEntry entry, CacheEntry newEntry) {
+            return cache.replace(host, entry, newEntry);
+        }
+
+        private void purge(long now) {
+            for (Map.Entry<String, CacheEntry> e : cache.entrySet()) {
+                CacheEntry entry = e.getValue();
+                if (entry.staleExpiration >= 0 && entry.staleExpiration < now) {
+                    cache.remove(e.getKey(), entry);
+                }
             }
-            CacheEntry entry = new CacheEntry(addresses, expiration);
-            cache.put(host, entry);
-            return this;
         }
 
         /**
          * Query the cache for the specific host. If found then
-         * return its CacheEntry, or null if not found.
+         * return its CacheEntry, or null if not found. The entry
+         * returned may have expired if it may still be used stale.
          */
-        public CacheEntry get(String host) {
+        public CacheEntry get(String host, long now) {
             int policy = getPolicy();
             if (policy == InetAddressCachePolicy.NEVER) {
                 return null;
@@ -674,9 +730,8 @@ public class InetAddress implements java.io.Serializable {
 
             // check if entry has expired
             if (entry != null && policy != InetAddressCachePolicy.FOREVER) {
-                if (entry.expiration >= 0 &&
-                        entry.expiration < System.currentTimeMillis()) {
-                    cache.remove(host);
+                if (entry.staleExpiration >= 0 && entry.staleExpiration < now) {
+                    cache.remove(host, entry);
                     entry = null;
                 }
             }
@@ -690,17 +745,21 @@ public class InetAddress implements java.io.Serializable {
      * unknown array with no expiry.
      */
     private static void cacheInitIfNeeded() {
-        assert Thread.holdsLock(addressCache);
         if (addressCacheInit) {
             return;
         }
-        unknown_array = new InetAddress[1];
-        unknown_array[0] = impl.anyLocalAddress();
+        synchronized (addressCache) {
+            if (addressCacheInit) {
+                return;
+            }
+            unknown_array = new InetAddress[1];
+            unknown_array[0] = impl.anyLocalAddress();
 
-        addressCache.put(impl.anyLocalAddress().getHostName(),
-                unknown_array);
+            String name = impl.anyLocalAddress().getHostName();
+            addressCache.put(name.toLowerCase(), name, unknown_array);
 
-        addressCacheInit = true;
+            addressCacheInit = true;
+        }
     }
 
     /*
@@ -709,43 +768,139 @@ public class InetAddress implements java.io.Serializable {
     private static void cacheAddresses(String hostname,
                                        InetAddress[] addresses,
                                        boolean success) {
-        hostname = hostname.toLowerCase();
-        synchronized (addressCache) {
-            cacheInitIfNeeded();
-            if (success) {
-                addressCache.put(hostname, addresses);
-            } else {
-                negativeCache.put(hostname, addresses);
-            }
+        String key = hostname.toLowerCase();
+        cacheInitIfNeeded();
+        if (success) {
+            addressCache.put(key, hostname, addresses);
+        } else {
+            negativeCache.put(key, hostname, addresses);
         }
     }
 
     /*
      * Lookup hostname in cache (positive & negative cache). If
      * found return addresses, null if not found.
+     *
+     * A positive entry that is due for a refresh, or that expired and
+     * may be used stale, is looked up again in the background.
      */
     private static InetAddress[] getCachedAddresses(String hostname) {
         hostname = hostname.toLowerCase();
 
         // search both positive & negative caches
 
-        synchronized (addressCache) {
-            cacheInitIfNeeded();
+        cacheInitIfNeeded();
+        long now = System.currentTimeMillis();
 
-            CacheEntry entry = addressCache.get(hostname);
-            if (entry == null) {
-                entry = negativeCache.get(hostname);
+        CacheEntry entry = addressCache.get(hostname, now);
+        if (entry != null) {
+            if (entry.isRefreshDue(now)) {
+                refresh(hostname, entry);
             }
-
-            if (entry != null) {
-                return entry.addresses;
+            if (entry.isExpired(now)) {
+                InetAddressCacheStats.staleHits.increment();
             }
+            return entry.addresses;
+        }
+        entry = negativeCache.get(hostname, now);
+        if (entry != null) {
+            return entry.addresses;
         }
 
         // not found
         return null;
     }
 
+    /*
+     * A lookup in progress, that other threads may wait for.
+     */
+    private static final class Lookup {
+        private InetAddress[] addresses;
+        private boolean done;
+
+        synchronized void complete(InetAddress[] addresses) {
+            this.addresses = addresses;
+            done = true;
+            notifyAll();
+        }
+
+        /*
+         * Waits for the addresses found, or unknown_array if the lookup
+         * failed.
+         */
+        synchronized InetAddress[] await() {
+            boolean interrupted = false;
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return addresses;
+        }
+    }
+
+    /*
+     * Looks the given cached entry up again in the background, unless
+     * the name is being looked up already. If the lookup fails, the entry
+     * is kept, and is looked up again after the negative cache policy or
+     * at least a second.
+     */
+    private static void refresh(String key, CacheEntry entry) {
+        Lookup lookup = new Lookup();
+        if (lookups.putIfAbsent(key, lookup) != null) {
+            return;
+        }
+        Runnable task = new Runnable() {
+            public void run() {
+                InetAddress[] addresses = unknown_array;
+                try {
+                    addresses = lookupAllHostAddr(entry.host);
+                    cacheAddresses(entry.host, addresses, true);
+                    InetAddressCacheStats.refreshes.increment();
+                } catch (UnknownHostException | RuntimeException e) {
+                    InetAddressCacheStats.refreshFailures.increment();
+                    long delay = Math.max(InetAddressCachePolicy.getNegative(), 1) * 1000L;
+                    addressCache.replace(key, entry,
+                        entry.refreshAt(System.currentTimeMillis() + delay));
+                } finally {
+                    lookups.remove(key, lookup);
+                    lookup.complete(addresses);
+                }
+            }
+        };
+        try {
+            Refresher.executor.execute(task);
+        } catch (RuntimeException | Error e) {
+            lookups.remove(key, lookup);
+            lookup.complete(entry.addresses);
+        }
+    }
+
+    /*
+     * The threads that refresh cached names.
+     */
+    private static final class Refresher {
+        static final ThreadPoolExecutor executor;
+        static {
+            executor = new ThreadPoolExecutor(4, 4, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread t = InnocuousThread.newSystemThread(
+                            "InetAddress-Refresher", r);
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
     private static NameService createNSProvider(String provider) {
         if (provider == null)
             return null;
@@ -1106,7 +1261,12 @@ public class InetAddress implements java.io.Serializable {
 
         /* If no entry in cache, then do the host lookup */
         if (addresses == null) {
+            InetAddressCacheStats.misses.increment();
             addresses = getAddressesFromNameService(host, reqAddr);
+        } else if (addresses == unknown_array) {
+            InetAddressCacheStats.negativeHits.increment();
+        } else {
+            InetAddressCacheStats.hits.increment();
         }
 
         if (addresses == unknown_array)
@@ -1117,136 +1277,102 @@ public class InetAddress implements java.io.Serializable {
 
     private static InetAddress[] getAddressesFromNameService(String host, InetAddress reqAddr)
             throws UnknownHostException {
-        InetAddress[] addresses = null;
-        boolean success = false;
-        UnknownHostException ex = null;
+        // If the host is being looked up by another thread, wait for its
+        // result. Otherwise this thread looks it up, and other threads
+        // wait for it.
+        String key = host.toLowerCase();
+        Lookup lookup = new Lookup();
+        Lookup inProgress = lookups.putIfAbsent(key, lookup);
+        if (inProgress != null) {
+            InetAddressCacheStats.coalescedLookups.increment();
+            // the addresses are those cached, ordered for the reqAddr of
+            // the thread that looked them up
+            InetAddress[] addresses = inProgress.await();
+            if (reqAddr != null && addresses != unknown_array) {
+                addresses = addresses.clone();
+                moveFirst(addresses, reqAddr);
+            }
+            return addresses;
+        }
 
-        // Check whether the host is in the lookupTable.
-        // 1) If the host isn't in the lookupTable when
-        //    checkLookupTable() is called, checkLookupTable()
-        //    would add the host in the lookupTable and
-        //    return null. So we will do the lookup.
-        // 2) If the host is in the lookupTable when
-        //    checkLookupTable() is called, the current thread
-        //    would be blocked until the host is removed
-        //    from the lookupTable. Then this thread
-        //    should try to look up the addressCache.
-        //     i) if it found the addresses in the
-        //        addressCache, checkLookupTable()  would
-        //        return the addresses.
-        //     ii) if it didn't find the addresses in the
-        //         addressCache for any reason,
-        //         it should add the host in the
-        //         lookupTable and return null so the
-        //         following code would do  a lookup itself.
-        if ((addresses = checkLookupTable(host)) == null) {
+        InetAddress[] addresses = unknown_array;
+        try {
             try {
-                // This is the first thread which looks up the addresses
-                // this host or the cache entry for this host has been
-                // expired so this thread should do the lookup.
-                for (NameService nameService : nameServices) {
-                    try {
-                        /*
-                         * Do not put the call to lookup() inside the
-                         * constructor.  if you do you will still be
-                         * allocating space when the lookup fails.
-                         */
-
-                        addresses = nameService.lookupAllHostAddr(host);
-                        success = true;
-                        break;
-                    } catch (UnknownHostException uhe) {
-                        if (host.equalsIgnoreCase("localhost")) {
-                            InetAddress[] local = new InetAddress[]{impl.loopbackAddress()};
-                            addresses = local;
-                            success = true;
-                            break;
-                        } else {
-                            addresses = unknown_array;
-                            success = false;
-                            ex = uhe;
-                        }
-                    }
-                }
-
-                // More to do?
-                if (reqAddr != null && addresses.length > 1 && !addresses[0].equals(reqAddr)) {
-                    // Find it?
-                    int i = 1;
-                    for (; i < addresses.length; i++) {
-                        if (addresses[i].equals(reqAddr)) {
-                            break;
-                        }
-                    }
-                    // Rotate
-                    if (i < addresses.length) {
-                        InetAddress tmp, tmp2 = reqAddr;
-                        for (int j = 0; j < i; j++) {
-                            tmp = addresses[j];
-                            addresses[j] = tmp2;
-                            tmp2 = tmp;
-                        }
-                        addresses[i] = tmp2;
-                    }
-                }
-                // Cache the address.
-                cacheAddresses(host, addresses, success);
-
-                if (!success && ex != null)
-                    throw ex;
+                addresses = lookupAllHostAddr(host);
+            } catch (UnknownHostException uhe) {
+                cacheAddresses(host, unknown_array, false);
+                throw uhe;
+            }
 
-            } finally {
-                // Delete host from the lookupTable and notify
-                // all threads waiting on the lookupTable monitor.
-                updateLookupTable(host);
+            // More to do?
+            if (reqAddr != null) {
+                moveFirst(addresses, reqAddr);
             }
+            // Cache the address.
+            cacheAddresses(host, addresses, true);
+
+        } finally {
+            // Let the threads waiting for this lookup go on with its
+            // result.
+            lookups.remove(key, lookup);
+            lookup.complete(addresses);
         }
 
         return addresses;
     }
 
-
-    private static InetAddress[] checkLookupTable(String host) {
-        synchronized (lookupTable) {
-            // If the host isn't in the lookupTable, add it in the
-            // lookuptable and return null. The caller should do
-            // the lookup.
-            if (lookupTable.containsKey(host) == false) {
-                lookupTable.put(host, null);
-                return null;
-            }
-
-            // If the host is in the lookupTable, it means that another
-            // thread is trying to look up the addresses of this host.
-            // This thread should wait.
-            while (lookupTable.containsKey(host)) {
-                try {
-                    lookupTable.wait();
-                } catch (InterruptedException e) {
+    /*
+     * Moves reqAddr, if it is one of the addresses, to the front, keeping
+     * the order of the others.
+     */
+    private static void moveFirst(InetAddress[] addresses, InetAddress reqAddr) {
+        if (addresses.length > 1 && !addresses[0].equals(reqAddr)) {
+            // Find it?
+            int i = 1;
+            for (; i < addresses.length; i++) {
+                if (addresses[i].equals(reqAddr)) {
+                    break;
                 }
             }
-        }
-
-        // The other thread has finished looking up the addresses of
-        // the host. This thread should retry to get the addresses
-        // from the addressCache. If it doesn't get the addresses from
-        // the cache, it will try to look up the addresses itself.
-        InetAddress[] addresses = getCachedAddresses(host);
-        if (addresses == null) {
-            synchronized (lookupTable) {
-                lookupTable.put(host, null);
-                return null;
+            // Rotate
+            if (i < addresses.length) {
+                InetAddress tmp, tmp2 = reqAddr;
+                for (int j = 0; j < i; j++) {
+                    tmp = addresses[j];
+                    addresses[j] = tmp2;
+                    tmp2 = tmp;
+                }
+                addresses[i] = tmp2;
             }
         }
-
-        return addresses;
     }
 
-    private static void updateLookupTable(String host) {
-        synchronized (lookupTable) {
-            lookupTable.remove(host);
-            lookupTable.notifyAll();
+    /*
+     * Looks the host up with each name service in turn, until one finds
+     * it.
+     */
+    private static InetAddress[] lookupAllHostAddr(String host)
+            throws UnknownHostException {
+        UnknownHostException ex = null;
+        for (NameService nameService : nameServices) {
+            try {
+                /*
+                 * Do not put the call to lookup() inside the
+                 * constructor.  if you do you will still be
+                 * allocating space when the lookup fails.
+                 */
+
+                return nameService.lookupAllHostAddr(host);
+            } catch (UnknownHostException uhe) {
+                if (host.equalsIgnoreCase("localhost")) {
+                    InetAddress[] local = new InetAddress[]{impl.loopbackAddress()};
+                    return local;
+                } else {
+                    ex = uhe;
+                }
+            }
         }
+        throw ex;
     }
 
     /**
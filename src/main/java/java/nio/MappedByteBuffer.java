@@ -3,6 +3,7 @@ package java.nio;
 import sun.misc.Unsafe;
 
 import java.io.FileDescriptor;
+import java.nio.channels.FileChannel;
 
 
 public abstract class MappedByteBuffer extends ByteBuffer {
@@ -26,13 +27,21 @@ public abstract class MappedByteBuffer extends ByteBuffer {
     }
 
     private long mappingOffset() {
+        return mappingOffset(0);
+    }
+
+    private long mappingOffset(int index) {
         int ps = Bits.pageSize();
-        long offset = address % ps;
+        long offset = (address + index) % ps;
         return (offset >= 0) ? offset : (ps + offset);
     }
 
     private long mappingAddress(long mappingOffset) {
-        return address - mappingOffset;
+        return mappingAddress(mappingOffset, 0);
+    }
+
+    private long mappingAddress(long mappingOffset, int index) {
+        return address + index - mappingOffset;
     }
 
     private long mappingLength(long mappingOffset) {
@@ -84,6 +93,45 @@ public abstract class MappedByteBuffer extends ByteBuffer {
         return this;
     }
 
+    /**
+     * 告诉内核整个缓冲区的访问模式 (madvise)
+     */
+    public final MappedByteBuffer advise(FileChannel.Advice advice) {
+        return advise(0, capacity(), advice);
+    }
+
+    /**
+     * 告诉内核从 index 开始 length 个字节的访问模式 (madvise),只是建议.
+     * 与 load() 不同,不会逐页访问,冷数据的顺序扫描配合 SEQUENTIAL / DONTNEED 不会挤掉热数据.
+     * MapMode.PRIVATE 的映射上 DONTNEED 会丢掉写时复制出来的私有修改,所以在私有映射上什么也不做
+     */
+    public final MappedByteBuffer advise(int index, int length, FileChannel.Advice advice) {
+        checkMapped();
+        if (advice == null) {
+            throw new NullPointerException();
+        }
+        if ((index < 0) || (length < 0) || (index > capacity() - length)) {
+            throw new IndexOutOfBoundsException();
+        }
+        if ((address == 0) || (length == 0)) {
+            return this;
+        }
+        if ((advice == FileChannel.Advice.DONTNEED)
+                && sun.nio.ch.FileChannelImpl.isPrivateMapping(fd)) {
+            return this;
+        }
+        long offset = mappingOffset(index);
+        madvise0(mappingAddress(offset, index), length + offset, advice.ordinal());
+        return this;
+    }
+
+    /**
+     * 异步预读从 index 开始 length 个字节,内核在后台把页读入,方法立即返回
+     */
+    public final MappedByteBuffer prefetch(int index, int length) {
+        return advise(index, length, FileChannel.Advice.WILLNEED);
+    }
+
     /**
      * 将缓冲区的内容落盘
      */
@@ -101,4 +149,6 @@ public abstract class MappedByteBuffer extends ByteBuffer {
     private native void load0(long address, long length);
 
     private native void force0(FileDescriptor fd, long address, long length);
+
+    private native void madvise0(long address, long length, int advice);
 }
@@ -143,6 +143,58 @@ public abstract class FileChannel
 
     }
 
+    /**
+     * 文件访问模式的建议,对应 posix_fadvise / madvise 的 advice 参数
+     */
+    public enum Advice {
+        /**
+         * 默认的访问模式
+         */
+        NORMAL,
+
+        /**
+         * 随机访问,内核可以关闭预读
+         */
+        RANDOM,
+
+        /**
+         * 顺序访问,内核可以加大预读窗口
+         */
+        SEQUENTIAL,
+
+        /**
+         * 近期会访问,内核异步地把数据读入 page cache
+         */
+        WILLNEED,
+
+        /**
+         * 近期不再访问,内核可以把对应的页从 page cache 中丢弃.
+         * 对 MapMode.PRIVATE 的映射不起作用,见 MappedByteBuffer#advise
+         */
+        DONTNEED
+    }
+
+    /**
+     * 告诉内核从 position 开始 size 个字节的访问模式,只是建议,不会改变读写的语义.
+     * size 为 0 表示一直到文件末尾. 不支持的实现直接忽略
+     */
+    public FileChannel advise(long position, long size, Advice advice) throws IOException {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size");
+        if (advice == null)
+            throw new NullPointerException();
+        return this;
+    }
+
+    /**
+     * 异步预读从 position 开始 size 个字节到 page cache 中,方法不等待读完就返回
+     */
+    public FileChannel prefetch(long position, long size) throws IOException {
+        return advise(position, size, Advice.WILLNEED);
+    }
+
     /**
      * 将此通道文件中 从 position 开始,size 的数据映射到内存中去
      */
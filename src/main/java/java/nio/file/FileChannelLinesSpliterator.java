@@ -0,0 +1,219 @@
+package java.nio.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import sun.misc.Cleaner;
+import sun.nio.ch.DirectBuffer;
+
+/**
+ * A Spliterator over the lines of a file for Files.lines, used when the
+ * file is in the default file system and the charset encodes '\n' and '\r'
+ * as single bytes that cannot occur inside another character.
+ *
+ * The Spliterator covers a range of bytes of the file, the last one up to
+ * the end of the file as it is when read, so that lines appended after
+ * the file was opened are not lost. It splits at the first line
+ * terminator after the middle of its range, found by mapping windows of
+ * the file with FileChannel.map and scanning the bytes, so the halves are
+ * balanced whatever the size of the file. Only parallel streams split, so
+ * sequential streams never map the file. Each range is decoded on its own
+ * by a BufferedReader over positional reads of the channel. Once
+ * traversal has started the Spliterator no longer splits.
+ */
+
+final class FileChannelLinesSpliterator implements Spliterator<String> {
+
+    static final Set<String> SUPPORTED_CHARSET_NAMES;
+    static {
+        SUPPORTED_CHARSET_NAMES = new HashSet<>(Arrays.asList(
+            "UTF-8", "US-ASCII", "ISO-8859-1"));
+    }
+
+    // size of the windows mapped when looking for a line terminator
+    private static final int SCAN_WINDOW = 64 * 1024;
+
+    // the fence of the last range, which is read to the end of the file
+    static final long EOF = Long.MAX_VALUE;
+
+    private final FileChannel fc;
+    private final Charset cs;
+    private long index;
+    private final long fence;
+
+    // created when traversal starts
+    private BufferedReader reader;
+
+    FileChannelLinesSpliterator(FileChannel fc, Charset cs, long index, long fence) {
+        this.fc = fc;
+        this.cs = cs;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        String line = readLine();
+        if (line != null) {
+            action.accept(line);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        String line;
+        while ((line = readLine()) != null) {
+            action.accept(line);
+        }
+    }
+
+    private String readLine() {
+        if (reader == null) {
+            reader = getBufferedReader();
+        }
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BufferedReader getBufferedReader() {
+        // reads the range of this Spliterator without moving the position
+        // of the channel that is shared with the other Spliterators
+        ReadableByteChannel rrbc = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                long remaining = fence - index;
+                if (remaining == 0)
+                    return -1;
+
+                int n;
+                if (remaining < dst.remaining()) {
+                    int oldLimit = dst.limit();
+                    dst.limit(dst.position() + (int)remaining);
+                    try {
+                        n = fc.read(dst, index);
+                    } finally {
+                        dst.limit(oldLimit);
+                    }
+                } else {
+                    n = fc.read(dst, index);
+                }
+
+                if (n == -1) {
+                    // the end of the file, or it has been truncated
+                    index = fence;
+                    return -1;
+                }
+                index += n;
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return fc.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                fc.close();
+            }
+        };
+        return new BufferedReader(Channels.newReader(rrbc, cs.newDecoder(), -1));
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        // cannot split after traversal has started
+        if (reader != null)
+            return null;
+
+        long pos;
+        long end;
+        try {
+            // the last range is split at the size of the file now and
+            // keeps reading to its end
+            end = (fence == EOF) ? fc.size() : fence;
+            long mid = index + ((end - index) >>> 1);
+            pos = nextLineStart(mid, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (pos <= index || pos >= end)
+            return null;
+
+        // the prefix becomes the new Spliterator so that encounter order
+        // is kept
+        Spliterator<String> prefix =
+            new FileChannelLinesSpliterator(fc, cs, index, pos);
+        index = pos;
+        return prefix;
+    }
+
+    /**
+     * Returns the position following the first line terminator at or after
+     * the given position, or end if there is none before it. A '\r'
+     * followed by '\n' is a single terminator.
+     */
+    private long nextLineStart(long from, long end) throws IOException {
+        boolean afterCR = false;
+        long pos = from;
+        while (pos < end) {
+            int size = (int)Math.min(SCAN_WINDOW, end - pos);
+            MappedByteBuffer b = fc.map(FileChannel.MapMode.READ_ONLY, pos, size);
+            try {
+                for (int i = 0; i < size; i++) {
+                    byte c = b.get(i);
+                    if (afterCR)
+                        return (c == '\n') ? pos + i + 1 : pos + i;
+                    if (c == '\n')
+                        return pos + i + 1;
+                    if (c == '\r')
+                        afterCR = true;
+                }
+            } finally {
+                unmap(b);
+            }
+            pos += size;
+        }
+        return end;
+    }
+
+    private static void unmap(MappedByteBuffer b) {
+        Cleaner cl = ((DirectBuffer)b).cleaner();
+        if (cl != null)
+            cl.clean();
+    }
+
+    @Override
+    public long estimateSize() {
+        // the number of bytes remaining, the number of lines is not known
+        if (fence != EOF)
+            return fence - index;
+        try {
+            return Math.max(0L, fc.size() - index);
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+}
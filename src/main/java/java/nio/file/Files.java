@@ -2,6 +2,7 @@ package java.nio.file;
 
 import java.io.*;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
@@ -893,6 +894,38 @@ public final class Files {
         return walk(start, Integer.MAX_VALUE, options);
     }
 
+    /**
+     * 并行遍历目录树,返回 parallel 的 Stream,元素与 walk 相同但没有顺序.
+     * 由文件系统的 provider 提供遍历的 Spliterator (AbstractFileSystemProvider.walkSpliterator),
+     * Unix 文件系统上按子目录拆分,由 ForkJoinPool 窃取任务,并用 readdir 的 d_type 避免 stat 每个文件;
+     * provider 没有提供时退化为 walk(...).parallel()
+     */
+    public static Stream<Path> walkParallel(Path start, int maxDepth, FileVisitOption... options)
+            throws IOException {
+        boolean followLinks = false;
+        for (FileVisitOption option : options) {
+            if (option == FileVisitOption.FOLLOW_LINKS) {
+                followLinks = true;
+            } else if (option == null) {
+                throw new NullPointerException();
+            }
+        }
+        FileSystemProvider provider = provider(start);
+        Spliterator<Path> spliterator = null;
+        if (provider instanceof sun.nio.fs.AbstractFileSystemProvider) {
+            spliterator = ((sun.nio.fs.AbstractFileSystemProvider) provider)
+                    .walkSpliterator(start, maxDepth, followLinks);
+        }
+        if (spliterator == null) {
+            return walk(start, maxDepth, options).parallel();
+        }
+        return StreamSupport.stream(spliterator, true);
+    }
+
+    public static Stream<Path> walkParallel(Path start, FileVisitOption... options) throws IOException {
+        return walkParallel(start, Integer.MAX_VALUE, options);
+    }
+
     /**
      * 在一个目下递归寻找目录
      */
@@ -910,7 +943,33 @@ public final class Files {
         }
     }
 
+    /**
+     * 默认文件系统上非空普通文件的 UTF-8、US-ASCII、ISO-8859-1 编码按字节区间拆分:
+     * parallel() 时用 FileChannel.map 映射中点附近的区域找到换行符作为拆分点,每个区间独立解码,
+     * 能按核数均衡拆分大文件;顺序流不会 map,和 BufferedReader 一样读到文件末尾,包括打开之后追加的行.
+     * 其他情况仍使用 BufferedReader.lines()
+     */
     public static Stream<String> lines(Path path, Charset cs) throws IOException {
+        if (path.getFileSystem() == FileSystems.getDefault() &&
+                FileChannelLinesSpliterator.SUPPORTED_CHARSET_NAMES.contains(cs.name()) &&
+                isSplittable(path)) {
+            FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                Spliterator<String> s = new FileChannelLinesSpliterator(fc, cs, 0,
+                        FileChannelLinesSpliterator.EOF);
+                return StreamSupport.stream(s, false).onClose(asUncheckedRunnable(fc));
+            } catch (Error | RuntimeException e) {
+                try {
+                    fc.close();
+                } catch (IOException ex) {
+                    try {
+                        e.addSuppressed(ex);
+                    } catch (Throwable ignore) {
+                    }
+                }
+                throw e;
+            }
+        }
         BufferedReader br = Files.newBufferedReader(path, cs);
         try {
             return br.lines().onClose(asUncheckedRunnable(br));
@@ -927,6 +986,19 @@ public final class Files {
         }
     }
 
+    /**
+     * 只有非空的普通文件才按字节区间拆分,/proc、/sys 中的文件大小为 0,FIFO 等不能 map
+     */
+    private static boolean isSplittable(Path path) {
+        try {
+            BasicFileAttributes attrs = readAttributes(path, BasicFileAttributes.class);
+            return attrs.isRegularFile() && attrs.size() > 0;
+        } catch (IOException | SecurityException e) {
+            // let newBufferedReader report it
+            return false;
+        }
+    }
+
     public static Stream<String> lines(Path path) throws IOException {
         return lines(path, StandardCharsets.UTF_8);
     }
@@ -0,0 +1,37 @@
+package jdk.jfr.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.internal.Type;
+
+@Name(Type.EVENT_NAME_PREFIX + "HttpServerExchange")
+@Label("HTTP Server Exchange")
+@Category("Java Application")
+@Description("An exchange handled by com.sun.net.httpserver, from the request line to the end of the response")
+public final class HttpServerExchangeEvent extends AbstractJDKEvent {
+
+    @Label("Context")
+    public String context;
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Bytes Read")
+    @Description("Number of bytes of the request body read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Bytes Written")
+    @Description("Number of bytes of the response body written")
+    @DataAmount
+    public long bytesWritten;
+}
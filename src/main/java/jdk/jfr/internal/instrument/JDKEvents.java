@@ -37,6 +37,7 @@ import jdk.jfr.events.ExceptionThrownEvent;
 import jdk.jfr.events.FileForceEvent;
 import jdk.jfr.events.FileReadEvent;
 import jdk.jfr.events.FileWriteEvent;
+import jdk.jfr.events.HttpServerExchangeEvent;
 import jdk.jfr.events.SocketReadEvent;
 import jdk.jfr.events.SocketWriteEvent;
 import jdk.jfr.internal.JVM;
@@ -54,6 +55,7 @@ public final class JDKEvents {
         FileWriteEvent.class,
         SocketReadEvent.class,
         SocketWriteEvent.class,
+        HttpServerExchangeEvent.class,
         ExceptionThrownEvent.class,
         ExceptionStatisticsEvent.class,
         ErrorThrownEvent.class,
@@ -0,0 +1,104 @@
+package jdk.net;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import sun.nio.ch.BatchDatagramChannel;
+
+/**
+ * Defines static methods to transfer several datagrams at once on a
+ * {@link java.nio.channels.DatagramChannel}. Where the platform supports
+ * it, each batch is a single {@code recvmmsg} or {@code sendmmsg} system
+ * call; otherwise the datagrams are transferred one at a time.
+ */
+@jdk.Exported
+public final class DatagramChannels {
+
+    private DatagramChannels() {}
+
+    /**
+     * Receives datagrams via the given channel.
+     *
+     * <p> The i-th datagram received is transferred into {@code dsts[i]},
+     * and its source address is stored in {@code srcs[i]}. As with {@link
+     * DatagramChannel#receive(ByteBuffer) receive}, a datagram that does
+     * not fit its buffer is silently truncated. In blocking mode the
+     * method waits for the first datagram only; further datagrams are
+     * received only if they are already queued.
+     *
+     * @param ch the channel
+     * @param dsts the buffers into which datagrams are to be transferred
+     * @param srcs the array to receive the source addresses
+     *
+     * @return The number of datagrams received, possibly zero if the
+     *         channel is in non-blocking mode
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or
+     *         a buffer is read-only
+     *
+     * @throws IOException if an I/O error occurs
+     *
+     * @throws SecurityException if a security manager is set and it does
+     *         not permit datagrams to be accepted from the source
+     */
+    public static int receive(DatagramChannel ch, ByteBuffer[] dsts,
+                              SocketAddress[] srcs) throws IOException
+    {
+        if (ch instanceof BatchDatagramChannel)
+            return ((BatchDatagramChannel)ch).receive(dsts, srcs);
+
+        if (dsts.length != srcs.length)
+            throw new IllegalArgumentException("Array lengths differ");
+        int n = 0;
+        while (n < dsts.length) {
+            SocketAddress sa = ch.receive(dsts[n]);
+            if (sa == null)
+                break;
+            srcs[n++] = sa;
+            if (ch.isBlocking())
+                break;
+        }
+        return n;
+    }
+
+    /**
+     * Sends datagrams via the given channel.
+     *
+     * <p> The i-th datagram is the remaining bytes of {@code srcs[i]} and
+     * is sent to {@code targets[i]}. The method returns when the first
+     * datagram that cannot be sent without blocking is reached, or when
+     * all datagrams have been sent.
+     *
+     * @param ch the channel
+     * @param srcs the buffers containing the datagrams to be sent
+     * @param targets the addresses to which the datagrams are to be sent
+     *
+     * @return The number of datagrams sent
+     *
+     * @throws IllegalArgumentException if the arrays differ in length, or
+     *         the channel is connected to an address other than a target
+     *
+     * @throws IOException if an I/O error occurs
+     *
+     * @throws SecurityException if a security manager is set and it does
+     *         not permit datagrams to be sent to a target
+     */
+    public static int send(DatagramChannel ch, ByteBuffer[] srcs,
+                           SocketAddress[] targets) throws IOException
+    {
+        if (ch instanceof BatchDatagramChannel)
+            return ((BatchDatagramChannel)ch).send(srcs, targets);
+
+        if (srcs.length != targets.length)
+            throw new IllegalArgumentException("Array lengths differ");
+        int n = 0;
+        while (n < srcs.length) {
+            ByteBuffer src = srcs[n];
+            if (ch.send(src, targets[n]) == 0 && src.hasRemaining())
+                break;
+            n++;
+        }
+        return n;
+    }
+}
@@ -26,6 +26,7 @@
 package sun.management;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -43,12 +44,16 @@ public final class ExtendedPlatformComponent {
      * platform MBeanServer, or an empty list if there are no such MXBeans.
      */
     public static List<? extends PlatformManagedObject> getMXBeans() {
+        List<PlatformManagedObject> list = new ArrayList<>(3);
         PlatformManagedObject o = getFlightRecorderBean();
         if (o != null) {
-            return Collections.singletonList(o);
-        } else {
-            return Collections.emptyList();
+            list.add(o);
         }
+        // these do not initialize HttpClient or the InetAddress cache
+        // counters until an attribute is read
+        list.add(new sun.net.www.http.KeepAliveCacheMXBeanImpl());
+        list.add(new sun.net.InetAddressCacheMXBeanImpl());
+        return list;
     }
 
     /**
@@ -61,6 +66,12 @@ public final class ExtendedPlatformComponent {
         if ("jdk.management.jfr.FlightRecorderMXBean".equals(mxbeanInterface.getName())) {
             return (T)getFlightRecorderBean();
         }
+        if ("sun.net.www.http.KeepAliveCacheMXBean".equals(mxbeanInterface.getName())) {
+            return mxbeanInterface.cast(new sun.net.www.http.KeepAliveCacheMXBeanImpl());
+        }
+        if ("sun.net.InetAddressCacheMXBean".equals(mxbeanInterface.getName())) {
+            return mxbeanInterface.cast(new sun.net.InetAddressCacheMXBeanImpl());
+        }
         return null;
     }
 
@@ -0,0 +1,324 @@
+package sun.misc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import sun.security.action.GetPropertyAction;
+
+/**
+ * An index of the packages in the loaders of a URLClassPath, from which
+ * the loaders that may have a resource are known without asking each of
+ * them. It gives the lookup cache of URLClassPath when the VM has none.
+ *
+ * The index of a jar file holds the directories of its entries. Other
+ * loaders, that is directories, remote loaders and jar files with an
+ * INDEX.LIST or a meta-index, may have any resource.
+ *
+ * A URLClassPath is indexed when it has at least THRESHOLD URLs, unless
+ * the sun.misc.URLClassPath.packageIndex property is "false"; "true"
+ * indexes class paths of any length. If the
+ * sun.misc.URLClassPath.packageIndexCache property names a file, the
+ * packages of the jar files are kept there, by path, time of last
+ * modification and length, so that later VMs need not list the entries
+ * of unchanged jar files again. The file ends with the CRC-32 of its
+ * content, and is replaced as a whole by each VM that writes it.
+ */
+final class PackageIndex {
+
+    private static final int THRESHOLD = 32;
+    private static final int CACHE_MAGIC = 0x50494458;    // "PIDX"
+    private static final int CACHE_VERSION = 2;
+    // time between writes of the cache file
+    private static final long CACHE_WRITE_INTERVAL = 5000;  // ms
+
+    private static final int threshold;
+    private static final File cacheFile;
+
+    static {
+        String p = AccessController.doPrivileged(
+            new GetPropertyAction("sun.misc.URLClassPath.packageIndex"));
+        if ("false".equals(p)) {
+            threshold = Integer.MAX_VALUE;
+        } else if ("true".equals(p) || "".equals(p)) {
+            threshold = 0;
+        } else {
+            threshold = THRESHOLD;
+        }
+        p = AccessController.doPrivileged(
+            new GetPropertyAction("sun.misc.URLClassPath.packageIndexCache"));
+        cacheFile = (p == null || p.isEmpty()) ? null : new File(p);
+    }
+
+    private static final int[] EMPTY = new int[0];
+
+    // the loaders that may have any resource
+    private int[] wildcards = EMPTY;
+    // the jar loaders having each package
+    private final HashMap<String,int[]> packages = new HashMap<>();
+    // the loaders for each package, those of the package and the wildcards
+    private final HashMap<String,int[]> lookups = new HashMap<>();
+    // the number of loaders indexed
+    private int size;
+
+    /**
+     * Returns true if a class path of the given number of URLs is indexed.
+     */
+    static boolean isEnabledFor(int urls) {
+        return urls >= threshold;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the next loader, a jar file with the given packages.
+     */
+    void add(String[] pkgs) {
+        int loader = size++;
+        for (String pkg : pkgs) {
+            int[] a = packages.get(pkg);
+            if (a == null) {
+                a = new int[] { loader };
+            } else {
+                a = Arrays.copyOf(a, a.length + 1);
+                a[a.length - 1] = loader;
+            }
+            packages.put(pkg, a);
+        }
+        lookups.clear();
+    }
+
+    /**
+     * Adds the next loader, which may have any resource.
+     */
+    void addWildcard() {
+        int loader = size++;
+        wildcards = Arrays.copyOf(wildcards, wildcards.length + 1);
+        wildcards[wildcards.length - 1] = loader;
+        lookups.clear();
+    }
+
+    /**
+     * Returns the loaders that may have the given resource, in ascending
+     * order.
+     */
+    int[] lookup(String name) {
+        String pkg = packageOf(name);
+        int[] a = lookups.get(pkg);
+        if (a == null) {
+            a = merge(packages.get(pkg), wildcards);
+            lookups.put(pkg, a);
+        }
+        return a;
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        if (a == null) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        int[] m = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            m[k++] = (a[i] < b[j]) ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            m[k++] = a[i++];
+        }
+        while (j < b.length) {
+            m[k++] = b[j++];
+        }
+        return m;
+    }
+
+    private static String packageOf(String name) {
+        int i = name.lastIndexOf('/');
+        return (i < 0) ? "" : name.substring(0, i);
+    }
+
+    /**
+     * Returns the packages of a jar file, the directories of its entries.
+     * A directory entry is also found by its name without the trailing
+     * slash, which is in the parent directory.
+     */
+    static String[] packagesOf(JarFile jar) {
+        Set<String> pkgs = new HashSet<>();
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            pkgs.add(packageOf(name));
+            if (name.endsWith("/")) {
+                pkgs.add(packageOf(name.substring(0, name.length() - 1)));
+            }
+        }
+        return pkgs.toArray(new String[pkgs.size()]);
+    }
+
+    //-------------------------------------------------------------------------
+    // The cache file, shared by all class paths of the VM
+
+    private static final class CacheEntry {
+        final long lastModified;
+        final long length;
+        final String[] packages;
+
+        CacheEntry(long lastModified, long length, String[] packages) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.packages = packages;
+        }
+    }
+
+    private static Map<String,CacheEntry> cache;
+    private static boolean cacheDirty;
+    private static long cacheWritten;
+
+    /**
+     * Returns the packages of the given jar file, listing them if they are
+     * not in the cache file or it is out of date.
+     */
+    static String[] packagesOf(File file, JarFile jar) {
+        if (cacheFile == null) {
+            return packagesOf(jar);
+        }
+        String path = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        synchronized (PackageIndex.class) {
+            CacheEntry e = cache().get(path);
+            if (e != null && e.lastModified == lastModified &&
+                    e.length == length) {
+                return e.packages;
+            }
+        }
+        String[] pkgs = packagesOf(jar);
+        synchronized (PackageIndex.class) {
+            cache.put(path, new CacheEntry(lastModified, length, pkgs));
+            cacheDirty = true;
+        }
+        return pkgs;
+    }
+
+    private static Map<String,CacheEntry> cache() {
+        if (cache == null) {
+            cache = AccessController.doPrivileged(
+                new PrivilegedAction<Map<String,CacheEntry>>() {
+                    public Map<String,CacheEntry> run() {
+                        return readCache();
+                    }
+                });
+        }
+        return cache;
+    }
+
+    private static Map<String,CacheEntry> readCache() {
+        Map<String,CacheEntry> m = new HashMap<>();
+        try (CheckedInputStream cin = new CheckedInputStream(
+                new BufferedInputStream(new FileInputStream(cacheFile)),
+                new CRC32())) {
+            DataInputStream in = new DataInputStream(cin);
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION) {
+                return m;
+            }
+            for (int n = in.readInt(); n > 0; n--) {
+                String path = in.readUTF();
+                long lastModified = in.readLong();
+                long length = in.readLong();
+                String[] pkgs = new String[in.readInt()];
+                for (int i = 0; i < pkgs.length; i++) {
+                    pkgs[i] = in.readUTF();
+                }
+                m.put(path, new CacheEntry(lastModified, length, pkgs));
+            }
+            long crc = cin.getChecksum().getValue();
+            if (in.readLong() != crc || in.read() != -1) {
+                m.clear();      // truncated or corrupt
+            }
+        } catch (IOException | RuntimeException e) {
+            // no cache yet, or an unusable one that will be replaced
+            m.clear();
+        }
+        return m;
+    }
+
+    /**
+     * Writes the cache file if jar files were listed since it was last
+     * written, at most every CACHE_WRITE_INTERVAL.
+     */
+    static void saveCache() {
+        final Map<String,CacheEntry> m;
+        synchronized (PackageIndex.class) {
+            long now = System.currentTimeMillis();
+            if (!cacheDirty || now - cacheWritten < CACHE_WRITE_INTERVAL) {
+                return;
+            }
+            cacheDirty = false;
+            cacheWritten = now;
+            m = new HashMap<>(cache);
+        }
+        AccessController.doPrivileged(new PrivilegedAction<Void>() {
+            public Void run() {
+                File tmp;
+                try {
+                    // unique, so that VMs saving at once do not mix writes
+                    tmp = File.createTempFile(cacheFile.getName(), ".tmp",
+                        cacheFile.getAbsoluteFile().getParentFile());
+                } catch (IOException | SecurityException e) {
+                    return null;
+                }
+                try {
+                    try (CheckedOutputStream cout = new CheckedOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(tmp)),
+                            new CRC32())) {
+                        DataOutputStream out = new DataOutputStream(cout);
+                        out.writeInt(CACHE_MAGIC);
+                        out.writeInt(CACHE_VERSION);
+                        out.writeInt(m.size());
+                        for (Map.Entry<String,CacheEntry> e : m.entrySet()) {
+                            CacheEntry ce = e.getValue();
+                            out.writeUTF(e.getKey());
+                            out.writeLong(ce.lastModified);
+                            out.writeLong(ce.length);
+                            out.writeInt(ce.packages.length);
+                            for (String pkg : ce.packages) {
+                                out.writeUTF(pkg);
+                            }
+                        }
+                        out.writeLong(cout.getChecksum().getValue());
+                    }
+                    if (!tmp.renameTo(cacheFile)) {
+                        cacheFile.delete();
+                        if (!tmp.renameTo(cacheFile)) {
+                            tmp.delete();
+                        }
+                    }
+                } catch (IOException | SecurityException e) {
+                    tmp.delete();
+                }
+                return null;
+            }
+        });
+    }
+}
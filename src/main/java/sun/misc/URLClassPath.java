@@ -26,6 +26,7 @@
 package sun.misc;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarFile;
 import sun.misc.JarIndex;
 import sun.misc.InvalidJarIndexException;
@@ -51,6 +52,7 @@ import java.security.AccessControlException;
 import java.security.CodeSigner;
 import java.security.Permission;
 import java.security.PrivilegedAction;
+import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.security.cert.Certificate;
 import sun.misc.FileURLMapper;
@@ -114,6 +116,13 @@ public class URLClassPath {
     /* Whether this URLClassLoader has been closed yet */
     private boolean closed = false;
 
+    /* The packages of the loaders, if the search path is indexed */
+    private PackageIndex packageIndex;
+
+    /* Whether indexing stopped at a URL that is not local, the loaders
+     * from there on being opened and searched as needed */
+    private boolean packageIndexStopped;
+
     /* The context to be used when loading classes and resources.  If non-null
      * this is the context that was captured during the creation of the
      * URLClassLoader. null implies no additional security restrictions. */
@@ -404,7 +413,7 @@ public class URLClassPath {
      */
     private synchronized int[] getLookupCache(String name) {
         if (lookupCacheURLs == null || !lookupCacheEnabled) {
-            return null;
+            return getPackageIndexCache(name);
         }
 
         int[] cache = getLookupCacheForClassLoader(lookupCacheLoader, name);
@@ -422,6 +431,244 @@ public class URLClassPath {
         return cache;
     }
 
+    /*
+     * Returns the lookup cache from the package index, or null if the
+     * search path is not indexed. The loaders of the local URLs are
+     * opened and indexed at the first lookup, and again at the next
+     * lookup after URLs are added, up to the first URL that is not
+     * local. If indexing stopped there, the last element of the cache is
+     * the complement of the first loader not indexed, from which all the
+     * loaders are searched, see getNextLoader.
+     */
+    private int[] getPackageIndexCache(String name) {
+        if (packageIndex == null) {
+            if (closed || !PackageIndex.isEnabledFor(path.size())) {
+                return null;
+            }
+            packageIndex = new PackageIndex();
+        }
+        if (!packageIndexStopped) {
+            boolean pending;
+            synchronized (urls) {
+                pending = !urls.empty();
+            }
+            if (pending || packageIndex.size() < loaders.size()) {
+                indexLoaders();
+            }
+        }
+        if (closed) {
+            return null;
+        }
+        int[] cache = packageIndex.lookup(name);
+        if (packageIndexStopped) {
+            cache = Arrays.copyOf(cache, cache.length + 1);
+            cache[cache.length - 1] = ~packageIndex.size();
+        }
+        return cache;
+    }
+
+    private static boolean isLocal(URL url) {
+        return "file".equals(url.getProtocol());
+    }
+
+    private static boolean isLocal(Loader loader) {
+        return isLocal((loader instanceof JarLoader)
+                       ? ((JarLoader)loader).csu : loader.getBaseURL());
+    }
+
+    /*
+     * A jar file opened ahead of its loader, and its packages.
+     */
+    private static final class Prefetched {
+        final JarFile jar;
+        final String[] packages;
+
+        Prefetched(JarFile jar, String[] packages) {
+            this.jar = jar;
+            this.packages = packages;
+        }
+    }
+
+    /*
+     * Opens the loaders of the URLs not opened yet, up to the first that
+     * is not local, and adds them to the package index. Remote jar files,
+     * and the class paths they name, are thus only fetched when searched.
+     * The local jar files are first opened, and their entries listed,
+     * several at once; the loaders then open them again at little cost,
+     * the zip files of the VM being shared while open.
+     */
+    private void indexLoaders() {
+        Map<String, Prefetched> opened = new HashMap<String, Prefetched>();
+        try {
+            while (!closed) {
+                URL url;
+                synchronized (urls) {
+                    if (urls.empty()) {
+                        break;
+                    }
+                    url = urls.peek();
+                }
+                String urlNoFragString = URLUtil.urlNoFragString(url);
+                if (!lmap.containsKey(urlNoFragString) && !isLocal(url)) {
+                    packageIndexStopped = true;
+                    break;
+                }
+                if (!lmap.containsKey(urlNoFragString) &&
+                        !opened.containsKey(urlNoFragString)) {
+                    // the URLs on the stack, including those of the
+                    // class paths of the loaders opened so far
+                    prefetch(opened);
+                }
+                synchronized (urls) {
+                    // the stack may have changed since peeked
+                    if (urls.empty() || urls.peek() != url) {
+                        continue;
+                    }
+                    urls.pop();
+                }
+                openLoader(url);
+            }
+            if (closed) {
+                return;
+            }
+            for (int i = packageIndex.size(); i < loaders.size(); i++) {
+                Loader loader = loaders.get(i);
+                if (!isLocal(loader)) {
+                    // opened by a search before the index was made
+                    packageIndexStopped = true;
+                    break;
+                }
+                String[] packages = null;
+                if (loader instanceof JarLoader) {
+                    JarLoader jl = (JarLoader)loader;
+                    if (jl.jar != null && jl.index == null &&
+                            jl.metaIndex == null) {
+                        Prefetched p = opened.get(URLUtil.urlNoFragString(jl.csu));
+                        packages = (p != null && p.packages != null)
+                            ? p.packages : PackageIndex.packagesOf(jl.jar);
+                    }
+                }
+                if (packages != null) {
+                    packageIndex.add(packages);
+                } else {
+                    packageIndex.addWildcard();
+                }
+            }
+            if (DEBUG_LOOKUP_CACHE) {
+                System.out.println("Indexed loaders " + loaders.size());
+            }
+        } finally {
+            for (Prefetched p : opened.values()) {
+                if (p.jar != null) {
+                    try {
+                        p.jar.close();
+                    } catch (IOException e) {
+                    }
+                }
+            }
+        }
+        PackageIndex.saveCache();
+    }
+
+    /*
+     * Opens the local jar files of the URLs on the stack that have no
+     * loader and are not opened yet, up to the first that is not local,
+     * a thread each up to the number of processors.
+     */
+    private void prefetch(Map<String, Prefetched> opened) {
+        final List<URL> todo = new ArrayList<URL>();
+        List<String> keys = new ArrayList<String>();
+        synchronized (urls) {
+            // from the top of the stack, the next URL to be opened
+            for (int i = urls.size() - 1; i >= 0; i--) {
+                URL url = urls.get(i);
+                String urlNoFragString = URLUtil.urlNoFragString(url);
+                if (!lmap.containsKey(urlNoFragString) && !isLocal(url)) {
+                    break;
+                }
+                if (!lmap.containsKey(urlNoFragString) &&
+                        !opened.containsKey(urlNoFragString) &&
+                        !keys.contains(urlNoFragString)) {
+                    todo.add(url);
+                    keys.add(urlNoFragString);
+                }
+            }
+        }
+        final int n = todo.size();
+        final Prefetched[] results = new Prefetched[n];
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable task = new Runnable() {
+            public void run() {
+                int i;
+                while ((i = next.getAndIncrement()) < n) {
+                    results[i] = prefetch(todo.get(i));
+                }
+            }
+        };
+        int threads = Math.min(n, Runtime.getRuntime().availableProcessors());
+        final Thread[] workers = new Thread[Math.max(0, threads - 1)];
+        AccessController.doPrivileged(new PrivilegedAction<Void>() {
+            public Void run() {
+                for (int i = 0; i < workers.length; i++) {
+                    workers[i] = new Thread(task, "URLClassPath-Prefetch-" + i);
+                    workers[i].setDaemon(true);
+                    workers[i].start();
+                }
+                return null;
+            }
+        });
+        task.run();
+        boolean interrupted = false;
+        for (Thread t : workers) {
+            while (t.isAlive()) {
+                try {
+                    t.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        for (int i = 0; i < n; i++) {
+            opened.put(keys.get(i), results[i]);
+        }
+    }
+
+    private static final Prefetched NOT_PREFETCHED = new Prefetched(null, null);
+
+    private Prefetched prefetch(final URL url) {
+        String file = url.getFile();
+        if (!"file".equals(url.getProtocol()) ||
+                file == null || file.endsWith("/")) {
+            return NOT_PREFETCHED;
+        }
+        try {
+            return AccessController.doPrivileged(
+                new PrivilegedExceptionAction<Prefetched>() {
+                    public Prefetched run() throws IOException {
+                        FileURLMapper p = new FileURLMapper(url);
+                        if (!p.exists()) {
+                            return NOT_PREFETCHED;
+                        }
+                        File f = new File(p.getPath());
+                        JarFile jar = new JarFile(f);
+                        try {
+                            return new Prefetched(jar,
+                                PackageIndex.packagesOf(f, jar));
+                        } catch (RuntimeException e) {
+                            jar.close();
+                            throw e;
+                        }
+                    }
+                }, acc);
+        } catch (PrivilegedActionException | RuntimeException e) {
+            // the loader will fail, or list the jar file itself
+            return NOT_PREFETCHED;
+        }
+    }
+
     private boolean ensureLoaderOpened(int index) {
         if (loaders.size() <= index) {
             // Open all Loaders up to, and including, index
@@ -470,7 +717,11 @@ public class URLClassPath {
      * Loader that may contain the resource to lookup and so returns
      * loaders.get(cache[index]).
      *
-     * If cache is non-null, loaders.get(cache[index]) must be present.
+     * If cache is non-null, loaders.get(cache[index]) must be present,
+     * unless cache[index] is negative, as the last element of a cache
+     * from the package index may be: it is then the complement of the
+     * first loader not indexed, and the loaders are returned from there
+     * on as if there were no cache.
      *
      * @param cache lookup cache. If null, search the entire class path
      * @param index index to the given cache array; or to the loaders list.
@@ -480,6 +731,10 @@ public class URLClassPath {
             return null;
         }
         if (cache != null) {
+            int last = cache.length - 1;
+            if (last >= 0 && cache[last] < 0 && index >= last) {
+                return getLoader(~cache[last] + index - last);
+            }
             if (index < cache.length) {
                 Loader loader = loaders.get(cache[index]);
                 if (DEBUG_LOOKUP_CACHE) {
@@ -516,39 +771,7 @@ public class URLClassPath {
                     url = urls.pop();
                 }
             }
-            // Skip this URL if it already has a Loader. (Loader
-            // may be null in the case where URL has not been opened
-            // but is referenced by a JAR index.)
-            String urlNoFragString = URLUtil.urlNoFragString(url);
-            if (lmap.containsKey(urlNoFragString)) {
-                continue;
-            }
-            // Otherwise, create a new Loader for the URL.
-            Loader loader;
-            try {
-                loader = getLoader(url);
-                // If the loader defines a local class path then add the
-                // URLs to the list of URLs to be opened.
-                URL[] urls = loader.getClassPath();
-                if (urls != null) {
-                    push(urls);
-                }
-            } catch (IOException e) {
-                // Silently ignore for now...
-                continue;
-            } catch (SecurityException se) {
-                // Always silently ignore. The context, if there is one, that
-                // this URLClassPath was given during construction will never
-                // have permission to access the URL.
-                if (DEBUG) {
-                    System.err.println("Failed to access " + url + ", " + se );
-                }
-                continue;
-            }
-            // Finally, add the Loader to the search path.
-            validateLookupCache(loaders.size(), urlNoFragString);
-            loaders.add(loader);
-            lmap.put(urlNoFragString, loader);
+            openLoader(url);
         }
         if (DEBUG_LOOKUP_CACHE) {
             System.out.println("NOCACHE: Loading from : " + index );
@@ -556,6 +779,46 @@ public class URLClassPath {
         return loaders.get(index);
     }
 
+    /*
+     * Opens the Loader of a URL popped from the URL stack and adds it to
+     * the search path, unless it has one already or cannot be opened.
+     */
+    private synchronized void openLoader(URL url) {
+        // Skip this URL if it already has a Loader. (Loader
+        // may be null in the case where URL has not been opened
+        // but is referenced by a JAR index.)
+        String urlNoFragString = URLUtil.urlNoFragString(url);
+        if (lmap.containsKey(urlNoFragString)) {
+            return;
+        }
+        // Otherwise, create a new Loader for the URL.
+        Loader loader;
+        try {
+            loader = getLoader(url);
+            // If the loader defines a local class path then add the
+            // URLs to the list of URLs to be opened.
+            URL[] urls = loader.getClassPath();
+            if (urls != null) {
+                push(urls);
+            }
+        } catch (IOException e) {
+            // Silently ignore for now...
+            return;
+        } catch (SecurityException se) {
+            // Always silently ignore. The context, if there is one, that
+            // this URLClassPath was given during construction will never
+            // have permission to access the URL.
+            if (DEBUG) {
+                System.err.println("Failed to access " + url + ", " + se );
+            }
+            return;
+        }
+        // Finally, add the Loader to the search path.
+        validateLookupCache(loaders.size(), urlNoFragString);
+        loaders.add(loader);
+        lmap.put(urlNoFragString, loader);
+    }
+
     /*
      * Returns the Loader for the specified base URL.
      */
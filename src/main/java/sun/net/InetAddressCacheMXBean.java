@@ -0,0 +1,33 @@
+package sun.net;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * The management interface of the cache of name lookups of InetAddress,
+ * registered in the platform MBeanServer.
+ */
+public interface InetAddressCacheMXBean extends PlatformManagedObject {
+
+    String OBJECT_NAME = "sun.net:type=InetAddressCache";
+
+    /* lookups answered with addresses from the cache */
+    long getHits();
+
+    /* lookups answered from the negative cache, with a failure */
+    long getNegativeHits();
+
+    /* lookups that went to the name service */
+    long getMisses();
+
+    /* hits on expired addresses, used while they are looked up again */
+    long getStaleHits();
+
+    /* misses that waited for a lookup of the same name in progress */
+    long getCoalescedLookups();
+
+    /* background lookups of cached names that succeeded */
+    long getRefreshes();
+
+    /* background lookups of cached names that failed */
+    long getRefreshFailures();
+}
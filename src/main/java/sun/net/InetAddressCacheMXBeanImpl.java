@@ -0,0 +1,49 @@
+package sun.net;
+
+import javax.management.ObjectName;
+
+/**
+ * The management interface of the cache of name lookups of InetAddress.
+ * The counters are only initialized when an attribute is first read, not
+ * when the MXBean is registered.
+ */
+public final class InetAddressCacheMXBeanImpl implements InetAddressCacheMXBean {
+
+    public InetAddressCacheMXBeanImpl() { }
+
+    public ObjectName getObjectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (Exception e) {
+            throw new InternalError(e);
+        }
+    }
+
+    public long getHits() {
+        return InetAddressCacheStats.hits.sum();
+    }
+
+    public long getNegativeHits() {
+        return InetAddressCacheStats.negativeHits.sum();
+    }
+
+    public long getMisses() {
+        return InetAddressCacheStats.misses.sum();
+    }
+
+    public long getStaleHits() {
+        return InetAddressCacheStats.staleHits.sum();
+    }
+
+    public long getCoalescedLookups() {
+        return InetAddressCacheStats.coalescedLookups.sum();
+    }
+
+    public long getRefreshes() {
+        return InetAddressCacheStats.refreshes.sum();
+    }
+
+    public long getRefreshFailures() {
+        return InetAddressCacheStats.refreshFailures.sum();
+    }
+}
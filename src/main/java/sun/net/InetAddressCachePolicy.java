@@ -41,6 +41,16 @@ public final class InetAddressCachePolicy {
     private static final String negativeCachePolicyPropFallback =
         "sun.net.inetaddr.negative.ttl";
 
+    // Controls how long an expired successful lookup may still be used
+    private static final String staleCachePolicyProp =
+        "networkaddress.cache.stale.ttl";
+    private static final String staleCachePolicyPropFallback =
+        "sun.net.inetaddr.stale.ttl";
+
+    // Controls when a cached successful lookup is refreshed ahead of time
+    private static final String refreshAheadProp =
+        "sun.net.inetaddr.refreshAhead";
+
     public static final int FOREVER = -1;
     public static final int NEVER = 0;
 
@@ -56,7 +66,7 @@ public final class InetAddressCachePolicy {
      * caching. For security reasons, this caching is made forever when
      * a security manager is set.
      */
-    private static int cachePolicy = FOREVER;
+    private static volatile int cachePolicy = FOREVER;
 
     /* The Java-level namelookup cache policy for negative lookups:
      *
@@ -66,7 +76,24 @@ public final class InetAddressCachePolicy {
      * default value is 0. It can be set to some other value for
      * performance reasons.
      */
-    private static int negativeCachePolicy = NEVER;
+    private static volatile int negativeCachePolicy = NEVER;
+
+    /* The number of seconds an expired successful lookup may still be
+     * used, while it is looked up again in the background. If the name
+     * service fails meanwhile, the expired addresses are used until the
+     * end of this period.
+     *
+     * default value is 0, expired lookups are not used.
+     */
+    private static final int staleCachePolicy;
+
+    /* The percentage of the time to live of a successful lookup after
+     * which a use of it looks it up again in the background, so that
+     * names in use do not expire on the request path.
+     *
+     * default value is 0, lookups are not refreshed ahead.
+     */
+    private static final int refreshAhead;
 
     /*
      * Whether or not the cache policy for successful lookups was set
@@ -154,16 +181,74 @@ public final class InetAddressCachePolicy {
             }
             propertyNegativeSet = true;
         }
+
+        tmp = java.security.AccessController.doPrivileged (
+          new PrivilegedAction<Integer>() {
+            public Integer run() {
+                try {
+                    String tmpString = Security.getProperty(staleCachePolicyProp);
+                    if (tmpString != null) {
+                        return Integer.valueOf(tmpString);
+                    }
+                } catch (NumberFormatException ignored) {
+                    // Ignore
+                }
+
+                try {
+                    String tmpString = System.getProperty(staleCachePolicyPropFallback);
+                    if (tmpString != null) {
+                        return Integer.decode(tmpString);
+                    }
+                } catch (NumberFormatException ignored) {
+                    // Ignore
+                }
+                return null;
+            }
+          });
+        staleCachePolicy = (tmp != null && tmp.intValue() > 0) ? tmp.intValue() : NEVER;
+
+        tmp = java.security.AccessController.doPrivileged (
+          new PrivilegedAction<Integer>() {
+            public Integer run() {
+                try {
+                    String tmpString = System.getProperty(refreshAheadProp);
+                    if (tmpString != null) {
+                        return Integer.decode(tmpString);
+                    }
+                } catch (NumberFormatException ignored) {
+                    // Ignore
+                }
+                return null;
+            }
+          });
+        int percent = (tmp != null) ? tmp.intValue() : 0;
+        refreshAhead = (percent > 0 && percent < 100) ? percent : 0;
     }
 
-    public static synchronized int get() {
+    public static int get() {
         return cachePolicy;
     }
 
-    public static synchronized int getNegative() {
+    public static int getNegative() {
         return negativeCachePolicy;
     }
 
+    /**
+     * Returns the number of seconds an expired successful lookup may
+     * still be used, 0 if it may not.
+     */
+    public static int getStale() {
+        return staleCachePolicy;
+    }
+
+    /**
+     * Returns the percentage of the time to live of a successful lookup
+     * after which it is refreshed in the background, 0 if it is not.
+     */
+    public static int getRefreshAhead() {
+        return refreshAhead;
+    }
+
     /**
      * Sets the cache policy for successful lookups if the user has not
      * already specified a cache policy for it using a
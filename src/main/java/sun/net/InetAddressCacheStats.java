@@ -0,0 +1,18 @@
+package sun.net;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the cache of name lookups of InetAddress.
+ */
+public final class InetAddressCacheStats {
+    private InetAddressCacheStats() { }
+
+    public static final LongAdder hits = new LongAdder();
+    public static final LongAdder negativeHits = new LongAdder();
+    public static final LongAdder misses = new LongAdder();
+    public static final LongAdder staleHits = new LongAdder();
+    public static final LongAdder coalescedLookups = new LongAdder();
+    public static final LongAdder refreshes = new LongAdder();
+    public static final LongAdder refreshFailures = new LongAdder();
+}
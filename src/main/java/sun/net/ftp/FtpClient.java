@@ -26,6 +26,8 @@ package sun.net.ftp;
 
 import java.net.*;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
 import java.util.List;
 import java.util.Iterator;
@@ -384,6 +386,37 @@ public abstract class FtpClient implements java.io.Closeable {
      */
     public abstract InputStream getFileStream(String name) throws FtpProtocolException, IOException;
 
+    /**
+     * Retrieves a file from the ftp server into a local file, over as many
+     * as {@code connections} sessions with the server at once.
+     * <p>Each session retrieves a range of the file, starting at a
+     * {@code REST} offset, in binary mode, and the ranges are written at
+     * their positions in the local file. The other sessions log in as this
+     * client did, and are closed at the end of the transfer.</p>
+     * <p>If the transfer fails, what was retrieved is kept, along with a
+     * record of the ranges that remain, so that retrieving the same remote
+     * file again, unchanged, to the same local file only transfers what
+     * remains.</p>
+     * <p>This implementation retrieves the file over this session with
+     * {@link #getFile(String, OutputStream)}.</p>
+     *
+     * @param name the name of the remote file
+     * @param local the local file, created or replaced
+     * @param connections the number of sessions to use at most
+     * @return this FtpClient
+     * @throws IllegalArgumentException if {@code connections} is not positive
+     * @throws IOException if the transfer fails
+     * @throws FtpProtocolException if a command was refused by the server
+     */
+    public FtpClient getFile(String name, Path local, int connections) throws FtpProtocolException, IOException {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("connections must be positive");
+        }
+        try (OutputStream out = Files.newOutputStream(local)) {
+            return getFile(name, out);
+        }
+    }
+
     /**
      * Transfers a file from the client to the server (aka a <I>put</I>)
      * by sending the STOR command, and returns the {@code OutputStream}
@@ -26,12 +26,14 @@ package sun.net.ftp.impl;
 
 import java.net.*;
 import java.io.*;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Iterator;
@@ -67,6 +69,10 @@ public class FtpClient extends sun.net.ftp.FtpClient {
     private InetSocketAddress serverAddr;
     private boolean replyPending = false;
     private boolean loggedIn = false;
+    // the credentials of the login, for the sessions of SegmentedDownload
+    private String user;
+    private char[] password;
+    private String account;
     private boolean useCrypto = false;
     private SSLSocketFactory sslFact;
     private Socket oldSocket;
@@ -1071,6 +1077,7 @@ public class FtpClient extends sun.net.ftp.FtpClient {
         }
         welcomeMsg = sb.toString();
         loggedIn = true;
+        setCredentials(user, password, null);
         return this;
     }
 
@@ -1117,9 +1124,19 @@ public class FtpClient extends sun.net.ftp.FtpClient {
         }
         welcomeMsg = sb.toString();
         loggedIn = true;
+        setCredentials(user, password, account);
         return this;
     }
 
+    private void setCredentials(String user, char[] password, String account) {
+        if (this.password != null) {
+            Arrays.fill(this.password, ' ');
+        }
+        this.user = user;
+        this.password = (password == null) ? null : password.clone();
+        this.account = account;
+    }
+
     /**
      * Logs out the current user. This is in effect terminates the current
      * session and the connection to the server will be closed.
@@ -1133,9 +1150,61 @@ public class FtpClient extends sun.net.ftp.FtpClient {
             }
             loggedIn = false;
         }
+        setCredentials(null, null, null);
         disconnect();
     }
 
+    /**
+     * Opens another session with the same server, logged in as this one,
+     * with the same settings, in binary mode and in the given working
+     * directory if not null.
+     */
+    FtpClient newSession(String workingDirectory) throws sun.net.ftp.FtpProtocolException, IOException {
+        if (!loggedIn) {
+            throw new sun.net.ftp.FtpProtocolException("Not logged in", FtpReplyCode.BAD_SEQUENCE);
+        }
+        FtpClient s = new FtpClient();
+        s.proxy = proxy;
+        s.connectTimeout = connectTimeout;
+        s.readTimeout = readTimeout;
+        s.sslFact = sslFact;
+        boolean done = false;
+        try {
+            s.connect(serverAddr, connectTimeout);
+            if (useCrypto) {
+                s.startSecureSession();
+            }
+            if (account != null) {
+                s.login(user, password, account);
+            } else {
+                s.login(user, password);
+            }
+            if (workingDirectory != null) {
+                s.changeDirectory(workingDirectory);
+            }
+            s.setType(TransferType.BINARY);
+            done = true;
+            return s;
+        } finally {
+            if (!done) {
+                s.abortSession();
+            }
+        }
+    }
+
+    /**
+     * Closes the connection without waiting for the server, e.g. in the
+     * middle of a transfer.
+     */
+    void abortSession() {
+        loggedIn = false;
+        setCredentials(null, null, null);
+        try {
+            disconnect();
+        } catch (IOException e) {
+        }
+    }
+
     /**
      * Checks whether the client is logged in to the server or not.
      *
@@ -1298,6 +1367,31 @@ public class FtpClient extends sun.net.ftp.FtpClient {
         return createInputStream(s.getInputStream());
     }
 
+    /**
+     * Retrieves a file from the ftp server into a local file, over as many
+     * as <code>connections</code> sessions at once, each retrieving a range
+     * of the file from a REST offset. A failed transfer can be resumed.
+     *
+     * @param name the name of the remote file
+     * @param local the local file
+     * @param connections the number of sessions to use at most
+     * @throws IOException if the transfer fails.
+     * @see SegmentedDownload
+     */
+    @Override
+    public sun.net.ftp.FtpClient getFile(String name, Path local, int connections) throws sun.net.ftp.FtpProtocolException, IOException {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("connections must be positive");
+        }
+        if (!loggedIn) {
+            throw new sun.net.ftp.FtpProtocolException("Not logged in", FtpReplyCode.BAD_SEQUENCE);
+        }
+        restartOffset = 0;
+        lastTransSize = new SegmentedDownload(this, name, local, connections).run();
+        lastFileName = name;
+        return this;
+    }
+
     /**
      * Transfers a file from the client to the server (aka a <I>put</I>)
      * by sending the STOR or STOU command, depending on the
@@ -0,0 +1,375 @@
+package sun.net.ftp.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import sun.net.ftp.FtpProtocolException;
+
+/**
+ * Retrieves a file over several sessions with an FTP server at once. Each
+ * session retrieves a range of the file, starting with REST at the first
+ * byte of the range and aborted once it has read the range, and writes it
+ * at its position in the local file.
+ *
+ * The ranges that remain are recorded next to the local file, in a file
+ * of the same name with the RESUME_SUFFIX, every CHECKPOINT_INTERVAL and
+ * when the transfer fails. A later download of the remote file, of the
+ * same size and modification time, to the same local file only retrieves
+ * the ranges that remain. Nothing is recorded when the server reports no
+ * size or modification time. The record is deleted once the file is complete.
+ *
+ * A range whose session fails is taken over by another session. Sessions
+ * refused by the server, e.g. over a limit of connections per user, are
+ * opened again in another round, as long as a round makes progress.
+ */
+final class SegmentedDownload {
+
+    static final String RESUME_SUFFIX = ".ftp-resume";
+
+    // the smallest range worth a session of its own
+    private static final long MIN_SEGMENT = 256 * 1024;
+    private static final long CHECKPOINT_INTERVAL = 1000;     // ms
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // a size unknown to the server
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final FtpClient client;
+    private final String name;
+    private final Path local;
+    private final Path resume;
+    private final int connections;
+
+    private long size;
+    private long modified;
+    private String workingDirectory;
+    private FileChannel channel;
+
+    private final ConcurrentLinkedQueue<Segment> pending =
+        new ConcurrentLinkedQueue<>();
+    private final List<Segment> segments = new ArrayList<>();
+    private volatile boolean cancelled;
+    private volatile Exception failure;
+
+    /*
+     * A range of the file; pos is its first byte not yet written. eof is
+     * set once the data of a file of unknown size has been read to its end.
+     */
+    private static final class Segment {
+        final long end;
+        volatile long pos;
+        volatile boolean eof;
+
+        Segment(long pos, long end) {
+            this.pos = pos;
+            this.end = end;
+        }
+    }
+
+    SegmentedDownload(FtpClient client, String name, Path local, int connections) {
+        this.client = client;
+        this.name = name;
+        this.local = local;
+        this.resume = local.resolveSibling(local.getFileName() + RESUME_SUFFIX);
+        this.connections = connections;
+    }
+
+    /**
+     * Retrieves the file, and returns its size.
+     */
+    long run() throws FtpProtocolException, IOException {
+        try {
+            size = client.getSize(name);
+        } catch (FtpProtocolException e) {
+            size = -1;      // SIZE not implemented, RETR will tell
+        }
+        if (size < 0) {
+            size = UNKNOWN;
+            modified = -1;
+        } else {
+            try {
+                Date d = client.getLastModified(name);
+                modified = (d == null) ? -1 : d.getTime();
+            } catch (FtpProtocolException e) {
+                modified = -1;
+            }
+        }
+        try {
+            workingDirectory = client.getWorkingDirectory();
+        } catch (FtpProtocolException e) {
+            workingDirectory = null;
+        }
+
+        boolean resumed = load();
+        if (!resumed) {
+            split();
+        }
+        for (Segment s : segments) {
+            if (s.pos < s.end) {
+                pending.add(s);
+            }
+        }
+
+        channel = resumed
+            ? FileChannel.open(local, StandardOpenOption.WRITE)
+            : FileChannel.open(local, StandardOpenOption.WRITE,
+                               StandardOpenOption.CREATE,
+                               StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            long remaining = remaining();
+            while (remaining > 0) {
+                runRound();
+                long r = remaining();
+                if (pending.isEmpty() || r == remaining) {
+                    break;
+                }
+                remaining = r;
+            }
+            // a range may also be missing if its session died of an Error
+            boolean complete = (size == UNKNOWN)
+                ? segments.get(0).eof : remaining() == 0;
+            if (!pending.isEmpty() || !complete) {
+                checkpoint();
+                Exception e = failure;
+                if (e instanceof FtpProtocolException) {
+                    throw (FtpProtocolException) e;
+                }
+                if (e instanceof IOException) {
+                    throw (IOException) e;
+                }
+                if (e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                }
+                throw new IOException("Transfer of " + name + " incomplete", e);
+            }
+            if (size == UNKNOWN) {
+                size = segments.get(0).pos;
+            }
+            channel.truncate(size);
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+        Files.deleteIfExists(resume);
+        return size;
+    }
+
+    /*
+     * Splits the file into one range per session, none smaller than
+     * MIN_SEGMENT unless the file is.
+     */
+    private void split() {
+        if (size == UNKNOWN) {
+            segments.add(new Segment(0, UNKNOWN));
+            return;
+        }
+        long n = Math.max(1, Math.min(connections, size / MIN_SEGMENT));
+        long len = size / n;
+        for (long i = 0; i < n; i++) {
+            long start = i * len;
+            segments.add(new Segment(start, (i == n - 1) ? size : start + len));
+        }
+    }
+
+    private long remaining() {
+        long r = 0;
+        for (Segment s : segments) {
+            r += s.end - s.pos;
+        }
+        return r;
+    }
+
+    /*
+     * Runs a session per pending range, at most connections, until there
+     * are no more ranges or all sessions have failed.
+     */
+    private void runRound() throws IOException {
+        int n = Math.min(connections, pending.size());
+        Thread[] workers = new Thread[n];
+        for (int i = 0; i < n; i++) {
+            workers[i] = new Thread(new Runnable() {
+                public void run() {
+                    Segment s;
+                    while (!cancelled && (s = pending.poll()) != null) {
+                        try {
+                            transfer(s);
+                        } catch (IOException | FtpProtocolException |
+                                 RuntimeException e) {
+                            if (failure == null) {
+                                failure = e;
+                            }
+                            pending.add(s);
+                            return;
+                        }
+                    }
+                }
+            }, "FTP download " + name + " #" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        long nextCheckpoint = System.currentTimeMillis() + CHECKPOINT_INTERVAL;
+        try {
+            for (Thread t : workers) {
+                while (t.isAlive()) {
+                    t.join(CHECKPOINT_INTERVAL);
+                    long now = System.currentTimeMillis();
+                    if (now >= nextCheckpoint) {
+                        checkpoint();
+                        nextCheckpoint = now + CHECKPOINT_INTERVAL;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            checkpoint();
+            Thread.currentThread().interrupt();
+            InterruptedIOException iioe =
+                new InterruptedIOException("Transfer of " + name + " interrupted");
+            iioe.initCause(e);
+            throw iioe;
+        }
+    }
+
+    /*
+     * Retrieves a range over a new session.
+     */
+    private void transfer(Segment s) throws FtpProtocolException, IOException {
+        FtpClient session = client.newSession(workingDirectory);
+        boolean completed = false;
+        try {
+            session.setRestartOffset(s.pos);
+            InputStream in = session.getFileStream(name);
+            if (in == null) {
+                throw new FtpProtocolException("RETR " + name + ": no data connection");
+            }
+            try {
+                byte[] buf = new byte[BUFFER_SIZE];
+                ByteBuffer bb = ByteBuffer.wrap(buf);
+                while (s.pos < s.end) {
+                    if (cancelled) {
+                        throw new InterruptedIOException("Transfer of " + name + " cancelled");
+                    }
+                    int n = in.read(buf, 0, (int) Math.min(buf.length, s.end - s.pos));
+                    if (n < 0) {
+                        if (s.end == UNKNOWN) {
+                            s.eof = true;
+                            break;
+                        }
+                        throw new IOException("Premature end of data: " + name);
+                    }
+                    bb.clear().limit(n);
+                    long p = s.pos;
+                    while (bb.hasRemaining()) {
+                        p += channel.write(bb, p);
+                    }
+                    s.pos = p;
+                }
+            } finally {
+                in.close();
+            }
+            if (s.end >= size) {
+                // the data was read to its end, the server confirms it
+                session.completePending();
+                completed = true;
+            }
+        } finally {
+            if (completed) {
+                session.close();
+            } else {
+                session.abortSession();
+            }
+        }
+    }
+
+    /*
+     * Records the ranges that remain, once the data written is on disk.
+     * The positions are read before the data is forced, so that none
+     * recorded is past the data on disk. Nothing is recorded for a file
+     * whose modification time is unknown, as it could not be told from
+     * another file of the same size.
+     */
+    private void checkpoint() throws IOException {
+        if (size == UNKNOWN || modified == -1 || !channel.isOpen()) {
+            return;
+        }
+        long[] pos = new long[segments.size()];
+        for (int i = 0; i < pos.length; i++) {
+            pos[i] = segments.get(i).pos;
+        }
+        channel.force(false);
+        Properties p = new Properties();
+        p.setProperty("remote", name);
+        p.setProperty("size", Long.toString(size));
+        p.setProperty("modified", Long.toString(modified));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pos.length; i++) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(pos[i]).append('-').append(segments.get(i).end);
+        }
+        p.setProperty("segments", sb.toString());
+
+        Path tmp = resume.resolveSibling(resume.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            p.store(out, null);
+        }
+        try {
+            Files.move(tmp, resume, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, resume, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /*
+     * Reads the ranges that remain of an earlier transfer of the same
+     * remote file, if any. Returns false if there is none, or the
+     * modification time of the remote file is unknown.
+     */
+    private boolean load() throws IOException {
+        if (size == UNKNOWN || modified == -1 || !Files.exists(local)) {
+            return false;
+        }
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(resume)) {
+            p.load(in);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        List<Segment> list = new ArrayList<>();
+        try {
+            if (!name.equals(p.getProperty("remote")) ||
+                    Long.parseLong(p.getProperty("size")) != size ||
+                    Long.parseLong(p.getProperty("modified")) != modified) {
+                return false;
+            }
+            for (String r : p.getProperty("segments").split(",")) {
+                int dash = r.indexOf('-');
+                long pos = Long.parseLong(r.substring(0, dash));
+                long end = Long.parseLong(r.substring(dash + 1));
+                if (pos < 0 || pos > end || end > size) {
+                    return false;
+                }
+                list.add(new Segment(pos, end));
+            }
+        } catch (RuntimeException e) {
+            return false;   // not a record of ours
+        }
+        segments.addAll(list);
+        return true;
+    }
+}
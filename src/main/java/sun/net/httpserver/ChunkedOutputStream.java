@@ -123,6 +123,7 @@ class ChunkedOutputStream extends FilterOutputStream
         buf[startByte + (i++) + count] = '\r';
         buf[startByte + (i++) + count] = '\n';
         out.write (buf, startByte, i+count);
+        t.bytesWritten += count;
         count = 0;
         pos = OFFSET;
     }
@@ -44,6 +44,10 @@ class ContextList {
         return list.size();
     }
 
+    synchronized List<HttpContextImpl> contexts () {
+        return new ArrayList<HttpContextImpl> (list);
+    }
+
    /* initially contexts are located only by protocol:path.
     * Context with longest prefix matches (currently case-sensitive)
     */
@@ -0,0 +1,123 @@
+package sun.net.httpserver;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters kept for a context when sun.net.httpserver.metrics is set.
+ * An exchange is counted once its response has been sent. The getters
+ * read the live counters, and are the items of the CompositeData that
+ * HttpServerMXBean returns for each context.
+ */
+public final class ContextMetrics {
+
+    /* upper bounds of the latency histogram buckets, in milliseconds.
+     * The last bucket, for longer exchanges, has no bound
+     */
+    private static final long[] BUCKET_BOUNDS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000
+    };
+
+    private final String protocol;
+    private final String path;
+
+    private final LongAdder requests = new LongAdder();
+    /* responses by status class, 1xx to 5xx */
+    private final LongAdder[] statusClasses = new LongAdder[5];
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLongArray histogram =
+        new AtomicLongArray (BUCKET_BOUNDS.length + 1);
+
+    ContextMetrics (String protocol, String path) {
+        this.protocol = protocol;
+        this.path = path;
+        for (int i=0; i<statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    void record (int rcode, long nanos, long in, long out) {
+        requests.increment();
+        int c = rcode / 100;
+        if (c >= 1 && c <= 5) {
+            statusClasses[c-1].increment();
+        }
+        bytesRead.add (in);
+        bytesWritten.add (out);
+        long millis = nanos / 1000000;
+        totalTime.add (millis);
+        int i = 0;
+        while (i < BUCKET_BOUNDS.length && millis >= BUCKET_BOUNDS[i]) {
+            i++;
+        }
+        histogram.incrementAndGet (i);
+    }
+
+    public String getProtocol () {
+        return protocol;
+    }
+
+    public String getPath () {
+        return path;
+    }
+
+    public long getRequests () {
+        return requests.sum();
+    }
+
+    public long getInformationalResponses () {
+        return statusClasses[0].sum();
+    }
+
+    public long getSuccessfulResponses () {
+        return statusClasses[1].sum();
+    }
+
+    public long getRedirectionResponses () {
+        return statusClasses[2].sum();
+    }
+
+    public long getClientErrorResponses () {
+        return statusClasses[3].sum();
+    }
+
+    public long getServerErrorResponses () {
+        return statusClasses[4].sum();
+    }
+
+    /* bytes of request bodies read, and of response bodies written */
+    public long getBytesRead () {
+        return bytesRead.sum();
+    }
+
+    public long getBytesWritten () {
+        return bytesWritten.sum();
+    }
+
+    public long getTotalTimeMillis () {
+        return totalTime.sum();
+    }
+
+    /**
+     * Returns the exclusive upper bounds, in milliseconds, of all but the
+     * last bucket of the latency histogram.
+     */
+    public long[] getLatencyBucketBounds () {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Returns the number of exchanges in each bucket of the latency
+     * histogram, from the time the request line was read to the time
+     * the response was sent.
+     */
+    public long[] getLatencyHistogram () {
+        long[] h = new long [histogram.length()];
+        for (int i=0; i<h.length; i++) {
+            h[i] = histogram.get (i);
+        }
+        return h;
+    }
+}
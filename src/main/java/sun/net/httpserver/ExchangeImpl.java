@@ -27,6 +27,9 @@ package sun.net.httpserver;
 
 import java.io.*;
 import java.net.*;
+import java.nio.channels.FileChannel;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.events.HttpServerExchangeEvent;
 import javax.net.ssl.*;
 import java.util.*;
 import java.util.logging.Logger;
@@ -46,7 +49,19 @@ class ExchangeImpl {
     /* raw streams which access the socket directly */
     InputStream ris;
     OutputStream ros;
+    /* the thread running the handler, while it runs */
     Thread thread;
+    /* response sent by the thread running the handler, which
+     * finishes the exchange itself when the handler returns
+     */
+    boolean finished;
+
+    /* bytes of the request body read and of the response body written */
+    long bytesRead, bytesWritten;
+    /* when the request line was read, if metrics are enabled */
+    long startTime;
+    /* null unless a flight recording may be running */
+    HttpServerExchangeEvent event;
     /* close the underlying connection when this exchange finished */
     boolean close;
     boolean closed;
@@ -95,6 +110,38 @@ class ExchangeImpl {
         this.ris = req.inputStream();
         server = getServerImpl();
         server.startExchange();
+        if (getHttpContext().getMetrics() != null) {
+            startTime = System.nanoTime();
+        }
+        if (FlightRecorder.isInitialized()) {
+            event = new HttpServerExchangeEvent();
+            event.begin();
+        }
+    }
+
+    /* records the exchange in the metrics of its context, and commits
+     * its event, once the response has been sent
+     */
+    void recordCompletion () {
+        ContextMetrics m = getHttpContext().getMetrics();
+        if (m != null) {
+            m.record (rcode, System.nanoTime() - startTime,
+                      bytesRead, bytesWritten);
+        }
+        HttpServerExchangeEvent e = event;
+        if (e != null) {
+            event = null;
+            e.end();
+            if (e.shouldCommit()) {
+                e.context = getHttpContext().getPath();
+                e.method = method;
+                e.uri = uri.toString();
+                e.status = rcode;
+                e.bytesRead = bytesRead;
+                e.bytesWritten = bytesWritten;
+                e.commit();
+            }
+        }
     }
 
     public Headers getRequestHeaders () {
@@ -188,6 +235,32 @@ class ExchangeImpl {
     }
 
 
+    /* sends part of a file as the response body directly to the raw
+     * stream, if the response has a fixed length and no filter has wrapped
+     * the response stream. Returns false if the caller must copy the file
+     * to the response stream instead
+     */
+    boolean transferResponseBody (FileChannel src, long position, long count)
+        throws IOException
+    {
+        if (!sentHeaders) {
+            throw new IOException ("response headers not sent yet");
+        }
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException ("negative position or count");
+        }
+        PlaceholderOutputStream o = getPlaceholderResponseBody();
+        if (uos != o || !(o.wrapped instanceof FixedLengthOutputStream)) {
+            return false;
+        }
+        if (!(ros instanceof Request.WriteStream)
+                && !(ros instanceof SSLStreams.OutputStream)) {
+            return false;
+        }
+        ((FixedLengthOutputStream)o.wrapped).transferFrom (src, position, count);
+        return true;
+    }
+
     /* returns the place holder stream, which is the stream
      * returned from the 1st call to getResponseBody()
      * The "real" ouputstream is then placed inside this
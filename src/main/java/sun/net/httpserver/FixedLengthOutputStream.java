@@ -27,6 +27,7 @@ package sun.net.httpserver;
 
 import java.io.*;
 import java.net.*;
+import java.nio.channels.FileChannel;
 import com.sun.net.httpserver.*;
 import com.sun.net.httpserver.spi.*;
 
@@ -61,6 +62,7 @@ class FixedLengthOutputStream extends FilterOutputStream
         }
         out.write(b);
         remaining --;
+        t.bytesWritten ++;
     }
 
     public void write (byte[]b, int off, int len) throws IOException {
@@ -77,6 +79,37 @@ class FixedLengthOutputStream extends FilterOutputStream
         }
         out.write(b, off, len);
         remaining -= len;
+        t.bytesWritten += len;
+    }
+
+    /* writes count bytes of the file, from the given position, to the
+     * underlying stream without copying them through this stream
+     */
+    void transferFrom (FileChannel src, long position, long count)
+        throws IOException
+    {
+        if (closed) {
+            throw new IOException ("stream closed");
+        }
+        eof = (remaining == 0);
+        if (eof && count > 0) {
+            throw new StreamClosedException();
+        }
+        if (count > remaining) {
+            // stream is still open, caller can retry
+            throw new IOException ("too many bytes to write to stream");
+        }
+        long n;
+        if (out instanceof Request.WriteStream) {
+            n = ((Request.WriteStream)out).transferFrom (src, position, count);
+        } else {
+            n = ((SSLStreams.OutputStream)out).transferFrom (src, position, count);
+        }
+        remaining -= n;
+        t.bytesWritten += n;
+        if (n < count) {
+            throw new IOException ("unexpected end of file");
+        }
     }
 
     public void close () throws IOException {
@@ -53,6 +53,7 @@ class HttpConnection {
 
     SocketChannel chan;
     SelectionKey selectionKey;
+    ServerImpl.Dispatcher dispatcher; // the dispatcher that owns the channel
     String protocol;
     long time;
     volatile long creationTime; // time this connection was created
@@ -51,6 +51,8 @@ class HttpContextImpl extends HttpContext {
     private LinkedList<Filter> ufilters = new LinkedList<Filter>();
     private Authenticator authenticator;
     private AuthFilter authfilter;
+    /* null unless metrics are enabled */
+    private final ContextMetrics metrics;
 
     /**
      * constructor is package private.
@@ -68,6 +70,12 @@ class HttpContextImpl extends HttpContext {
         this.server = server;
         authfilter = new AuthFilter(null);
         sfilters.add (authfilter);
+        metrics = ServerConfig.metricsEnabled()
+            ? new ContextMetrics (this.protocol, path) : null;
+    }
+
+    ContextMetrics getMetrics () {
+        return metrics;
     }
 
     /**
@@ -86,6 +86,14 @@ class HttpExchangeImpl extends HttpExchange {
         impl.sendResponseHeaders (rCode, contentLen);
     }
 
+    public void sendResponseBody (FileChannel src, long position, long count)
+    throws IOException
+    {
+        if (!impl.transferResponseBody (src, position, count)) {
+            super.sendResponseBody (src, position, count);
+        }
+    }
+
     public InetSocketAddress getRemoteAddress (){
         return impl.getRemoteAddress();
     }
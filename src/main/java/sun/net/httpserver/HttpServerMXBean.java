@@ -0,0 +1,27 @@
+package sun.net.httpserver;
+
+import java.util.List;
+
+/**
+ * The management interface of an HTTP or HTTPS server, registered with
+ * the platform MBeanServer while the server runs if the system property
+ * sun.net.httpserver.metrics is set. Its ObjectName is
+ * <code>com.sun.net.httpserver:type=HttpServer,name="address"</code>.
+ */
+public interface HttpServerMXBean {
+
+    /* the address the server is bound to */
+    String getAddress ();
+
+    String getProtocol ();
+
+    int getOpenConnections ();
+
+    /* connections waiting for a request */
+    int getIdleConnections ();
+
+    /* exchanges whose response has not been sent yet */
+    int getActiveExchanges ();
+
+    List<ContextMetrics> getContexts ();
+}
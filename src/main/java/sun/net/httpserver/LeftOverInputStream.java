@@ -88,6 +88,7 @@ abstract class LeftOverInputStream extends FilterInputStream {
         if (c == -1 || c == 0) {
             return c;
         } else {
+            t.bytesRead ++;
             return one[0] & 0xFF;
         }
     }
@@ -96,7 +97,11 @@ abstract class LeftOverInputStream extends FilterInputStream {
         if (closed) {
             throw new IOException ("Stream is closed");
         }
-        return readImpl (b, off, len);
+        int n = readImpl (b, off, len);
+        if (n > 0) {
+            t.bytesRead += n;
+        }
+        return n;
     }
 
     /**
@@ -115,6 +120,7 @@ abstract class LeftOverInputStream extends FilterInputStream {
                 return true;
             } else {
                 l = l - len;
+                t.bytesRead += len;
             }
         }
         return false;
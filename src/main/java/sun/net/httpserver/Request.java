@@ -395,6 +395,25 @@ class Request {
             }
         }
 
+        /* sends count bytes of the file, from the given position, with
+         * FileChannel.transferTo. Returns the number of bytes sent, which
+         * is less than count if the end of the file is reached
+         */
+        public synchronized long transferFrom (
+            FileChannel src, long position, long count
+        ) throws IOException {
+            if (closed)
+                throw new IOException ("stream is closed");
+            long done = 0;
+            while (done < count) {
+                long n = src.transferTo (position + done, count - done, channel);
+                if (n <= 0)
+                    break;
+                done += n;
+            }
+            return done;
+        }
+
         public void close () throws IOException {
             if (closed)
                 return;
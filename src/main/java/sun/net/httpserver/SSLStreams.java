@@ -640,6 +640,40 @@ class SSLStreams {
             }
         }
 
+        /* sends count bytes of the file, from the given position, reading
+         * them straight into this stream's application buffer rather than
+         * through an array. Returns the number of bytes sent, which is less
+         * than count if the end of the file is reached
+         */
+        long transferFrom(FileChannel src, long position, long count)
+            throws IOException
+        {
+            if (closed) {
+                throw new IOException ("output stream is closed");
+            }
+            long done = 0;
+            while (done < count) {
+                buf.clear();
+                if (count - done < buf.capacity()) {
+                    buf.limit ((int)(count - done));
+                }
+                int n = src.read (buf, position + done);
+                if (n <= 0) {
+                    break;
+                }
+                buf.flip();
+                WrapperResult r = sendData (buf);
+                done += n;
+                if (r.result.getStatus() == Status.CLOSED) {
+                    closed = true;
+                    if (done < count) {
+                        throw new IOException ("output stream is closed");
+                    }
+                }
+            }
+            return done;
+        }
+
         public void flush() throws IOException {
             /* no-op */
         }
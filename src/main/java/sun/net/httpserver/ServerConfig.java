@@ -46,6 +46,7 @@ class ServerConfig {
     private static final long DEFAULT_TIMER_MILLIS = 1000;
     private static final int  DEFAULT_MAX_REQ_HEADERS = 200;
     private static final long DEFAULT_DRAIN_AMOUNT = 64 * 1024;
+    private static final int  DEFAULT_DISPATCHER_THREADS = 1;
 
     private static int clockTick;
     private static long idleInterval;
@@ -59,6 +60,10 @@ class ServerConfig {
     private static long maxRspTime;
     private static long timerMillis;
     private static boolean debug;
+    // the number of dispatcher threads, each with its own selector
+    private static int dispatcherThreads;
+    // whether per-context metrics are kept and the MXBean registered
+    private static boolean metrics;
 
     // the value of the TCP_NODELAY socket-level option
     private static boolean noDelay;
@@ -98,6 +103,15 @@ class ServerConfig {
 
                     noDelay = Boolean.getBoolean("sun.net.httpserver.nodelay");
 
+                    dispatcherThreads = Integer.getInteger(
+                            "sun.net.httpserver.dispatcherThreads",
+                            DEFAULT_DISPATCHER_THREADS);
+                    if (dispatcherThreads < 1) {
+                        dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+                    }
+
+                    metrics = Boolean.getBoolean("sun.net.httpserver.metrics");
+
                     return null;
                 }
             });
@@ -180,4 +194,12 @@ class ServerConfig {
     static boolean noDelay() {
         return noDelay;
     }
+
+    static int getDispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    static boolean metricsEnabled() {
+        return metrics;
+    }
 }
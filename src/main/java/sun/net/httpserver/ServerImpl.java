@@ -36,6 +36,9 @@ import javax.net.ssl.*;
 import com.sun.net.httpserver.*;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import sun.net.httpserver.HttpConnection.State;
 
 /**
@@ -51,9 +54,7 @@ class ServerImpl implements TimeSource {
     private ContextList contexts;
     private InetSocketAddress address;
     private ServerSocketChannel schan;
-    private Selector selector;
     private SelectionKey listenerKey;
-    private Set<HttpConnection> idleConnections;
     private Set<HttpConnection> allConnections;
     /* following two are used to keep track of the times
      * when a connection/request is first received
@@ -61,8 +62,6 @@ class ServerImpl implements TimeSource {
      */
     private Set<HttpConnection> reqConnections;
     private Set<HttpConnection> rspConnections;
-    private List<Event> events;
-    private Object lolock = new Object();
     private volatile boolean finished = false;
     private volatile boolean terminating = false;
     private boolean bound = false;
@@ -79,9 +78,12 @@ class ServerImpl implements TimeSource {
     final static long MAX_REQ_TIME=getTimeMillis(ServerConfig.getMaxReqTime());
     final static long MAX_RSP_TIME=getTimeMillis(ServerConfig.getMaxRspTime());
     final static boolean timer1Enabled = MAX_REQ_TIME != -1 || MAX_RSP_TIME != -1;
+    final static int DISPATCHER_THREADS = ServerConfig.getDispatcherThreads();
 
     private Timer timer, timer1;
     private Logger logger;
+    /* registered while the server runs, if metrics are enabled */
+    private ObjectName mxbeanName;
 
     ServerImpl (
         HttpServer wrapper, String protocol, InetSocketAddress addr, int backlog
@@ -100,11 +102,19 @@ class ServerImpl implements TimeSource {
             socket.bind (addr, backlog);
             bound = true;
         }
-        selector = Selector.open ();
-        schan.configureBlocking (false);
-        listenerKey = schan.register (selector, SelectionKey.OP_ACCEPT);
-        dispatcher = new Dispatcher();
-        idleConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
+        dispatchers = new Dispatcher[DISPATCHER_THREADS];
+        for (int i=0; i<dispatchers.length; i++) {
+            dispatchers[i] = new Dispatcher();
+        }
+        if (dispatchers.length == 1) {
+            /* the only dispatcher accepts connections itself, otherwise
+             * an Acceptor hands them out to the dispatchers in turn
+             */
+            schan.configureBlocking (false);
+            listenerKey = schan.register (
+                dispatchers[0].selector, SelectionKey.OP_ACCEPT
+            );
+        }
         allConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
         reqConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
         rspConnections = Collections.synchronizedSet (new HashSet<HttpConnection>());
@@ -118,7 +128,6 @@ class ServerImpl implements TimeSource {
             logger.config ("MAX_REQ_TIME:  "+MAX_REQ_TIME);
             logger.config ("MAX_RSP_TIME:  "+MAX_RSP_TIME);
         }
-        events = new LinkedList<Event>();
         logger.config ("HttpServer created "+protocol+" "+ addr);
     }
 
@@ -141,9 +150,95 @@ class ServerImpl implements TimeSource {
         if (executor == null) {
             executor = new DefaultExecutor();
         }
-        Thread t = new Thread (dispatcher);
         started = true;
-        t.start();
+        for (int i=0; i<dispatchers.length; i++) {
+            Thread t = new Thread (dispatchers[i], "server-dispatcher-"+i);
+            t.start();
+        }
+        if (dispatchers.length > 1) {
+            Thread t = new Thread (new Acceptor(), "server-acceptor");
+            t.start();
+        }
+        if (ServerConfig.metricsEnabled()) {
+            registerMXBean();
+        }
+    }
+
+    private void registerMXBean () {
+        try {
+            final ObjectName name = new ObjectName (
+                "com.sun.net.httpserver:type=HttpServer,name="
+                + ObjectName.quote (String.valueOf (getAddress()))
+            );
+            AccessController.doPrivileged (
+                new PrivilegedAction<Void>() {
+                    public Void run () {
+                        try {
+                            MBeanServer mbs =
+                                ManagementFactory.getPlatformMBeanServer();
+                            mbs.registerMBean (new Management(), name);
+                        } catch (Exception e) {
+                            throw new RuntimeException (e);
+                        }
+                        return null;
+                    }
+                });
+            mxbeanName = name;
+        } catch (Exception e) {
+            logger.log (Level.WARNING, "HttpServer MXBean not registered", e);
+        }
+    }
+
+    private void unregisterMXBean () {
+        final ObjectName name = mxbeanName;
+        if (name == null) {
+            return;
+        }
+        mxbeanName = null;
+        AccessController.doPrivileged (
+            new PrivilegedAction<Void>() {
+                public Void run () {
+                    try {
+                        ManagementFactory.getPlatformMBeanServer()
+                            .unregisterMBean (name);
+                    } catch (Exception e) {
+                        logger.log (Level.FINER, "ServerImpl.stop", e);
+                    }
+                    return null;
+                }
+            });
+    }
+
+    class Management implements HttpServerMXBean {
+        public String getAddress () {
+            return String.valueOf (ServerImpl.this.getAddress());
+        }
+
+        public String getProtocol () {
+            return protocol;
+        }
+
+        public int getOpenConnections () {
+            return allConnections.size();
+        }
+
+        public int getIdleConnections () {
+            return idleConnectionCount();
+        }
+
+        public int getActiveExchanges () {
+            synchronized (ServerImpl.this) {
+                return exchangeCount;
+            }
+        }
+
+        public List<ContextMetrics> getContexts () {
+            List<ContextMetrics> l = new ArrayList<ContextMetrics>();
+            for (HttpContextImpl ctx : contexts.contexts()) {
+                l.add (ctx.getMetrics());
+            }
+            return l;
+        }
     }
 
     public void setExecutor (Executor executor) {
@@ -184,7 +279,7 @@ class ServerImpl implements TimeSource {
         }
         terminating = true;
         try { schan.close(); } catch (IOException e) {}
-        selector.wakeup();
+        wakeupDispatchers();
         long latest = System.currentTimeMillis() + delay * 1000;
         while (System.currentTimeMillis() < latest) {
             delay();
@@ -193,21 +288,24 @@ class ServerImpl implements TimeSource {
             }
         }
         finished = true;
-        selector.wakeup();
+        wakeupDispatchers();
         synchronized (allConnections) {
             for (HttpConnection c : allConnections) {
                 c.close();
             }
         }
         allConnections.clear();
-        idleConnections.clear();
+        for (Dispatcher d : dispatchers) {
+            d.idleConnections.clear();
+        }
         timer.cancel();
         if (timer1Enabled) {
             timer1.cancel();
         }
+        unregisterMXBean();
     }
 
-    Dispatcher dispatcher;
+    Dispatcher[] dispatchers;
 
     public synchronized HttpContextImpl createContext (String path, HttpHandler handler) {
         if (handler == null || path == null) {
@@ -256,47 +354,160 @@ class ServerImpl implements TimeSource {
                 });
     }
 
-    Selector getSelector () {
-        return selector;
+    /* events are handled by the dispatcher of the connection, unless the
+     * response was sent by the thread running the handler, in which case
+     * that thread finishes the exchange when the handler returns
+     */
+    void addEvent (Event r) {
+        ExchangeImpl t = r.exchange;
+        if (r instanceof WriteFinishedEvent
+                && t.thread == Thread.currentThread()) {
+            t.finished = true;
+            return;
+        }
+        t.getConnection().dispatcher.addEvent (r);
     }
 
-    void addEvent (Event r) {
-        synchronized (lolock) {
-            events.add (r);
-            selector.wakeup();
+    /* called when the response of an exchange has been sent. Returns
+     * true if the next request on the connection has already been read
+     * into the connection's buffer, in which case it is to be handled at
+     * once by the caller, without going back to the selector
+     */
+    boolean finishExchange (ExchangeImpl t) {
+        HttpConnection c = t.getConnection();
+        t.recordCompletion();
+        try {
+            int exchanges = endExchange();
+            if (terminating && exchanges == 0) {
+                finished = true;
+            }
+            responseCompleted (c);
+            LeftOverInputStream is = t.getOriginalInputStream();
+            if (!is.isEOF()) {
+                t.close = true;
+            }
+            if (t.close || c.closed || idleConnectionCount() >= MAX_IDLE_CONNECTIONS) {
+                c.close();
+                allConnections.remove (c);
+                return false;
+            }
+            if (is.isDataBuffered()) {
+                requestStarted (c);
+                return true;
+            }
+            c.dispatcher.addRegistration (c);
+        } catch (IOException e) {
+            logger.log (Level.FINER, "ServerImpl.finishExchange", e);
+            c.close();
         }
+        return false;
     }
 
-    /* main server listener task */
+    private void wakeupDispatchers () {
+        for (Dispatcher d : dispatchers) {
+            d.selector.wakeup();
+        }
+    }
+
+    /* the number of idle connections, across all dispatchers */
+    int idleConnectionCount () {
+        int n = 0;
+        for (Dispatcher d : dispatchers) {
+            n += d.idleConnections.size();
+        }
+        return n;
+    }
+
+    /* creates the connection for a newly accepted channel, to be
+     * registered with the given dispatcher
+     */
+    private HttpConnection newConnection (SocketChannel chan, Dispatcher d)
+        throws IOException
+    {
+        // Set TCP_NODELAY, if appropriate
+        if (ServerConfig.noDelay()) {
+            chan.socket().setTcpNoDelay(true);
+        }
+        HttpConnection c = new HttpConnection ();
+        c.setChannel (chan);
+        c.dispatcher = d;
+        requestStarted (c);
+        allConnections.add (c);
+        return c;
+    }
+
+    /* accepts connections and hands them to the dispatchers round-robin,
+     * used when there is more than one dispatcher
+     */
+
+    class Acceptor implements Runnable {
+        public void run () {
+            int next = 0;
+            while (!terminating) {
+                SocketChannel chan = null;
+                try {
+                    chan = schan.accept();
+                    Dispatcher d = dispatchers[next];
+                    next = (next + 1) % dispatchers.length;
+                    d.addConnection (newConnection (chan, d));
+                } catch (ClosedChannelException e) {
+                    break;
+                } catch (IOException e) {
+                    logger.log (Level.FINER, "Acceptor", e);
+                    if (chan != null) {
+                        try { chan.close(); } catch (IOException e1) {}
+                    }
+                }
+            }
+        }
+    }
+
+    /* main server listener task, one for each selector */
 
     class Dispatcher implements Runnable {
 
+        final Selector selector;
+
+        /* connections registered with this selector, between requests */
+        final Set<HttpConnection> idleConnections =
+            Collections.synchronizedSet (new HashSet<HttpConnection>());
+
+        /* guarded by lolock */
+        private List<Event> events = new LinkedList<Event>();
+        private List<HttpConnection> newConnections =
+            new LinkedList<HttpConnection>();
+        private List<HttpConnection> connsToRegister =
+            new LinkedList<HttpConnection>();
+        private final Object lolock = new Object();
+
+        private long lastIdleTick;
+
+        Dispatcher () throws IOException {
+            selector = Selector.open ();
+        }
+
+        void addEvent (Event r) {
+            synchronized (lolock) {
+                events.add (r);
+                selector.wakeup();
+            }
+        }
+
+        void addConnection (HttpConnection c) {
+            synchronized (lolock) {
+                newConnections.add (c);
+                selector.wakeup();
+            }
+        }
+
         private void handleEvent (Event r) {
             ExchangeImpl t = r.exchange;
             HttpConnection c = t.getConnection();
             try {
                 if (r instanceof WriteFinishedEvent) {
-
-                    int exchanges = endExchange();
-                    if (terminating && exchanges == 0) {
-                        finished = true;
-                    }
-                    responseCompleted (c);
-                    LeftOverInputStream is = t.getOriginalInputStream();
-                    if (!is.isEOF()) {
-                        t.close = true;
-                    }
-                    if (t.close || idleConnections.size() >= MAX_IDLE_CONNECTIONS) {
-                        c.close();
-                        allConnections.remove (c);
-                    } else {
-                        if (is.isDataBuffered()) {
-                            /* don't re-enable the interestops, just handle it */
-                            requestStarted (c);
-                            handle (c.getChannel(), c);
-                        } else {
-                            connsToRegister.add (c);
-                        }
+                    if (finishExchange (t)) {
+                        /* don't re-enable the interestops, just handle it */
+                        handle (c.getChannel(), c);
                     }
                 }
             } catch (IOException e) {
@@ -307,8 +518,27 @@ class ServerImpl implements TimeSource {
             }
         }
 
-        final LinkedList<HttpConnection> connsToRegister =
-                new LinkedList<HttpConnection>();
+        /* connections to register again once their exchange is finished */
+        void addRegistration (HttpConnection c) {
+            synchronized (lolock) {
+                connsToRegister.add (c);
+                selector.wakeup();
+            }
+        }
+
+        void register (HttpConnection c) {
+            try {
+                SocketChannel chan = c.getChannel();
+                chan.configureBlocking (false);
+                SelectionKey key = chan.register (selector, SelectionKey.OP_READ);
+                key.attach (c);
+                c.selectionKey = key;
+            } catch (IOException e) {
+                dprint(e);
+                logger.log(Level.FINER, "Dispatcher(9)", e);
+                closeConnection(c);
+            }
+        }
 
         void reRegister (HttpConnection c) {
             /* re-register with selector */
@@ -331,11 +561,27 @@ class ServerImpl implements TimeSource {
             while (!finished) {
                 try {
                     List<Event> list = null;
+                    List<HttpConnection> accepted = null;
+                    List<HttpConnection> idle = null;
                     synchronized (lolock) {
                         if (events.size() > 0) {
                             list = events;
                             events = new LinkedList<Event>();
                         }
+                        if (newConnections.size() > 0) {
+                            accepted = newConnections;
+                            newConnections = new LinkedList<HttpConnection>();
+                        }
+                        if (connsToRegister.size() > 0) {
+                            idle = connsToRegister;
+                            connsToRegister = new LinkedList<HttpConnection>();
+                        }
+                    }
+
+                    if (accepted != null) {
+                        for (HttpConnection c : accepted) {
+                            register (c);
+                        }
                     }
 
                     if (list != null) {
@@ -344,10 +590,11 @@ class ServerImpl implements TimeSource {
                         }
                     }
 
-                    for (HttpConnection c : connsToRegister) {
-                        reRegister(c);
+                    if (idle != null) {
+                        for (HttpConnection c : idle) {
+                            reRegister(c);
+                        }
                     }
-                    connsToRegister.clear();
 
                     selector.select(1000);
 
@@ -362,23 +609,10 @@ class ServerImpl implements TimeSource {
                                 continue;
                             }
                             SocketChannel chan = schan.accept();
-
-                            // Set TCP_NODELAY, if appropriate
-                            if (ServerConfig.noDelay()) {
-                                chan.socket().setTcpNoDelay(true);
-                            }
-
                             if (chan == null) {
                                 continue; /* cancel something ? */
                             }
-                            chan.configureBlocking (false);
-                            SelectionKey newkey = chan.register (selector, SelectionKey.OP_READ);
-                            HttpConnection c = new HttpConnection ();
-                            c.selectionKey = newkey;
-                            c.setChannel (chan);
-                            newkey.attach (c);
-                            requestStarted (c);
-                            allConnections.add (c);
+                            register (newConnection (chan, this));
                         } else {
                             try {
                                 if (key.isReadable()) {
@@ -406,6 +640,11 @@ class ServerImpl implements TimeSource {
                     }
                     // call the selector just to process the cancelled keys
                     selector.selectNow();
+
+                    if (lastIdleTick != ticks) {
+                        lastIdleTick = ticks;
+                        closeIdleConnections();
+                    }
                 } catch (IOException e) {
                     logger.log (Level.FINER, "Dispatcher (4)", e);
                 } catch (Exception e) {
@@ -415,6 +654,26 @@ class ServerImpl implements TimeSource {
             try {selector.close(); } catch (Exception e) {}
         }
 
+        /* closes the idle connections whose idle interval has expired,
+         * once every clock tick
+         */
+        private void closeIdleConnections () {
+            LinkedList<HttpConnection> toClose = new LinkedList<HttpConnection>();
+            long now = getTime();
+            synchronized (idleConnections) {
+                for (HttpConnection c : idleConnections) {
+                    if (c.time <= now) {
+                        toClose.add (c);
+                    }
+                }
+                for (HttpConnection c : toClose) {
+                    idleConnections.remove (c);
+                    allConnections.remove (c);
+                    c.close();
+                }
+            }
+        }
+
         private void handleException (SelectionKey key, Exception e) {
             HttpConnection conn = (HttpConnection)key.attachment();
             if (e != null) {
@@ -469,12 +728,12 @@ class ServerImpl implements TimeSource {
             rspConnections.remove(conn);
             break;
         case IDLE:
-            idleConnections.remove(conn);
+            conn.dispatcher.idleConnections.remove(conn);
             break;
         }
         assert !reqConnections.remove(conn);
         assert !rspConnections.remove(conn);
-        assert !idleConnections.remove(conn);
+        assert !conn.dispatcher.idleConnections.remove(conn);
     }
 
         /* per exchange task */
@@ -496,7 +755,22 @@ class ServerImpl implements TimeSource {
             this.protocol = protocol;
         }
 
+        /* handles the requests on the connection, for as long as the
+         * response to one is sent before its handler returns and the next
+         * one has already been read into the connection's buffer
+         */
         public void run () {
+            for (;;) {
+                tx = null;
+                rejected = false;
+                runExchange();
+                if (tx == null || !tx.finished || !finishExchange (tx)) {
+                    return;
+                }
+            }
+        }
+
+        private void runExchange () {
             /* context will be null for new connections */
             context = connection.getHttpContext();
             boolean newconnection;
@@ -641,10 +915,15 @@ class ServerImpl implements TimeSource {
                 /* set up the two stream references */
                 tx.getRequestBody();
                 tx.getResponseBody();
-                if (https) {
-                    uc.doFilter (new HttpsExchangeImpl (tx));
-                } else {
-                    uc.doFilter (new HttpExchangeImpl (tx));
+                tx.thread = Thread.currentThread();
+                try {
+                    if (https) {
+                        uc.doFilter (new HttpsExchangeImpl (tx));
+                    } else {
+                        uc.doFilter (new HttpExchangeImpl (tx));
+                    }
+                } finally {
+                    tx.thread = null;
                 }
 
             } catch (IOException e1) {
@@ -798,25 +1077,13 @@ class ServerImpl implements TimeSource {
     }
 
     /**
-     * TimerTask run every CLOCK_TICK ms
+     * TimerTask run every CLOCK_TICK ms. Each dispatcher closes its own
+     * expired idle connections when it sees the tick.
      */
     class ServerTimerTask extends TimerTask {
         public void run () {
-            LinkedList<HttpConnection> toClose = new LinkedList<HttpConnection>();
             time = System.currentTimeMillis();
             ticks ++;
-            synchronized (idleConnections) {
-                for (HttpConnection c : idleConnections) {
-                    if (c.time <= time) {
-                        toClose.add (c);
-                    }
-                }
-                for (HttpConnection c : toClose) {
-                    idleConnections.remove (c);
-                    allConnections.remove (c);
-                    c.close();
-                }
-            }
         }
     }
 
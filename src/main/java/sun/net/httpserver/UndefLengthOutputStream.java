@@ -52,6 +52,7 @@ class UndefLengthOutputStream extends FilterOutputStream
             throw new IOException ("stream closed");
         }
         out.write(b);
+        t.bytesWritten ++;
     }
 
     public void write (byte[]b, int off, int len) throws IOException {
@@ -59,6 +60,7 @@ class UndefLengthOutputStream extends FilterOutputStream
             throw new IOException ("stream closed");
         }
         out.write(b, off, len);
+        t.bytesWritten += len;
     }
 
     public void close () throws IOException {
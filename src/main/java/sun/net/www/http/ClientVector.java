@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 1996, 2011, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package sun.net.www.http;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* LIFO order for recycling HttpClients, with the least recently used at
+ * the bottom of the stack to time out.
+ */
+class ClientVector {
+
+    // sleep time in milliseconds, before cache clear
+    final int nap;
+
+    private final KeepAliveCache cache;
+    private final ConcurrentLinkedDeque<KeepAliveEntry> stack =
+        new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    // clients taken from this vector and in use
+    final AtomicInteger leased = new AtomicInteger();
+    // threads waiting in await
+    private volatile int waiters;
+    // set once the vector has been removed from the cache
+    volatile boolean retired;
+
+    ClientVector (KeepAliveCache cache, int nap) {
+        this.cache = cache;
+        this.nap = nap;
+    }
+
+    /* return a still valid, unused HttpClient, or null */
+    HttpClient get() {
+        // Loop until we find a connection that has not timed out
+        long currentTime = System.currentTimeMillis();
+        KeepAliveEntry e;
+        while ((e = stack.pollFirst()) != null) {
+            size.decrementAndGet();
+            cache.idle.decrementAndGet();
+            if ((currentTime - e.idleStartTime) > nap) {
+                cache.evictions.increment();
+                e.hc.closeServer();
+            } else {
+                return e.hc;
+            }
+        }
+        return null;
+    }
+
+    /* takes a client whatever its idle time, used when draining */
+    HttpClient poll() {
+        KeepAliveEntry e = stack.pollFirst();
+        if (e == null) {
+            return null;
+        }
+        size.decrementAndGet();
+        cache.idle.decrementAndGet();
+        return e.hc;
+    }
+
+    /* waits up to timeout milliseconds for a client to be put, for as long
+     * as the clients taken from this vector and in use are at least the
+     * limit of connections per destination
+     */
+    HttpClient await(long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (this) {
+            waiters++;
+            try {
+                HttpClient hc;
+                long remaining = timeout;
+                while ((hc = get()) == null && remaining > 0
+                       && leased.get() >= KeepAliveCache.getMaxConnections()) {
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException x) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                    remaining = deadline - System.currentTimeMillis();
+                }
+                return hc;
+            } finally {
+                waiters--;
+            }
+        }
+    }
+
+    void signal() {
+        if (waiters > 0) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /* return a still valid, unused HttpClient; false if it was closed
+     * because there are too many
+     */
+    boolean put(HttpClient h) {
+        if (size.incrementAndGet() > KeepAliveCache.getMaxConnections()) {
+            size.decrementAndGet();
+            h.closeServer(); // otherwise the connection remains in limbo
+            return false;
+        }
+        stack.offerFirst(new KeepAliveEntry(h, System.currentTimeMillis()));
+        signal();
+        return true;
+    }
+
+    void remove(HttpClient h) {
+        for (KeepAliveEntry e : stack) {
+            if (e.hc == h) {
+                if (stack.removeFirstOccurrence(e)) {
+                    size.decrementAndGet();
+                    cache.idle.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    /* Remove all unused HttpClients that have timed out, starting from
+     * the bottom of the stack (the least-recently used first).
+     */
+    void evict(long currentTime) {
+        Iterator<KeepAliveEntry> it = stack.descendingIterator();
+        while (it.hasNext()) {
+            KeepAliveEntry e = it.next();
+            if ((currentTime - e.idleStartTime) <= nap) {
+                break;
+            }
+            if (stack.removeLastOccurrence(e)) {
+                size.decrementAndGet();
+                cache.idle.decrementAndGet();
+                cache.evictions.increment();
+                e.hc.closeServer();
+            }
+        }
+    }
+
+    boolean isUnused() {
+        return size.get() == 0 && leased.get() == 0 && waiters == 0;
+    }
+}
+
+
+class KeepAliveEntry {
+    HttpClient hc;
+    long idleStartTime;
+
+    KeepAliveEntry(HttpClient hc, long idleStartTime) {
+        this.hc = hc;
+        this.idleStartTime = idleStartTime;
+    }
+}
@@ -48,6 +48,10 @@ public class HttpClient extends NetworkClient {
 
     protected boolean inCache;
 
+    // the connections of the keep-alive cache this client was taken from,
+    // while it is in use
+    ClientVector keepAliveVector;
+
     // Http requests we send
     MessageHeader requests;
 
@@ -1052,6 +1056,7 @@ public class HttpClient extends NetworkClient {
             keepingAlive = false;
             serverSocket.close();
         } catch (Exception e) {}
+        kac.release(this);
     }
 
     /**
@@ -23,24 +23,34 @@
  * questions.
  */
 
+
 package sun.net.www.http;
 
-import java.io.IOException;
-import java.io.NotSerializableException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import sun.security.action.GetIntegerAction;
 
 /**
  * A class that implements a cache of idle Http connections for keep-alive
  *
+ * The connections to each destination are kept in a lock-free stack, so
+ * that the most recently used connection is reused first and the others
+ * time out. Timed out connections are closed by a task run on a scheduler
+ * shared by all caches.
+ *
  * @author Stephen R. Pietrowicz (NCSA)
  * @author Dave Brown
  */
-public class KeepAliveCache
-    extends HashMap<KeepAliveKey, ClientVector>
-    implements Runnable {
-    private static final long serialVersionUID = -2937172892064557949L;
+public class KeepAliveCache implements Runnable {
 
     /* maximum # keep-alive connections to maintain at once
      * This should be 2 by the HTTP spec, but because we don't support pipe-lining
@@ -62,9 +72,43 @@ public class KeepAliveCache
             return result;
     }
 
+    /* maximum # idle connections in the cache, over all destinations.
+     * It can be set with the system property "http.maxTotalConnections",
+     * the default of 0 means no limit other than the per destination one.
+     */
+    static final int MAX_TOTAL_CONNECTIONS = getInteger("http.maxTotalConnections", 0);
+
+    /* maximum time in milliseconds to wait for a connection to be returned
+     * to the cache, rather than open a new one, when as many connections to
+     * the destination as http.maxConnections were taken from the cache and
+     * are in use. It can be set
+     * with the system property "http.keepAlive.maxWait", the default of 0
+     * means that a new connection is opened at once.
+     */
+    static final int MAX_WAIT = getInteger("http.keepAlive.maxWait", 0);
+
     static final int LIFETIME = 5000;
 
-    private Thread keepAliveTimer = null;
+    /* how often timed out connections are looked for */
+    static final int EVICTION_INTERVAL = 1000;
+
+    private static int getInteger(String name, int def) {
+        int n = AccessController.doPrivileged(
+            new GetIntegerAction(name, def)).intValue();
+        return n < 0 ? def : n;
+    }
+
+    final ConcurrentHashMap<KeepAliveKey, ClientVector> routes =
+        new ConcurrentHashMap<>();
+
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+    /* statistics, also used to enforce MAX_TOTAL_CONNECTIONS */
+    final AtomicInteger idle = new AtomicInteger();
+    final AtomicInteger leased = new AtomicInteger();
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
 
     /**
      * Constructor
@@ -76,222 +120,163 @@ public class KeepAliveCache
      * @param url  The URL contains info about the host and port
      * @param http The HttpClient to be cached
      */
-    public synchronized void put(final URL url, Object obj, HttpClient http) {
-        boolean startThread = (keepAliveTimer == null);
-        if (!startThread) {
-            if (!keepAliveTimer.isAlive()) {
-                startThread = true;
-            }
-        }
-        if (startThread) {
-            clear();
-            /* Unfortunately, we can't always believe the keep-alive timeout we got
-             * back from the server.  If I'm connected through a Netscape proxy
-             * to a server that sent me a keep-alive
-             * time of 15 sec, the proxy unilaterally terminates my connection
-             * The robustness to get around this is in HttpClient.parseHTTP()
-             */
-            final KeepAliveCache cache = this;
-            java.security.AccessController.doPrivileged(
-                new java.security.PrivilegedAction<Void>() {
-                public Void run() {
-                   // We want to create the Keep-Alive-Timer in the
-                    // system threadgroup
-                    ThreadGroup grp = Thread.currentThread().getThreadGroup();
-                    ThreadGroup parent = null;
-                    while ((parent = grp.getParent()) != null) {
-                        grp = parent;
-                    }
-
-                    keepAliveTimer = new Thread(grp, cache, "Keep-Alive-Timer");
-                    keepAliveTimer.setDaemon(true);
-                    keepAliveTimer.setPriority(Thread.MAX_PRIORITY - 2);
-                    // Set the context class loader to null in order to avoid
-                    // keeping a strong reference to an application classloader.
-                    keepAliveTimer.setContextClassLoader(null);
-                    keepAliveTimer.start();
-                    return null;
-                }
-            });
-        }
+    public void put(final URL url, Object obj, HttpClient http) {
+        release(http);
 
         KeepAliveKey key = new KeepAliveKey(url, obj);
-        ClientVector v = super.get(key);
-
+        ClientVector v = routes.get(key);
         if (v == null) {
             int keepAliveTimeout = http.getKeepAliveTimeout();
-            v = new ClientVector(keepAliveTimeout > 0?
-                                 keepAliveTimeout*1000 : LIFETIME);
-            v.put(http);
-            super.put(key, v);
-        } else {
-            v.put(http);
+            ClientVector nv = new ClientVector(this, keepAliveTimeout > 0?
+                                               keepAliveTimeout*1000 : LIFETIME);
+            v = routes.putIfAbsent(key, nv);
+            if (v == null) {
+                v = nv;
+            }
+        }
+
+        int n = idle.incrementAndGet();
+        if (MAX_TOTAL_CONNECTIONS > 0 && n > MAX_TOTAL_CONNECTIONS) {
+            idle.decrementAndGet();
+            http.closeServer(); // otherwise the connection remains in limbo
+            return;
+        }
+        if (!v.put(http)) {
+            idle.decrementAndGet();
+            return;
         }
+        if (v.retired) {
+            // the vector was removed from the cache while we added to it,
+            // put its connections in the vector that replaces it
+            HttpClient h;
+            while ((h = v.poll()) != null) {
+                put(url, obj, h);
+            }
+            return;
+        }
+        scheduleEviction();
     }
 
     /* remove an obsolete HttpClient from its VectorCache */
-    public synchronized void remove (HttpClient h, Object obj) {
+    public void remove (HttpClient h, Object obj) {
         KeepAliveKey key = new KeepAliveKey(h.url, obj);
-        ClientVector v = super.get(key);
+        ClientVector v = routes.get(key);
         if (v != null) {
             v.remove(h);
-            if (v.empty()) {
-                removeVector(key);
-            }
         }
     }
 
-    /* called by a clientVector thread when all its connections have timed out
-     * and that vector of connections should be removed.
-     */
-    synchronized void removeVector(KeepAliveKey k) {
-        super.remove(k);
-    }
-
     /**
      * Check to see if this URL has a cached HttpClient
      */
-    public synchronized HttpClient get(URL url, Object obj) {
+    public HttpClient get(URL url, Object obj) {
 
         KeepAliveKey key = new KeepAliveKey(url, obj);
-        ClientVector v = super.get(key);
-        if (v == null) { // nothing in cache yet
+        ClientVector v = routes.get(key);
+        HttpClient hc = null;
+        if (v != null) {
+            hc = v.get();
+            if (hc == null && MAX_WAIT > 0) {
+                hc = v.await(MAX_WAIT);
+            }
+        }
+        if (hc == null) { // nothing in cache yet
+            misses.increment();
             return null;
         }
-        return v.get();
+        hits.increment();
+        synchronized (hc) {
+            hc.keepAliveVector = v;
+        }
+        v.leased.incrementAndGet();
+        leased.incrementAndGet();
+        return hc;
     }
 
-    /* Sleeps for an alloted timeout, then checks for timed out connections.
+    /* called when a HttpClient taken from the cache is put back or closed */
+    void release(HttpClient h) {
+        ClientVector v;
+        synchronized (h) {
+            v = h.keepAliveVector;
+            h.keepAliveVector = null;
+        }
+        if (v != null) {
+            v.leased.decrementAndGet();
+            leased.decrementAndGet();
+            v.signal();
+        }
+    }
+
+    private void scheduleEviction() {
+        if (evictionScheduled.compareAndSet(false, true)) {
+            Evictor.scheduler.schedule(this, EVICTION_INTERVAL,
+                                       TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /* Closes the timed out connections and removes the destinations that
+     * are no longer used, then runs again while there are idle connections.
      * Errs on the side of caution (leave connections idle for a relatively
      * short time).
      */
     @Override
     public void run() {
-        do {
-            try {
-                Thread.sleep(LIFETIME);
-            } catch (InterruptedException e) {}
-            synchronized (this) {
-                /* Remove all unused HttpClients.  Starting from the
-                 * bottom of the stack (the least-recently used first).
-                 * REMIND: It'd be nice to not remove *all* connections
-                 * that aren't presently in use.  One could have been added
-                 * a second ago that's still perfectly valid, and we're
-                 * needlessly axing it.  But it's not clear how to do this
-                 * cleanly, and doing it right may be more trouble than it's
-                 * worth.
-                 */
-
-                long currentTime = System.currentTimeMillis();
-
-                ArrayList<KeepAliveKey> keysToRemove
-                    = new ArrayList<KeepAliveKey>();
-
-                for (KeepAliveKey key : keySet()) {
-                    ClientVector v = get(key);
-                    synchronized (v) {
-                        int i;
-
-                        for (i = 0; i < v.size(); i++) {
-                            KeepAliveEntry e = v.elementAt(i);
-                            if ((currentTime - e.idleStartTime) > v.nap) {
-                                HttpClient h = e.hc;
-                                h.closeServer();
-                            } else {
-                                break;
-                            }
-                        }
-                        v.subList(0, i).clear();
-
-                        if (v.size() == 0) {
-                            keysToRemove.add(key);
-                        }
-                    }
-                }
-
-                for (KeepAliveKey key : keysToRemove) {
-                    removeVector(key);
+        long currentTime = System.currentTimeMillis();
+        for (Map.Entry<KeepAliveKey, ClientVector> me : routes.entrySet()) {
+            ClientVector v = me.getValue();
+            v.evict(currentTime);
+            if (v.isUnused()) {
+                v.retired = true;
+                routes.remove(me.getKey(), v);
+                // close any connection that was put in the meantime
+                HttpClient h;
+                while ((h = v.poll()) != null) {
+                    h.closeServer();
                 }
             }
-        } while (size() > 0);
-
-        return;
-    }
-
-    /*
-     * Do not serialize this class!
-     */
-    private void writeObject(java.io.ObjectOutputStream stream)
-    throws IOException {
-        throw new NotSerializableException();
-    }
-
-    private void readObject(java.io.ObjectInputStream stream)
-    throws IOException, ClassNotFoundException {
-        throw new NotSerializableException();
-    }
-}
-
-/* FILO order for recycling HttpClients, should run in a thread
- * to time them out.  If > maxConns are in use, block.
- */
-
-
-class ClientVector extends java.util.Stack<KeepAliveEntry> {
-    private static final long serialVersionUID = -8680532108106489459L;
-
-    // sleep time in milliseconds, before cache clear
-    int nap;
-
-
-
-    ClientVector (int nap) {
-        this.nap = nap;
-    }
-
-    synchronized HttpClient get() {
-        if (empty()) {
-            return null;
-        } else {
-            // Loop until we find a connection that has not timed out
-            HttpClient hc = null;
-            long currentTime = System.currentTimeMillis();
-            do {
-                KeepAliveEntry e = pop();
-                if ((currentTime - e.idleStartTime) > nap) {
-                    e.hc.closeServer();
-                } else {
-                    hc = e.hc;
-                }
-            } while ((hc== null) && (!empty()));
-            return hc;
         }
-    }
-
-    /* return a still valid, unused HttpClient */
-    synchronized void put(HttpClient h) {
-        if (size() >= KeepAliveCache.getMaxConnections()) {
-            h.closeServer(); // otherwise the connection remains in limbo
-        } else {
-            push(new KeepAliveEntry(h, System.currentTimeMillis()));
+        evictionScheduled.set(false);
+        if (idle.get() > 0 || !routes.isEmpty()) {
+            scheduleEviction();
         }
     }
 
-    /*
-     * Do not serialize this class!
+    /* The scheduler of the eviction tasks of all caches, with a single
+     * thread that is created when needed and ends when idle.
      */
-    private void writeObject(java.io.ObjectOutputStream stream)
-    throws IOException {
-        throw new NotSerializableException();
-    }
+    private static class Evictor {
+        static final ScheduledThreadPoolExecutor scheduler;
+        static {
+            scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                public Thread newThread(final Runnable r) {
+                    return AccessController.doPrivileged(
+                        new PrivilegedAction<Thread>() {
+                        public Thread run() {
+                            // We want to create the Keep-Alive-Timer in the
+                            // system threadgroup
+                            ThreadGroup grp = Thread.currentThread().getThreadGroup();
+                            ThreadGroup parent = null;
+                            while ((parent = grp.getParent()) != null) {
+                                grp = parent;
+                            }
 
-    private void readObject(java.io.ObjectInputStream stream)
-    throws IOException, ClassNotFoundException {
-        throw new NotSerializableException();
+                            Thread t = new Thread(grp, r, "Keep-Alive-Timer");
+                            t.setDaemon(true);
+                            t.setPriority(Thread.MAX_PRIORITY - 2);
+                            // Set the context class loader to null in order to avoid
+                            // keeping a strong reference to an application classloader.
+                            t.setContextClassLoader(null);
+                            return t;
+                        }
+                    });
+                }
+            });
+            scheduler.setKeepAliveTime(LIFETIME, TimeUnit.MILLISECONDS);
+            scheduler.allowCoreThreadTimeOut(true);
+        }
     }
 }
 
-
 class KeepAliveKey {
     private String      protocol = null;
     private String      host = null;
@@ -335,13 +320,3 @@ class KeepAliveKey {
             str.hashCode() + this.obj.hashCode();
     }
 }
-
-class KeepAliveEntry {
-    HttpClient hc;
-    long idleStartTime;
-
-    KeepAliveEntry(HttpClient hc, long idleStartTime) {
-        this.hc = hc;
-        this.idleStartTime = idleStartTime;
-    }
-}
@@ -0,0 +1,29 @@
+package sun.net.www.http;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * The management interface of the cache of idle keep-alive connections
+ * of HttpURLConnection, registered in the platform MBeanServer.
+ */
+public interface KeepAliveCacheMXBean extends PlatformManagedObject {
+
+    String OBJECT_NAME = "sun.net.www.http:type=KeepAliveCache";
+
+    /* requests that reused a cached connection */
+    long getHits();
+
+    /* requests that found no cached connection and opened a new one */
+    long getMisses();
+
+    /* cached connections closed because they timed out */
+    long getEvictions();
+
+    int getIdleConnections();
+
+    /* connections taken from the cache that are in use */
+    int getLeasedConnections();
+
+    /* destinations with idle or leased connections */
+    int getDestinations();
+}
@@ -0,0 +1,49 @@
+package sun.net.www.http;
+
+import javax.management.ObjectName;
+
+/**
+ * The management interface of the keep-alive cache of HttpClient. The cache,
+ * and HttpClient, are only initialized when an attribute is first read, not
+ * when the MXBean is registered.
+ */
+public final class KeepAliveCacheMXBeanImpl implements KeepAliveCacheMXBean {
+
+    public KeepAliveCacheMXBeanImpl() { }
+
+    private static KeepAliveCache kac() {
+        return HttpClient.kac;
+    }
+
+    public ObjectName getObjectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (Exception e) {
+            throw new InternalError(e);
+        }
+    }
+
+    public long getHits() {
+        return kac().hits.sum();
+    }
+
+    public long getMisses() {
+        return kac().misses.sum();
+    }
+
+    public long getEvictions() {
+        return kac().evictions.sum();
+    }
+
+    public int getIdleConnections() {
+        return kac().idle.get();
+    }
+
+    public int getLeasedConnections() {
+        return kac().leased.get();
+    }
+
+    public int getDestinations() {
+        return kac().routes.size();
+    }
+}
@@ -0,0 +1,290 @@
+package sun.net.www.http.async;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * A connection to a route, carrying one exchange at a time and kept in the
+ * route's pool between exchanges.
+ *
+ * Everything but start and wakeup runs on the thread of the connection's
+ * selector loop.
+ */
+final class AsyncConnection {
+
+    final Route route;
+    final SelectorLoop loop;
+
+    private SocketChannel chan;
+    private SelectionKey key;
+    private Transport transport;
+    private boolean connected;
+    private boolean handshaken;
+    private boolean closed;
+    // whether the route was told of the close
+    private boolean released;
+
+    // the exchange in progress, null while the connection is idle
+    private Exchange<?> exchange;
+    // whether the connection carried an exchange before this one
+    private boolean reused;
+    private SelectorLoop.Timer connectTimer;
+    // the request or idle timeout
+    private SelectorLoop.Timer timer;
+
+    AsyncConnection(Route route, SelectorLoop loop) {
+        this.route = route;
+        this.loop = loop;
+    }
+
+    /**
+     * Opens the connection for the given first exchange. The name of the
+     * route is resolved on a thread of the client's executor, as it may
+     * block.
+     */
+    void open(Exchange<?> first) {
+        route.client.executor.execute(() -> {
+            InetSocketAddress addr = new InetSocketAddress(route.host, route.port);
+            loop.execute(() -> connect(addr, first));
+        });
+    }
+
+    private void connect(InetSocketAddress addr, Exchange<?> first) {
+        try {
+            if (addr.isUnresolved())
+                throw new UnknownHostException(route.host);
+            chan = SocketChannel.open();
+            chan.configureBlocking(false);
+            chan.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            connected = chan.connect(addr);
+            key = chan.register(loop.selector(), 0, this);
+            if (route.secure) {
+                SSLEngine engine = route.client.sslContext()
+                    .createSSLEngine(route.host, route.port);
+                SSLParameters params = engine.getSSLParameters();
+                params.setEndpointIdentificationAlgorithm("HTTPS");
+                engine.setSSLParameters(params);
+                transport = new SSLTransport(chan, engine);
+            } else {
+                transport = new Transport(chan);
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            first.fail(e);
+            return;
+        }
+        long t = route.client.connectTimeout;
+        if (!connected && t > 0) {
+            connectTimer = loop.schedule(t, () -> {
+                if (!connected)
+                    abort(new SocketTimeoutException("connect timed out: " + route));
+            });
+        }
+        begin(first);
+    }
+
+    /**
+     * Starts an exchange on this connection, from any thread.
+     */
+    void start(Exchange<?> e) {
+        loop.execute(() -> begin(e));
+    }
+
+    /**
+     * Has the connection look at its exchange again, from any thread.
+     */
+    void wakeup() {
+        loop.execute(this::process);
+    }
+
+    private void begin(Exchange<?> e) {
+        if (closed) {
+            // closed while idle in the pool, before the exchange came
+            close();
+            route.client.dispatch(e);
+            return;
+        }
+        if (e.result.isDone()) {
+            // cancelled while it waited
+            exchangeDone(e, true);
+            return;
+        }
+        exchange = e;
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        if (e.deadline != 0) {
+            long left = TimeUnit.NANOSECONDS.toMillis(e.deadline - System.nanoTime());
+            if (left <= 0) {
+                exchange = null;
+                exchangeDone(e, true);
+                e.fail(new SocketTimeoutException("request timed out"));
+                return;
+            }
+            timer = loop.schedule(left, () -> {
+                if (exchange == e)
+                    abort(new SocketTimeoutException("request timed out"));
+            });
+        }
+        e.start(this);
+        process();
+    }
+
+    /**
+     * Carries the connection on as far as it can go without blocking, and
+     * registers for what it waits for.
+     */
+    void process() {
+        if (closed)
+            return;
+        try {
+            if (!connected) {
+                if (!chan.finishConnect()) {
+                    interest(SelectionKey.OP_CONNECT);
+                    return;
+                }
+                connected = true;
+                if (connectTimer != null) {
+                    connectTimer.cancel();
+                    connectTimer = null;
+                }
+            }
+            if (!handshaken) {
+                int ops = transport.handshake();
+                if (ops != 0) {
+                    interest(ops);
+                    return;
+                }
+                handshaken = true;
+            }
+            Exchange<?> e = exchange;
+            int ops;
+            if (e == null) {
+                ops = idleRead();
+            } else if (e.result.isCancelled()) {
+                abort(new IOException("request cancelled"));
+                return;
+            } else {
+                ops = e.write(transport);
+                if (!e.isDone())
+                    ops |= e.read(transport);
+                if (exchange != e)
+                    ops = (exchange == null && !closed) ? SelectionKey.OP_READ : 0;
+            }
+            if (!closed)
+                interest(ops);
+        } catch (IOException | RuntimeException e) {
+            abort(e);
+        }
+    }
+
+    private void interest(int ops) {
+        if (key.isValid() && key.interestOps() != ops)
+            key.interestOps(ops);
+    }
+
+    /*
+     * An idle connection is read to notice that the server closed it.
+     * A server should not send anything else.
+     */
+    private int idleRead() throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(64);
+        int n = transport.read(b);
+        if (n == 0)
+            return SelectionKey.OP_READ;
+        // if the connection was taken from the pool already, begin
+        // dispatches the exchange again
+        route.removeIdle(this);
+        close();
+        return 0;
+    }
+
+    /**
+     * Called by an exchange when it is done, or on an exchange that does
+     * not need the connection after all. The connection is returned to
+     * the pool, or closed.
+     */
+    void exchangeDone(Exchange<?> e, boolean reusable) {
+        if (exchange == e)
+            exchange = null;
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        if (!reusable || closed) {
+            close();
+            return;
+        }
+        reused = true;
+        long idle = route.client.idleTimeout;
+        if (idle > 0) {
+            timer = loop.schedule(idle, () -> {
+                if (exchange == null && route.removeIdle(this))
+                    close();
+            });
+        }
+        route.release(this);
+    }
+
+    /**
+     * Closes the connection, failing its exchange with the given cause,
+     * or sending it again on a new connection if it may be.
+     */
+    void abort(Throwable cause) {
+        Exchange<?> e = exchange;
+        exchange = null;
+        if (e == null)
+            route.removeIdle(this);
+        close();
+        if (e == null || e.isDone())
+            return;
+        if (reused && e.canRetry()) {
+            e.retried = true;
+            route.client.dispatch(e);
+        } else {
+            e.fail(cause);
+        }
+    }
+
+    /*
+     * Closes the channel and gives the connection's place in the route
+     * up, once.
+     */
+    private void close() {
+        if (!closed) {
+            closed = true;
+            if (connectTimer != null)
+                connectTimer.cancel();
+            if (timer != null)
+                timer.cancel();
+            if (key != null)
+                key.cancel();
+            if (transport != null) {
+                transport.close();
+            } else if (chan != null) {
+                try {
+                    chan.close();
+                } catch (IOException ignore) { }
+            }
+        }
+        if (!released) {
+            released = true;
+            route.closed(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncConnection[" + route + (reused ? ", reused]" : "]");
+    }
+}
@@ -0,0 +1,285 @@
+package sun.net.www.http.async;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLContext;
+
+/**
+ * An HTTP/1.1 client that does not block a thread per request.
+ *
+ * Connections are non-blocking SocketChannels run by one or more selector
+ * threads, and are pooled per scheme, host and port. A request returns a
+ * CompletableFuture of its response, completed on a thread of the client's
+ * executor. Request and response bodies are streamed through a
+ * {@link BodyPublisher} and a {@link BodySubscriber}: the client reads no
+ * more of a response than its subscriber has requested, and asks the
+ * publisher for no more of a request than the connection has written.
+ * https uses an SSLEngine of the client's SSLContext, the default context
+ * unless one is set.
+ *
+ * <pre>
+ *     AsyncHttpClient client = AsyncHttpClient.newClient();
+ *     AsyncRequest request = AsyncRequest.newBuilder(uri).build();
+ *     client.sendAsync(request, () -&gt; BodySubscribers.ofString(UTF_8))
+ *           .thenAccept(r -&gt; System.out.println(r.body()));
+ * </pre>
+ *
+ * Proxies, authentication, cookies and redirects are not handled; the
+ * responses are those of the server.
+ */
+public final class AsyncHttpClient implements Closeable {
+
+    static final String USER_AGENT =
+        "Java/" + java.security.AccessController.doPrivileged(
+            new sun.security.action.GetPropertyAction("java.version"));
+
+    private static final AtomicInteger clientNumber = new AtomicInteger();
+
+    final Executor executor;
+    // the executor created by the client, shut down when it is closed
+    private final ExecutorService ownExecutor;
+    private final SSLContext sslContext;
+    final long connectTimeout;
+    final long idleTimeout;
+    final int maxConnectionsPerRoute;
+
+    private final SelectorLoop[] loops;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private final ConcurrentHashMap<String,Route> routes = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private AsyncHttpClient(Builder b) throws IOException {
+        int n = clientNumber.incrementAndGet();
+        if (b.executor != null) {
+            executor = b.executor;
+            ownExecutor = null;
+        } else {
+            AtomicInteger threads = new AtomicInteger();
+            ownExecutor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "AsyncHttpClient-" + n + "-Worker-"
+                                      + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            executor = ownExecutor;
+        }
+        sslContext = b.sslContext;
+        connectTimeout = b.connectTimeout;
+        idleTimeout = b.idleTimeout;
+        maxConnectionsPerRoute = b.maxConnectionsPerRoute;
+        loops = new SelectorLoop[b.selectorThreads];
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new SelectorLoop("AsyncHttpClient-" + n + "-Selector-" + i);
+        }
+        for (SelectorLoop l : loops) {
+            l.start();
+        }
+    }
+
+    /**
+     * Returns a client with the default settings.
+     */
+    public static AsyncHttpClient newClient() {
+        return newBuilder().build();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Sends a request, and returns the future of its response, with the
+     * body produced by a subscriber obtained from the given supplier. The
+     * future completes once the response headers have been read and the
+     * subscriber's body stage has completed.
+     */
+    public <T> CompletableFuture<AsyncResponse<T>> sendAsync(
+        AsyncRequest request, Supplier<? extends BodySubscriber<T>> handler)
+    {
+        Exchange<T> e = new Exchange<>(this, Objects.requireNonNull(request),
+                                       Objects.requireNonNull(handler));
+        dispatch(e);
+        return e.result;
+    }
+
+    /**
+     * Sends a request, and returns the future of its response with the
+     * body as a byte array.
+     */
+    public CompletableFuture<AsyncResponse<byte[]>> sendAsync(AsyncRequest request) {
+        return sendAsync(request, BodySubscribers::ofByteArray);
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     */
+    public <T> AsyncResponse<T> send(AsyncRequest request,
+                                     Supplier<? extends BodySubscriber<T>> handler)
+        throws IOException, InterruptedException
+    {
+        CompletableFuture<AsyncResponse<T>> cf = sendAsync(request, handler);
+        try {
+            return cf.get();
+        } catch (InterruptedException e) {
+            cf.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable t = e.getCause();
+            if (t instanceof IOException)
+                throw (IOException)t;
+            if (t instanceof RuntimeException)
+                throw (RuntimeException)t;
+            if (t instanceof Error)
+                throw (Error)t;
+            throw new IOException(t);
+        }
+    }
+
+    void dispatch(Exchange<?> e) {
+        if (closed) {
+            e.fail(new IOException("client closed"));
+            return;
+        }
+        URI uri = e.request.uri();
+        boolean secure = uri.getScheme().equalsIgnoreCase("https");
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("[") && host.endsWith("]"))
+            host = host.substring(1, host.length() - 1);
+        int port = uri.getPort();
+        if (port == -1)
+            port = secure ? 443 : 80;
+        String key = (secure ? "https:" : "http:") + host + ":" + port;
+        Route r = routes.get(key);
+        if (r == null) {
+            Route nr = new Route(this, host, port, secure);
+            r = routes.putIfAbsent(key, nr);
+            if (r == null)
+                r = nr;
+        }
+        r.dispatch(e);
+    }
+
+    SelectorLoop nextLoop() {
+        return loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+    }
+
+    SSLContext sslContext() {
+        if (sslContext != null)
+            return sslContext;
+        try {
+            return SSLContext.getDefault();
+        } catch (GeneralSecurityException e) {
+            throw new UncheckedIOException(new IOException(e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Closes the connections of the client, failing the exchanges in
+     * progress, and stops its threads.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        IOException cause = new IOException("client closed");
+        for (Route r : routes.values()) {
+            r.close(cause);
+        }
+        for (SelectorLoop l : loops) {
+            l.close(cause);
+        }
+        if (ownExecutor != null)
+            ownExecutor.shutdown();
+    }
+
+    /**
+     * The settings of a client.
+     */
+    public static final class Builder {
+        private Executor executor;
+        private SSLContext sslContext;
+        private long connectTimeout;
+        private long idleTimeout = 30000;
+        private int maxConnectionsPerRoute = 64;
+        private int selectorThreads = 1;
+
+        Builder() { }
+
+        /**
+         * Sets the executor that completes the response futures and opens
+         * connections. A cached thread pool of daemon threads is used
+         * otherwise.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        public Builder sslContext(SSLContext sslContext) {
+            this.sslContext = Objects.requireNonNull(sslContext);
+            return this;
+        }
+
+        /**
+         * Sets the time allowed to connect, none by default.
+         */
+        public Builder connectTimeout(Duration timeout) {
+            this.connectTimeout = timeout.toMillis();
+            return this;
+        }
+
+        /**
+         * Sets the time an idle connection is kept in the pool, 30 seconds
+         * by default. A zero duration keeps connections until the server
+         * closes them.
+         */
+        public Builder idleTimeout(Duration timeout) {
+            this.idleTimeout = timeout.toMillis();
+            return this;
+        }
+
+        /**
+         * Sets the number of connections open at once to a route, 64 by
+         * default. Further requests wait for a connection to be free.
+         */
+        public Builder maxConnectionsPerRoute(int n) {
+            if (n <= 0)
+                throw new IllegalArgumentException("non-positive: " + n);
+            this.maxConnectionsPerRoute = n;
+            return this;
+        }
+
+        /**
+         * Sets the number of selector threads, one by default.
+         */
+        public Builder selectorThreads(int n) {
+            if (n <= 0)
+                throw new IllegalArgumentException("non-positive: " + n);
+            this.selectorThreads = n;
+            return this;
+        }
+
+        public AsyncHttpClient build() {
+            try {
+                return new AsyncHttpClient(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
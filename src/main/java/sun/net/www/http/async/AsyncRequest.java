@@ -0,0 +1,173 @@
+package sun.net.www.http.async;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * An HTTP/1.1 request sent by an {@link AsyncHttpClient}. Requests are
+ * immutable and built with a {@link Builder}.
+ */
+public final class AsyncRequest {
+
+    private final URI uri;
+    private final String method;
+    private final Map<String,List<String>> headers;
+    private final BodyPublisher body;
+    private final Duration timeout;
+
+    private AsyncRequest(Builder b) {
+        this.uri = b.uri;
+        this.method = b.method;
+        Map<String,List<String>> m = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String,List<String>> e : b.headers.entrySet()) {
+            m.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue())));
+        }
+        this.headers = Collections.unmodifiableMap(m);
+        this.body = b.body;
+        this.timeout = b.timeout;
+    }
+
+    public static Builder newBuilder(URI uri) {
+        return new Builder().uri(uri);
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    /**
+     * Returns the headers set by the caller. The client adds Host,
+     * User-Agent, and the headers that frame the body.
+     */
+    public Map<String,List<String>> headers() {
+        return headers;
+    }
+
+    public BodyPublisher bodyPublisher() {
+        return body;
+    }
+
+    /**
+     * Returns the time allowed from when the request is sent until the
+     * response has been read, or null if there is no limit.
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri;
+    }
+
+    public static final class Builder {
+        private URI uri;
+        private String method = "GET";
+        private final Map<String,List<String>> headers =
+            new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private BodyPublisher body = BodyPublishers.noBody();
+        private Duration timeout;
+
+        Builder() { }
+
+        public Builder uri(URI uri) {
+            String scheme = uri.getScheme();
+            if (scheme == null || !(scheme.equalsIgnoreCase("http")
+                                    || scheme.equalsIgnoreCase("https")))
+                throw new IllegalArgumentException("unsupported scheme: " + uri);
+            if (uri.getHost() == null)
+                throw new IllegalArgumentException("no host in " + uri);
+            this.uri = uri;
+            return this;
+        }
+
+        /**
+         * Adds a value to the given header.
+         */
+        public Builder header(String name, String value) {
+            checkHeader(name, value);
+            headers.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+            return this;
+        }
+
+        /**
+         * Sets the given header to a single value, replacing any others.
+         */
+        public Builder setHeader(String name, String value) {
+            checkHeader(name, value);
+            List<String> l = new ArrayList<>();
+            l.add(value);
+            headers.put(name, l);
+            return this;
+        }
+
+        public Builder GET() {
+            return method("GET", BodyPublishers.noBody());
+        }
+
+        public Builder POST(BodyPublisher body) {
+            return method("POST", body);
+        }
+
+        public Builder PUT(BodyPublisher body) {
+            return method("PUT", body);
+        }
+
+        public Builder DELETE() {
+            return method("DELETE", BodyPublishers.noBody());
+        }
+
+        public Builder method(String method, BodyPublisher body) {
+            if (method.isEmpty() || !isToken(method))
+                throw new IllegalArgumentException("illegal method: " + method);
+            this.method = method;
+            this.body = Objects.requireNonNull(body);
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero())
+                throw new IllegalArgumentException("non-positive timeout");
+            this.timeout = timeout;
+            return this;
+        }
+
+        public AsyncRequest build() {
+            return new AsyncRequest(this);
+        }
+
+        private static void checkHeader(String name, String value) {
+            if (name.isEmpty() || !isToken(name))
+                throw new IllegalArgumentException("illegal header name: " + name);
+            if (value.indexOf('\r') >= 0 || value.indexOf('\n') >= 0)
+                throw new IllegalArgumentException("illegal value for header " + name);
+            switch (name.toLowerCase()) {
+            case "content-length":
+            case "transfer-encoding":
+            case "connection":
+            case "host":
+            case "upgrade":
+                throw new IllegalArgumentException("restricted header: " + name);
+            }
+        }
+
+        private static boolean isToken(String s) {
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c <= ' ' || c >= 0x7f || "()<>@,;:\\\"/[]?={}".indexOf(c) >= 0)
+                    return false;
+            }
+            return true;
+        }
+    }
+}
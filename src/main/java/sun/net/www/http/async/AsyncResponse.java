@@ -0,0 +1,68 @@
+package sun.net.www.http.async;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The response to an {@link AsyncRequest}, with its body as produced by
+ * the response's {@link BodySubscriber}.
+ *
+ * @param <T> the type of the body
+ */
+public final class AsyncResponse<T> {
+
+    private final AsyncRequest request;
+    private final String version;
+    private final int statusCode;
+    private final Map<String,List<String>> headers;
+    private final T body;
+
+    AsyncResponse(AsyncRequest request, String version, int statusCode,
+                  Map<String,List<String>> headers, T body) {
+        this.request = request;
+        this.version = version;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public AsyncRequest request() {
+        return request;
+    }
+
+    /**
+     * Returns the protocol version of the status line, e.g. "HTTP/1.1".
+     */
+    public String version() {
+        return version;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the headers of the response, whose names are compared
+     * ignoring case.
+     */
+    public Map<String,List<String>> headers() {
+        return headers;
+    }
+
+    /**
+     * Returns the first value of the given header, or null.
+     */
+    public String firstValue(String name) {
+        List<String> l = headers.get(name);
+        return (l == null || l.isEmpty()) ? null : l.get(0);
+    }
+
+    public T body() {
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return request + " " + statusCode;
+    }
+}
@@ -0,0 +1,26 @@
+package sun.net.www.http.async;
+
+/**
+ * A producer of the buffers of a request body. Implementations for common
+ * bodies are given by {@link BodyPublishers}.
+ *
+ * The client subscribes to a publisher when it starts to send a request,
+ * and requests a buffer whenever it has written the previous one, so a
+ * publisher never gets ahead of the connection. A publisher must accept
+ * more than one subscription, as a request that failed on a connection
+ * taken from the pool is sent again on a new one.
+ */
+public interface BodyPublisher {
+
+    /**
+     * Returns the length of the body, or -1 if it is not known, in which
+     * case the body is sent with the chunked transfer coding.
+     */
+    long contentLength();
+
+    /**
+     * Subscribes to the body. The subscriber's onSubscribe method is called
+     * before this method returns, or it may be called from another thread.
+     */
+    void subscribe(BodySubscriber<?> subscriber);
+}
@@ -0,0 +1,138 @@
+package sun.net.www.http.async;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Implementations of {@link BodyPublisher} for bodies held in memory or
+ * produced by an iterator.
+ */
+public final class BodyPublishers {
+    private BodyPublishers() { }
+
+    /**
+     * Returns a publisher of an empty body.
+     */
+    public static BodyPublisher noBody() {
+        return new IterablePublisher(Collections.<byte[]>emptyList(), 0);
+    }
+
+    public static BodyPublisher ofByteArray(byte[] bytes) {
+        return new IterablePublisher(Collections.singletonList(bytes), bytes.length);
+    }
+
+    public static BodyPublisher ofString(String s, Charset charset) {
+        return ofByteArray(s.getBytes(charset));
+    }
+
+    /**
+     * Returns a publisher of the arrays of the given Iterable, whose iterator
+     * is called for the next array when the client requests it. The body
+     * is sent with the chunked transfer coding.
+     */
+    public static BodyPublisher ofByteArrays(Iterable<byte[]> iterable) {
+        return new IterablePublisher(Objects.requireNonNull(iterable), -1);
+    }
+
+    private static final class IterablePublisher implements BodyPublisher {
+        private final Iterable<byte[]> arrays;
+        private final long length;
+
+        IterablePublisher(Iterable<byte[]> arrays, long length) {
+            this.arrays = arrays;
+            this.length = length;
+        }
+
+        public long contentLength() {
+            return length;
+        }
+
+        public void subscribe(BodySubscriber<?> subscriber) {
+            IteratorSubscription s;
+            try {
+                s = new IteratorSubscription(arrays.iterator(), subscriber);
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new IteratorSubscription(null, subscriber));
+                subscriber.onError(e);
+                return;
+            }
+            subscriber.onSubscribe(s);
+        }
+    }
+
+    /*
+     * Sends the arrays of an iterator as they are requested. A subscriber
+     * that requests more from onNext does not recurse into onNext, the
+     * thread already sending carries on instead.
+     */
+    private static final class IteratorSubscription implements Subscription {
+        private final Iterator<byte[]> it;
+        private final BodySubscriber<?> subscriber;
+        private long demand;
+        private boolean sending;
+        private boolean done;
+
+        IteratorSubscription(Iterator<byte[]> it, BodySubscriber<?> subscriber) {
+            this.it = it;
+            this.subscriber = subscriber;
+            this.done = (it == null);
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                if (finish())
+                    subscriber.onError(new IllegalArgumentException(
+                        "non-positive request: " + n));
+                return;
+            }
+            synchronized (this) {
+                demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                if (sending || done)
+                    return;
+                sending = true;
+            }
+            for (;;) {
+                ByteBuffer next = null;
+                boolean complete = false;
+                try {
+                    synchronized (this) {
+                        if (done || demand == 0) {
+                            sending = false;
+                            return;
+                        }
+                        if (it.hasNext()) {
+                            next = ByteBuffer.wrap(it.next());
+                            demand--;
+                        } else {
+                            complete = true;
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    if (finish())
+                        subscriber.onError(e);
+                    return;
+                }
+                if (complete) {
+                    if (finish())
+                        subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(next);
+            }
+        }
+
+        public void cancel() {
+            finish();
+        }
+
+        private synchronized boolean finish() {
+            boolean wasDone = done;
+            done = true;
+            sending = false;
+            return !wasDone;
+        }
+    }
+}
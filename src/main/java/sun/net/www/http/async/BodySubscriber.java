@@ -0,0 +1,40 @@
+package sun.net.www.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A consumer of the buffers of a body.
+ *
+ * The client subscribes one to the body of each response. onSubscribe is
+ * called once the response headers have been read, onNext once for each
+ * buffer requested, and then onComplete or onError. These methods are
+ * called on a selector thread of the client and must not block; the
+ * subscribers of {@link BodySubscribers#ofInputStream} leave the blocking
+ * to the threads that read the stream.
+ *
+ * The client itself subscribes to the {@link BodyPublisher} of a request
+ * body, requesting a buffer whenever the previous one has been written.
+ *
+ * @param <T> the type of the body
+ */
+public interface BodySubscriber<T> {
+
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Receives the next buffer. The buffer is not used by the publisher
+     * afterwards.
+     */
+    void onNext(ByteBuffer item);
+
+    void onError(Throwable throwable);
+
+    void onComplete();
+
+    /**
+     * Returns the stage completed with the body. The response future of
+     * {@link AsyncHttpClient#sendAsync} completes when this stage does.
+     */
+    CompletionStage<T> getBody();
+}
@@ -0,0 +1,203 @@
+package sun.net.www.http.async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Implementations of {@link BodySubscriber} that collect a response body
+ * in memory, discard it, or hand it to a blocking InputStream.
+ */
+public final class BodySubscribers {
+    private BodySubscribers() { }
+
+    public static BodySubscriber<byte[]> ofByteArray() {
+        return new ByteArraySubscriber<>(Function.identity());
+    }
+
+    public static BodySubscriber<String> ofString(Charset charset) {
+        return new ByteArraySubscriber<>(b -> new String(b, charset));
+    }
+
+    /**
+     * Returns a subscriber that reads and drops the body, so that the
+     * connection can be reused.
+     */
+    public static BodySubscriber<Void> discarding() {
+        return new ByteArraySubscriber<Void>(b -> null) {
+            @Override
+            public void onNext(ByteBuffer item) { }
+        };
+    }
+
+    /**
+     * Returns a subscriber whose body is an InputStream, available as soon
+     * as the response headers have been read. Only a few buffers are read
+     * ahead of the stream, so a slow reader slows down the connection
+     * rather than filling the heap. Closing the stream before its end
+     * closes the connection.
+     */
+    public static BodySubscriber<InputStream> ofInputStream() {
+        return new InputStreamSubscriber();
+    }
+
+    private static class ByteArraySubscriber<T> implements BodySubscriber<T> {
+        private final Function<byte[],T> finisher;
+        private final CompletableFuture<T> body = new CompletableFuture<>();
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private long size;
+
+        ByteArraySubscriber(Function<byte[],T> finisher) {
+            this.finisher = finisher;
+        }
+
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        public void onNext(ByteBuffer item) {
+            received.add(item);
+            size += item.remaining();
+        }
+
+        public void onError(Throwable throwable) {
+            received.clear();
+            body.completeExceptionally(throwable);
+        }
+
+        public void onComplete() {
+            if (size > Integer.MAX_VALUE - 8) {
+                onError(new IOException("body too large: " + size + " bytes"));
+                return;
+            }
+            byte[] b = new byte[(int)size];
+            int off = 0;
+            for (ByteBuffer bb : received) {
+                int n = bb.remaining();
+                bb.get(b, off, n);
+                off += n;
+            }
+            received.clear();
+            try {
+                body.complete(finisher.apply(b));
+            } catch (RuntimeException e) {
+                body.completeExceptionally(e);
+            }
+        }
+
+        public CompletionStage<T> getBody() {
+            return body;
+        }
+    }
+
+    private static final class InputStreamSubscriber extends InputStream
+        implements BodySubscriber<InputStream>
+    {
+        // the buffers requested ahead of the reader
+        private static final int MAX_BUFFERS = 4;
+
+        // marks the end of the body in the queue
+        private static final ByteBuffer LAST = ByteBuffer.allocate(0);
+
+        private final BlockingQueue<ByteBuffer> buffers =
+            new ArrayBlockingQueue<>(MAX_BUFFERS + 1);
+        private volatile Subscription subscription;
+        private volatile Throwable failure;
+
+        // used by the reading thread only
+        private ByteBuffer current;
+        private boolean closed;
+
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(MAX_BUFFERS);
+        }
+
+        public void onNext(ByteBuffer item) {
+            buffers.offer(item);
+        }
+
+        public void onError(Throwable throwable) {
+            failure = throwable;
+            buffers.offer(LAST);
+        }
+
+        public void onComplete() {
+            buffers.offer(LAST);
+        }
+
+        public CompletionStage<InputStream> getBody() {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        /*
+         * Returns the buffer to read from, or null at the end of the body.
+         */
+        private ByteBuffer current() throws IOException {
+            if (closed)
+                throw new IOException("stream closed");
+            while (current == null || !current.hasRemaining()) {
+                if (current == LAST) {
+                    Throwable t = failure;
+                    if (t != null)
+                        throw new IOException(t.getMessage(), t);
+                    return null;
+                }
+                if (current != null)
+                    subscription.request(1);
+                try {
+                    current = buffers.take();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer bb = current();
+            return (bb == null) ? -1 : bb.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            ByteBuffer bb = current();
+            if (bb == null)
+                return -1;
+            int n = Math.min(len, bb.remaining());
+            bb.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            ByteBuffer bb = current;
+            return (bb == null || closed) ? 0 : bb.remaining();
+        }
+
+        @Override
+        public void close() {
+            if (closed)
+                return;
+            closed = true;
+            if (current != LAST) {
+                Subscription s = subscription;
+                if (s != null)
+                    s.cancel();
+            }
+            buffers.clear();
+        }
+    }
+}
@@ -0,0 +1,543 @@
+package sun.net.www.http.async;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A request and its response on a connection: writes the request with its
+ * body and parses the response, handing the body to its subscriber as it
+ * is requested.
+ *
+ * The exchange is driven by its connection on the selector thread. The
+ * request body publisher and the response body subscriber may call in
+ * from other threads; they only queue buffers or add demand, and wake the
+ * connection up.
+ */
+final class Exchange<T> {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    // the states of the response parser
+    private static final int STATUS_LINE = 0;
+    private static final int HEADERS = 1;
+    private static final int FIXED_BODY = 2;
+    private static final int CHUNK_SIZE = 3;
+    private static final int CHUNK_DATA = 4;
+    private static final int CHUNK_END = 5;
+    private static final int TRAILERS = 6;
+    private static final int BODY_TO_EOF = 7;
+    private static final int DONE = 8;
+
+    final AsyncHttpClient client;
+    final AsyncRequest request;
+    final CompletableFuture<AsyncResponse<T>> result = new CompletableFuture<>();
+    private final Supplier<? extends BodySubscriber<T>> handler;
+
+    // the nanoTime by which the response must have been read, or 0
+    final long deadline;
+
+    // whether the request was already sent again on a new connection
+    boolean retried;
+
+    private volatile AsyncConnection connection;
+
+    /* request side */
+
+    private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> bodyBuffers =
+        new ConcurrentLinkedQueue<>();
+    private volatile Subscription bodySubscription;
+    private volatile boolean bodyComplete;
+    private volatile Throwable bodyFailure;
+    private boolean chunked;
+    private boolean requestSent;
+
+    /* response side */
+
+    private ByteBuffer in;
+    private int state;
+    private long remaining;
+    private boolean responseStarted;
+    private String version;
+    private int status;
+    private Map<String,List<String>> headers;
+    private boolean keepAlive;
+    private BodySubscriber<T> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    private volatile boolean cancelled;
+
+    Exchange(AsyncHttpClient client, AsyncRequest request,
+             Supplier<? extends BodySubscriber<T>> handler)
+    {
+        this.client = client;
+        this.request = request;
+        this.handler = handler;
+        this.deadline = (request.timeout() == null) ? 0
+            : System.nanoTime() + request.timeout().toNanos();
+    }
+
+    /**
+     * Starts the exchange on the given connection. Called on the
+     * connection's selector thread.
+     */
+    void start(AsyncConnection c) {
+        connection = c;
+        // from scratch, if this is a retry
+        out.clear();
+        bodyBuffers.clear();
+        bodyComplete = false;
+        bodyFailure = null;
+        chunked = false;
+        requestSent = false;
+        responseStarted = false;
+        in = ByteBuffer.allocate(BUFFER_SIZE);
+        in.flip();
+        state = STATUS_LINE;
+        headers = newHeaders();
+        out.add(requestHead());
+        request.bodyPublisher().subscribe(new RequestBodySubscriber());
+    }
+
+    /**
+     * Tells whether the exchange may be sent again on a new connection
+     * after a failure of this one: nothing has been read of the response
+     * and the request is idempotent, without a body.
+     */
+    boolean canRetry() {
+        if (retried || responseStarted || result.isDone())
+            return false;
+        switch (request.method()) {
+        case "GET": case "HEAD": case "OPTIONS": case "TRACE": case "DELETE":
+            return request.bodyPublisher().contentLength() == 0;
+        default:
+            return false;
+        }
+    }
+
+    private ByteBuffer requestHead() {
+        URI uri = request.uri();
+        StringBuilder sb = new StringBuilder(256);
+        String path = uri.getRawPath();
+        sb.append(request.method()).append(' ')
+          .append((path == null || path.isEmpty()) ? "/" : path);
+        if (uri.getRawQuery() != null)
+            sb.append('?').append(uri.getRawQuery());
+        sb.append(" HTTP/1.1\r\nHost: ").append(uri.getHost());
+        int port = uri.getPort();
+        if (port != -1 && port != connection.route.defaultPort())
+            sb.append(':').append(port);
+        sb.append("\r\n");
+        Map<String,List<String>> h = request.headers();
+        if (!h.containsKey("User-Agent"))
+            sb.append("User-Agent: ").append(AsyncHttpClient.USER_AGENT).append("\r\n");
+        for (Map.Entry<String,List<String>> e : h.entrySet()) {
+            for (String v : e.getValue()) {
+                sb.append(e.getKey()).append(": ").append(v).append("\r\n");
+            }
+        }
+        long length = request.bodyPublisher().contentLength();
+        if (length < 0) {
+            chunked = true;
+            sb.append("Transfer-Encoding: chunked\r\n");
+        } else if (length > 0 || !(request.method().equals("GET")
+                                   || request.method().equals("HEAD"))) {
+            sb.append("Content-Length: ").append(length).append("\r\n");
+        }
+        sb.append("\r\n");
+        return ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /*
+     * Receives the request body, the client requesting one buffer ahead
+     * of the one being written.
+     */
+    private final class RequestBodySubscriber implements BodySubscriber<Void> {
+        public void onSubscribe(Subscription s) {
+            bodySubscription = s;
+            s.request(1);
+        }
+
+        public void onNext(ByteBuffer item) {
+            bodyBuffers.add(item);
+            wakeup();
+        }
+
+        public void onError(Throwable t) {
+            bodyFailure = t;
+            wakeup();
+        }
+
+        public void onComplete() {
+            bodyComplete = true;
+            wakeup();
+        }
+
+        public CompletableFuture<Void> getBody() {
+            return null;
+        }
+    }
+
+    private void wakeup() {
+        AsyncConnection c = connection;
+        if (c != null)
+            c.wakeup();
+    }
+
+    /**
+     * Writes what can be written of the request. Returns OP_WRITE if the
+     * socket is full, 0 otherwise.
+     */
+    int write(Transport t) throws IOException {
+        if (requestSent)
+            return 0;
+        for (;;) {
+            ByteBuffer b = out.peek();
+            if (b == null) {
+                if (!nextBody())
+                    return t.flush() ? 0 : SelectionKey.OP_WRITE;
+                continue;
+            }
+            t.write(b);
+            if (b.hasRemaining())
+                return SelectionKey.OP_WRITE;
+            out.poll();
+        }
+    }
+
+    /*
+     * Queues the next buffer of the body to write, with its chunk framing.
+     * Returns false if there is none yet, or the request has been sent.
+     */
+    private boolean nextBody() throws IOException {
+        ByteBuffer b = bodyBuffers.poll();
+        if (b != null) {
+            bodySubscription.request(1);
+            if (!b.hasRemaining())
+                return true;
+            if (chunked) {
+                out.add(ascii(Integer.toHexString(b.remaining()) + "\r\n"));
+                out.add(b);
+                out.add(ascii("\r\n"));
+            } else {
+                out.add(b);
+            }
+            return true;
+        }
+        Throwable f = bodyFailure;
+        if (f != null)
+            throw new IOException("request body failed", f);
+        if (!bodyComplete)
+            return false;
+        if (chunked) {
+            chunked = false;
+            out.add(ascii("0\r\n\r\n"));
+            return true;
+        }
+        requestSent = true;
+        return false;
+    }
+
+    private static ByteBuffer ascii(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reads and parses what is available of the response, as long as the
+     * body subscriber has demand. Returns OP_READ if more input is needed,
+     * 0 if the exchange is done or waits for demand.
+     */
+    int read(Transport t) throws IOException {
+        for (;;) {
+            if (cancelled && state != DONE)
+                throw new IOException("response body cancelled");
+            if (parse())
+                return 0;
+            in.compact();
+            int n;
+            try {
+                n = t.read(in);
+            } finally {
+                in.flip();
+            }
+            if (n == 0)
+                return SelectionKey.OP_READ;
+            if (n < 0) {
+                if (state != BODY_TO_EOF)
+                    throw new EOFException("connection closed before the response was complete");
+                finish();
+                return 0;
+            }
+            responseStarted = true;
+        }
+    }
+
+    /*
+     * Parses the buffered input. Returns true if the exchange is done, or
+     * the body subscriber has no demand; false if more input is needed.
+     */
+    private boolean parse() throws IOException {
+        for (;;) {
+            switch (state) {
+            case STATUS_LINE: {
+                String line = readLine();
+                if (line == null)
+                    return false;
+                parseStatusLine(line);
+                state = HEADERS;
+                break;
+            }
+            case HEADERS: {
+                String line = readLine();
+                if (line == null)
+                    return false;
+                if (line.isEmpty()) {
+                    endOfHeaders();
+                } else {
+                    int i = line.indexOf(':');
+                    if (i <= 0)
+                        throw new ProtocolException("invalid header: " + line);
+                    headers.computeIfAbsent(line.substring(0, i).trim(),
+                                            k -> new ArrayList<>(1))
+                           .add(line.substring(i + 1).trim());
+                }
+                break;
+            }
+            case FIXED_BODY:
+            case CHUNK_DATA:
+            case BODY_TO_EOF:
+                if (remaining == 0) {
+                    if (state == FIXED_BODY)
+                        finish();
+                    else
+                        state = CHUNK_END;
+                    break;
+                }
+                if (!in.hasRemaining())
+                    return false;
+                if (demand.get() == 0)
+                    return true;
+                int n = (int)Math.min(remaining, in.remaining());
+                if (state != BODY_TO_EOF)
+                    remaining -= n;
+                deliver(n);
+                break;
+            case CHUNK_SIZE: {
+                String line = readLine();
+                if (line == null)
+                    return false;
+                int i = line.indexOf(';');
+                try {
+                    remaining = Long.parseLong(
+                        (i < 0 ? line : line.substring(0, i)).trim(), 16);
+                } catch (NumberFormatException e) {
+                    remaining = -1;
+                }
+                if (remaining < 0)
+                    throw new ProtocolException("invalid chunk size: " + line);
+                state = (remaining == 0) ? TRAILERS : CHUNK_DATA;
+                break;
+            }
+            case CHUNK_END: {
+                String line = readLine();
+                if (line == null)
+                    return false;
+                if (!line.isEmpty())
+                    throw new ProtocolException("missing CRLF after chunk");
+                state = CHUNK_SIZE;
+                break;
+            }
+            case TRAILERS: {
+                String line = readLine();
+                if (line == null)
+                    return false;
+                if (line.isEmpty())
+                    finish();
+                break;
+            }
+            default:
+                return true;
+            }
+        }
+    }
+
+    /*
+     * Returns the next line of input without its CRLF, or null if it has
+     * not been read in full.
+     */
+    private String readLine() throws IOException {
+        int start = in.position();
+        int limit = in.limit();
+        for (int i = start; i < limit; i++) {
+            if (in.get(i) == '\n') {
+                int end = (i > start && in.get(i - 1) == '\r') ? i - 1 : i;
+                byte[] b = new byte[end - start];
+                in.get(b);
+                in.position(i + 1);
+                return new String(b, StandardCharsets.ISO_8859_1);
+            }
+        }
+        if (start == 0 && limit == in.capacity())
+            throw new ProtocolException("line too long in response");
+        return null;
+    }
+
+    private void parseStatusLine(String line) throws IOException {
+        // HTTP/1.1 200 OK
+        int sp = line.indexOf(' ');
+        if (!line.startsWith("HTTP/") || sp < 0 || line.length() < sp + 4)
+            throw new ProtocolException("invalid status line: " + line);
+        version = line.substring(0, sp);
+        try {
+            status = Integer.parseInt(line.substring(sp + 1, sp + 4));
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("invalid status line: " + line);
+        }
+    }
+
+    private void endOfHeaders() throws IOException {
+        if (status / 100 == 1 && status != 101) {
+            // an interim response, the final one follows
+            headers = newHeaders();
+            state = STATUS_LINE;
+            return;
+        }
+        String connection = joined("Connection");
+        if (version.equals("HTTP/1.0")) {
+            keepAlive = connection != null
+                && connection.toLowerCase().contains("keep-alive");
+        } else {
+            keepAlive = connection == null
+                || !connection.toLowerCase().contains("close");
+        }
+        String te = joined("Transfer-Encoding");
+        String cl = joined("Content-Length");
+        if (request.method().equals("HEAD") || status == 204 || status == 304
+            || status == 101) {
+            state = FIXED_BODY;
+            remaining = 0;
+            if (status == 101)
+                keepAlive = false;
+        } else if (te != null && te.toLowerCase().contains("chunked")) {
+            state = CHUNK_SIZE;
+        } else if (cl != null) {
+            try {
+                remaining = Long.parseLong(cl.trim());
+            } catch (NumberFormatException e) {
+                remaining = -1;
+            }
+            if (remaining < 0)
+                throw new ProtocolException("invalid Content-Length: " + cl);
+            state = FIXED_BODY;
+        } else {
+            state = BODY_TO_EOF;
+            remaining = Long.MAX_VALUE;
+            keepAlive = false;
+        }
+
+        for (Map.Entry<String,List<String>> e : headers.entrySet()) {
+            e.setValue(Collections.unmodifiableList(e.getValue()));
+        }
+        Map<String,List<String>> h = Collections.unmodifiableMap(headers);
+        String v = version;
+        int sc = status;
+        subscriber = handler.get();
+        subscriber.getBody().whenCompleteAsync((body, ex) -> {
+            if (ex != null)
+                result.completeExceptionally(ex);
+            else
+                result.complete(new AsyncResponse<>(request, v, sc, h, body));
+        }, client.executor);
+        subscriber.onSubscribe(new ResponseBodySubscription());
+    }
+
+    private String joined(String name) {
+        List<String> l = headers.get(name);
+        return (l == null) ? null : String.join(",", l);
+    }
+
+    private static Map<String,List<String>> newHeaders() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private final class ResponseBodySubscription implements Subscription {
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                return;
+            }
+            long d, nd;
+            do {
+                d = demand.get();
+                nd = (d + n < 0) ? Long.MAX_VALUE : d + n;
+            } while (!demand.compareAndSet(d, nd));
+            // a subscriber that asks for more from onNext is already
+            // being served
+            AsyncConnection c = connection;
+            if (d == 0 && c != null && !c.loop.inLoop())
+                c.wakeup();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            wakeup();
+        }
+    }
+
+    private void deliver(int n) {
+        ByteBuffer b = ByteBuffer.allocate(n);
+        int limit = in.limit();
+        in.limit(in.position() + n);
+        b.put(in);
+        in.limit(limit);
+        b.flip();
+        if (demand.get() != Long.MAX_VALUE)
+            demand.decrementAndGet();
+        subscriber.onNext(b);
+    }
+
+    /*
+     * The response has been read: the connection is reused if the request
+     * has been sent in full and neither side asked to close it.
+     */
+    private void finish() {
+        state = DONE;
+        Subscription s = bodySubscription;
+        if (!requestSent && s != null)
+            s.cancel();
+        subscriber.onComplete();
+        connection.exchangeDone(this, keepAlive && requestSent && !in.hasRemaining());
+    }
+
+    boolean isDone() {
+        return state == DONE;
+    }
+
+    /**
+     * Fails the exchange. Called once, if it did not finish.
+     */
+    void fail(Throwable t) {
+        Subscription s = bodySubscription;
+        if (s != null)
+            s.cancel();
+        state = DONE;
+        if (subscriber != null && !cancelled)
+            subscriber.onError(t);
+        else
+            client.executor.execute(() -> result.completeExceptionally(t));
+    }
+}
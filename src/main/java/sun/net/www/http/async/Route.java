@@ -0,0 +1,114 @@
+package sun.net.www.http.async;
+
+import java.util.ArrayDeque;
+
+/**
+ * The connections of a client to a scheme, host and port. At most
+ * maxConnectionsPerRoute are open; exchanges wait in turn for one when
+ * they all are busy. Idle connections are reused last in, first out, so
+ * that the others time out when the load drops.
+ */
+final class Route {
+
+    final AsyncHttpClient client;
+    final String host;
+    final int port;
+    final boolean secure;
+
+    private final ArrayDeque<AsyncConnection> idle = new ArrayDeque<>();
+    private final ArrayDeque<Exchange<?>> waiting = new ArrayDeque<>();
+    // connections open or being opened
+    private int open;
+
+    Route(AsyncHttpClient client, String host, int port, boolean secure) {
+        this.client = client;
+        this.host = host;
+        this.port = port;
+        this.secure = secure;
+    }
+
+    int defaultPort() {
+        return secure ? 443 : 80;
+    }
+
+    /**
+     * Runs the given exchange on an idle connection, on a new one if there
+     * is room, or else queues it for the next connection to be released.
+     */
+    void dispatch(Exchange<?> e) {
+        AsyncConnection c;
+        synchronized (this) {
+            c = idle.pollLast();
+            if (c == null) {
+                if (open >= client.maxConnectionsPerRoute) {
+                    waiting.add(e);
+                    return;
+                }
+                open++;
+            }
+        }
+        if (c != null)
+            c.start(e);
+        else
+            new AsyncConnection(this, client.nextLoop()).open(e);
+    }
+
+    /**
+     * Hands a connection whose exchange is done to the next waiting
+     * exchange, or puts it in the pool.
+     */
+    void release(AsyncConnection c) {
+        Exchange<?> next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                idle.addLast(c);
+                return;
+            }
+        }
+        c.start(next);
+    }
+
+    /**
+     * Takes an idle connection out of the pool, to close it. Returns
+     * false if it is not idle, that is it has been taken for an exchange
+     * already.
+     */
+    synchronized boolean removeIdle(AsyncConnection c) {
+        return idle.removeLastOccurrence(c);
+    }
+
+    /**
+     * Gives the place of a closed connection to a waiting exchange.
+     */
+    void closed(AsyncConnection c) {
+        Exchange<?> next;
+        synchronized (this) {
+            open--;
+            next = waiting.poll();
+            if (next == null)
+                return;
+            open++;
+        }
+        new AsyncConnection(this, client.nextLoop()).open(next);
+    }
+
+    /**
+     * Fails the waiting exchanges, the client being closed.
+     */
+    void close(Throwable cause) {
+        Exchange<?>[] w;
+        synchronized (this) {
+            w = waiting.toArray(new Exchange<?>[0]);
+            waiting.clear();
+        }
+        for (Exchange<?> e : w) {
+            e.fail(cause);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (secure ? "https://" : "http://") + host + ":" + port;
+    }
+}
@@ -0,0 +1,204 @@
+package sun.net.www.http.async;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+
+/**
+ * TLS over a non-blocking channel, with the SSLEngine of the client's
+ * SSLContext.
+ *
+ * The delegated tasks of the engine are run on the selector thread;
+ * they are short for the key exchanges of a client.
+ */
+final class SSLTransport extends Transport {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final SSLEngine engine;
+
+    // records read from the channel, in write mode
+    private ByteBuffer netIn;
+    // records to write to the channel, in read mode
+    private ByteBuffer netOut;
+    // data unwrapped and not read yet, in read mode
+    private ByteBuffer appIn;
+
+    SSLTransport(SocketChannel chan, SSLEngine engine) throws SSLException {
+        super(chan);
+        this.engine = engine;
+        engine.setUseClientMode(true);
+        SSLSession s = engine.getSession();
+        netIn = ByteBuffer.allocate(s.getPacketBufferSize());
+        netOut = ByteBuffer.allocate(s.getPacketBufferSize());
+        netOut.flip();
+        appIn = ByteBuffer.allocate(s.getApplicationBufferSize());
+        appIn.flip();
+        engine.beginHandshake();
+    }
+
+    @Override
+    int handshake() throws IOException {
+        for (;;) {
+            switch (engine.getHandshakeStatus()) {
+            case NEED_TASK:
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+                break;
+            case NEED_WRAP:
+                if (!flush())
+                    return SelectionKey.OP_WRITE;
+                wrap(EMPTY);
+                break;
+            case NEED_UNWRAP:
+                // our flight must be on its way before we wait for the peer
+                if (!flush())
+                    return SelectionKey.OP_WRITE;
+                SSLEngineResult r = unwrap();
+                if (r.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    int n = chan.read(netIn);
+                    if (n < 0)
+                        throw new EOFException("connection closed during TLS handshake");
+                    if (n == 0)
+                        return SelectionKey.OP_READ;
+                } else if (r.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    throw new SSLException("connection closed during TLS handshake");
+                }
+                break;
+            default:
+                return flush() ? 0 : SelectionKey.OP_WRITE;
+            }
+        }
+    }
+
+    @Override
+    int read(ByteBuffer dst) throws IOException {
+        for (;;) {
+            if (appIn.hasRemaining()) {
+                int n = Math.min(appIn.remaining(), dst.remaining());
+                int limit = appIn.limit();
+                appIn.limit(appIn.position() + n);
+                dst.put(appIn);
+                appIn.limit(limit);
+                return n;
+            }
+            SSLEngineResult r = unwrap();
+            switch (r.getStatus()) {
+            case BUFFER_UNDERFLOW:
+                int n = chan.read(netIn);
+                if (n <= 0)
+                    return n;
+                break;
+            case CLOSED:
+                return -1;
+            default:
+                if (isHandshaking() && handshake() != 0)
+                    return 0;
+            }
+        }
+    }
+
+    @Override
+    void write(ByteBuffer src) throws IOException {
+        if (isHandshaking() && handshake() != 0)
+            return;
+        while (src.hasRemaining() && flush()) {
+            wrap(src);
+        }
+    }
+
+    @Override
+    boolean flush() throws IOException {
+        while (netOut.hasRemaining()) {
+            if (chan.write(netOut) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    void close() {
+        try {
+            engine.closeOutbound();
+            if (flush()) {
+                wrap(EMPTY);
+                flush();
+            }
+        } catch (IOException ignore) {
+        } finally {
+            super.close();
+        }
+    }
+
+    private boolean isHandshaking() {
+        HandshakeStatus hs = engine.getHandshakeStatus();
+        return hs != HandshakeStatus.NOT_HANDSHAKING
+            && hs != HandshakeStatus.FINISHED;
+    }
+
+    private SSLEngineResult wrap(ByteBuffer src) throws SSLException {
+        for (;;) {
+            netOut.compact();
+            SSLEngineResult r;
+            try {
+                r = engine.wrap(src, netOut);
+            } finally {
+                netOut.flip();
+            }
+            if (r.getStatus() != SSLEngineResult.Status.BUFFER_OVERFLOW)
+                return r;
+            netOut = grow(netOut, engine.getSession().getPacketBufferSize(), true);
+        }
+    }
+
+    private SSLEngineResult unwrap() throws SSLException {
+        for (;;) {
+            netIn.flip();
+            appIn.compact();
+            SSLEngineResult r;
+            try {
+                r = engine.unwrap(netIn, appIn);
+            } finally {
+                netIn.compact();
+                appIn.flip();
+            }
+            switch (r.getStatus()) {
+            case BUFFER_OVERFLOW:
+                appIn = grow(appIn, engine.getSession().getApplicationBufferSize(), true);
+                break;
+            case BUFFER_UNDERFLOW:
+                // a record larger than the buffer
+                int size = engine.getSession().getPacketBufferSize();
+                if (netIn.capacity() < size)
+                    netIn = grow(netIn, size, false);
+                return r;
+            default:
+                return r;
+            }
+        }
+    }
+
+    /*
+     * Returns a buffer with room for size more bytes, and the content of
+     * b, which is in read mode if readMode is set.
+     */
+    private static ByteBuffer grow(ByteBuffer b, int size, boolean readMode) {
+        int used = readMode ? b.remaining() : b.position();
+        ByteBuffer nb = ByteBuffer.allocate(used + size);
+        if (!readMode)
+            b.flip();
+        nb.put(b);
+        if (readMode)
+            nb.flip();
+        return nb;
+    }
+}
@@ -0,0 +1,165 @@
+package sun.net.www.http.async;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A thread that runs a Selector for the connections of a client, along
+ * with tasks posted by other threads and timers.
+ *
+ * All the state of a connection is used on the thread of its loop only.
+ * Other threads post a task with execute to act on a connection.
+ */
+final class SelectorLoop extends Thread {
+
+    private final Selector selector;
+    private final ConcurrentLinkedQueue<Runnable> tasks =
+        new ConcurrentLinkedQueue<>();
+
+    // used on this thread only
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+
+    private volatile boolean closed;
+
+    SelectorLoop(String name) throws IOException {
+        super(name);
+        setDaemon(true);
+        selector = Selector.open();
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == this;
+    }
+
+    /**
+     * Runs the given task on this thread, after the events in progress.
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (!inLoop())
+            selector.wakeup();
+    }
+
+    /**
+     * Schedules a task to run on this thread after the given number of
+     * milliseconds. Called on this thread only.
+     */
+    Timer schedule(long millis, Runnable task) {
+        Timer t = new Timer(System.nanoTime() + millis * 1000000L, task);
+        timers.add(t);
+        return t;
+    }
+
+    /**
+     * A scheduled task, that may be cancelled on the loop thread.
+     */
+    static final class Timer implements Comparable<Timer> {
+        final long deadline;
+        final Runnable task;
+        boolean cancelled;
+
+        Timer(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        public int compareTo(Timer o) {
+            return Long.compare(deadline - o.deadline, 0);
+        }
+    }
+
+    /**
+     * Stops the loop, and closes its connections with the given exception.
+     */
+    void close(IOException cause) {
+        execute(() -> {
+            closed = true;
+            for (SelectionKey k : selector.keys()) {
+                Object a = k.attachment();
+                if (a instanceof AsyncConnection)
+                    ((AsyncConnection)a).abort(cause);
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!closed) {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    run(task);
+                }
+                long wait = runTimers();
+                if (closed)
+                    break;
+                int n = tasks.isEmpty() ? selector.select(wait) : selector.selectNow();
+                if (n == 0)
+                    continue;
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey k = it.next();
+                    it.remove();
+                    AsyncConnection c = (AsyncConnection)k.attachment();
+                    run(c::process);
+                }
+            }
+        } catch (IOException e) {
+            // the selector failed, there is nothing left to run the
+            // connections on
+            for (SelectionKey k : selector.keys()) {
+                Object a = k.attachment();
+                if (a instanceof AsyncConnection)
+                    ((AsyncConnection)a).abort(e);
+            }
+        } finally {
+            try {
+                selector.close();
+            } catch (IOException ignore) { }
+        }
+    }
+
+    /*
+     * Runs the due timers, and returns the number of milliseconds to
+     * the next, or 0 if there is none.
+     */
+    private long runTimers() {
+        Timer t;
+        while ((t = timers.peek()) != null) {
+            if (t.cancelled) {
+                timers.poll();
+                continue;
+            }
+            long left = t.deadline - System.nanoTime();
+            if (left > 0)
+                return Math.max(1, left / 1000000);
+            timers.poll();
+            run(t.task);
+        }
+        return 0;
+    }
+
+    // a failing task must not stop the other connections of the loop
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            Thread t = Thread.currentThread();
+            t.getUncaughtExceptionHandler().uncaughtException(t, e);
+            if (e instanceof VirtualMachineError)
+                throw e;
+        }
+    }
+}
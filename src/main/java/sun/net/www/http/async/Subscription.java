@@ -0,0 +1,22 @@
+package sun.net.www.http.async;
+
+/**
+ * The link between a publisher of body buffers and its subscriber, in the
+ * manner of a reactive-streams subscription. A subscriber is not sent more
+ * buffers than it has requested, and this is how a slow consumer holds back
+ * the connection a response body is read from, or a slow connection holds
+ * back the producer of a request body.
+ */
+public interface Subscription {
+
+    /**
+     * Requests n more buffers. The demand is cumulative, a value of
+     * Long.MAX_VALUE means no limit.
+     */
+    void request(long n);
+
+    /**
+     * Asks the publisher to stop sending buffers. Some may still be sent.
+     */
+    void cancel();
+}
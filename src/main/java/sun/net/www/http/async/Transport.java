@@ -0,0 +1,55 @@
+package sun.net.www.http.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * The non-blocking byte stream of a connection: the channel itself for
+ * http, an SSLEngine over the channel for https. Reads and writes never
+ * block and transfer what they can.
+ */
+class Transport {
+
+    final SocketChannel chan;
+
+    Transport(SocketChannel chan) {
+        this.chan = chan;
+    }
+
+    /**
+     * Carries the handshake on as far as it can go. Returns the interest
+     * ops it waits for, or 0 once it is done.
+     */
+    int handshake() throws IOException {
+        return 0;
+    }
+
+    /**
+     * Reads into dst, returns the number of bytes read, 0 if none is
+     * available, or -1 at end of stream.
+     */
+    int read(ByteBuffer dst) throws IOException {
+        return chan.read(dst);
+    }
+
+    /**
+     * Writes what the socket takes from src.
+     */
+    void write(ByteBuffer src) throws IOException {
+        chan.write(src);
+    }
+
+    /**
+     * Tells whether everything written has been handed to the socket.
+     */
+    boolean flush() throws IOException {
+        return true;
+    }
+
+    void close() {
+        try {
+            chan.close();
+        } catch (IOException ignore) { }
+    }
+}
@@ -0,0 +1,25 @@
+package sun.nio.ch;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+/**
+ * A datagram channel that can transfer several datagrams per system call.
+ */
+
+public interface BatchDatagramChannel {
+
+    /**
+     * Receives up to dsts.length datagrams, the i-th into dsts[i] with its
+     * source stored in srcs[i]. In blocking mode waits for the first
+     * datagram only. Returns the number of datagrams received.
+     */
+    int receive(ByteBuffer[] dsts, SocketAddress[] srcs) throws IOException;
+
+    /**
+     * Sends up to srcs.length datagrams, the i-th from srcs[i] to
+     * targets[i]. Returns the number of datagrams sent.
+     */
+    int send(ByteBuffer[] srcs, SocketAddress[] targets) throws IOException;
+}
@@ -41,11 +41,11 @@ import sun.net.ExtendedOptionsImpl;
 
 class DatagramChannelImpl
     extends DatagramChannel
-    implements SelChImpl
+    implements SelChImpl, BatchDatagramChannel
 {
 
     // Used to make native read and write calls
-    private static NativeDispatcher nd = new DatagramDispatcher();
+    private static DatagramDispatcher nd = new DatagramDispatcher();
 
     // Our file descriptor
     private final FileDescriptor fd;
@@ -537,6 +537,193 @@ class DatagramChannelImpl
         return written;
     }
 
+    public int receive(ByteBuffer[] dsts, SocketAddress[] srcs)
+        throws IOException
+    {
+        if (dsts.length != srcs.length)
+            throw new IllegalArgumentException("Array lengths differ");
+        for (ByteBuffer dst : dsts) {
+            if (dst == null)
+                throw new NullPointerException();
+            if (dst.isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+        int count = Math.min(dsts.length, IOUtil.IOV_MAX);
+        if (count == 0)
+            return 0;
+        synchronized (readLock) {
+            ensureOpen();
+            // Socket was not bound before attempting receive
+            if (localAddress() == null)
+                bind(null);
+            if (!isConnected() && (System.getSecurityManager() != null)) {
+                // every sender has to be checked, take one datagram at a time
+                SocketAddress sa = receive(dsts[0]);
+                if (sa == null)
+                    return 0;
+                srcs[0] = sa;
+                return 1;
+            }
+            long[] addresses = new long[count];
+            int[] lengths = new int[count];
+            int[] positions = new int[count];
+            ByteBuffer[] shadows = new ByteBuffer[count];
+            InetSocketAddress[] senders = new InetSocketAddress[count];
+            int n = 0;
+            try {
+                begin();
+                if (!isOpen())
+                    return 0;
+                for (int i = 0; i < count; i++) {
+                    ByteBuffer dst = dsts[i];
+                    int pos = dst.position();
+                    int lim = dst.limit();
+                    assert (pos <= lim);
+                    int rem = (pos <= lim ? lim - pos : 0);
+                    positions[i] = pos;
+                    if (dst instanceof DirectBuffer && rem > 0) {
+                        addresses[i] = ((DirectBuffer)dst).address() + pos;
+                        lengths[i] = rem;
+                    } else {
+                        // Substitute a native buffer, never an empty one
+                        int newSize = Math.max(rem, 1);
+                        ByteBuffer bb = Util.getTemporaryDirectBuffer(newSize);
+                        shadows[i] = bb;
+                        addresses[i] = ((DirectBuffer)bb).address();
+                        lengths[i] = newSize;
+                    }
+                }
+                readerThread = NativeThread.current();
+                do {
+                    n = nd.receiveBatch(fd, addresses, lengths, count, senders);
+                } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                for (int i = 0; i < n; i++) {
+                    ByteBuffer dst = dsts[i];
+                    ByteBuffer bb = shadows[i];
+                    if (bb == null) {
+                        dst.position(positions[i] + lengths[i]);
+                    } else if (dst.hasRemaining()) {
+                        bb.limit(Math.min(lengths[i], dst.remaining()));
+                        dst.put(bb);
+                    }
+                    srcs[i] = senders[i];
+                }
+                return IOStatus.normalize(n);
+            } finally {
+                for (ByteBuffer bb : shadows) {
+                    if (bb != null)
+                        Util.releaseTemporaryDirectBuffer(bb);
+                }
+                readerThread = 0;
+                end((n > 0) || (n == IOStatus.UNAVAILABLE));
+                assert IOStatus.check(n);
+            }
+        }
+    }
+
+    public int send(ByteBuffer[] srcs, SocketAddress[] targets)
+        throws IOException
+    {
+        if (srcs.length != targets.length)
+            throw new IllegalArgumentException("Array lengths differ");
+        int count = Math.min(srcs.length, IOUtil.IOV_MAX);
+        if (count == 0)
+            return 0;
+        synchronized (writeLock) {
+            ensureOpen();
+            InetAddress[] addrs = new InetAddress[count];
+            int[] ports = new int[count];
+            synchronized (stateLock) {
+                SecurityManager sm = System.getSecurityManager();
+                for (int i = 0; i < count; i++) {
+                    if (srcs[i] == null || targets[i] == null)
+                        throw new NullPointerException();
+                    InetSocketAddress isa = Net.checkAddress(targets[i]);
+                    InetAddress ia = isa.getAddress();
+                    if (ia == null)
+                        throw new IOException("Target address not resolved");
+                    if (isConnected()) {
+                        if (!targets[i].equals(remoteAddress)) {
+                            throw new IllegalArgumentException(
+                                "Connected address not equal to target address");
+                        }
+                    } else if (sm != null) {
+                        if (ia.isMulticastAddress()) {
+                            sm.checkMulticast(ia);
+                        } else {
+                            sm.checkConnect(ia.getHostAddress(),
+                                            isa.getPort());
+                        }
+                    }
+                    addrs[i] = ia;
+                    ports[i] = isa.getPort();
+                }
+            }
+
+            long[] addresses = new long[count];
+            int[] lengths = new int[count];
+            int[] positions = new int[count];
+            ByteBuffer[] shadows = new ByteBuffer[count];
+            boolean preferIPv6 = (family != StandardProtocolFamily.INET);
+            int n = 0;
+            try {
+                begin();
+                if (!isOpen())
+                    return 0;
+                for (int i = 0; i < count; i++) {
+                    ByteBuffer src = srcs[i];
+                    int pos = src.position();
+                    int lim = src.limit();
+                    assert (pos <= lim);
+                    int rem = (pos <= lim ? lim - pos : 0);
+                    positions[i] = pos;
+                    lengths[i] = rem;
+                    if (src instanceof DirectBuffer) {
+                        addresses[i] = ((DirectBuffer)src).address() + pos;
+                    } else {
+                        // Substitute a native buffer
+                        ByteBuffer bb = Util.getTemporaryDirectBuffer(rem);
+                        bb.put(src);
+                        bb.flip();
+                        // Do not update src until we see what was sent
+                        src.position(pos);
+                        shadows[i] = bb;
+                        addresses[i] = ((DirectBuffer)bb).address();
+                    }
+                }
+                writerThread = NativeThread.current();
+                do {
+                    try {
+                        n = nd.sendBatch(fd, preferIPv6, addresses, lengths,
+                                         count, addrs, ports);
+                    } catch (PortUnreachableException pue) {
+                        if (isConnected())
+                            throw pue;
+                        // the first datagram is dropped, as in send
+                        n = 1;
+                    }
+                } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                for (int i = 0; i < n; i++)
+                    srcs[i].position(positions[i] + lengths[i]);
+
+                synchronized (stateLock) {
+                    if (isOpen() && (localAddress == null)) {
+                        localAddress = Net.localAddress(fd);
+                    }
+                }
+                return IOStatus.normalize(n);
+            } finally {
+                for (ByteBuffer bb : shadows) {
+                    if (bb != null)
+                        Util.releaseTemporaryDirectBuffer(bb);
+                }
+                writerThread = 0;
+                end((n > 0) || (n == IOStatus.UNAVAILABLE));
+                assert IOStatus.check(n);
+            }
+        }
+    }
+
     public int read(ByteBuffer buf) throws IOException {
         if (buf == null)
             throw new NullPointerException();
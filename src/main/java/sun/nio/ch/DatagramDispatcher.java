@@ -55,6 +55,35 @@ class DatagramDispatcher extends NativeDispatcher
         return writev0(fd, address, len);
     }
 
+    /**
+     * Receives up to count datagrams with one recvmmsg call. The buffer at
+     * addresses[i] holds lengths[i] bytes; on return lengths[i] is the size
+     * of the i-th datagram and senders[i] its source. MSG_WAITFORONE is
+     * used so only the first datagram may block, the remainder are taken
+     * only if already queued. Returns the number of datagrams received or
+     * IOStatus.UNAVAILABLE.
+     */
+    int receiveBatch(FileDescriptor fd, long[] addresses, int[] lengths,
+                     int count, InetSocketAddress[] senders)
+        throws IOException
+    {
+        return recvmmsg0(fd, addresses, lengths, count, senders);
+    }
+
+    /**
+     * Sends up to count datagrams with one sendmmsg call, the i-th going to
+     * addrs[i]:ports[i]. On return lengths[i] is the number of bytes sent
+     * for each datagram that was sent. Returns the number of datagrams sent
+     * or IOStatus.UNAVAILABLE.
+     */
+    int sendBatch(FileDescriptor fd, boolean preferIPv6, long[] addresses,
+                  int[] lengths, int count, InetAddress[] addrs, int[] ports)
+        throws IOException
+    {
+        return sendmmsg0(preferIPv6, fd, addresses, lengths, count, addrs,
+                         ports);
+    }
+
     void close(FileDescriptor fd) throws IOException {
         FileDispatcherImpl.close0(fd);
     }
@@ -74,4 +103,14 @@ class DatagramDispatcher extends NativeDispatcher
 
     static native long writev0(FileDescriptor fd, long address, int len)
         throws IOException;
+
+    static native int recvmmsg0(FileDescriptor fd, long[] addresses,
+                                int[] lengths, int count,
+                                InetSocketAddress[] senders)
+        throws IOException;
+
+    static native int sendmmsg0(boolean preferIPv6, FileDescriptor fd,
+                                long[] addresses, int[] lengths, int count,
+                                InetAddress[] addrs, int[] ports)
+        throws IOException;
 }
@@ -60,6 +60,9 @@ final class EPollPort
     // address of the poll array passed to epoll_wait
     private final long address;
 
+    // the sharded group that this port is a shard of, null if none
+    private final EPollPortGroup group;
+
     // encapsulates an event for a channel
     static class Event {
         final PollableChannel channel;
@@ -82,8 +85,16 @@ final class EPollPort
 
     EPollPort(AsynchronousChannelProvider provider, ThreadPool pool)
         throws IOException
+    {
+        this(provider, pool, null);
+    }
+
+    EPollPort(AsynchronousChannelProvider provider, ThreadPool pool,
+              EPollPortGroup group)
+        throws IOException
     {
         super(provider, pool);
+        this.group = group;
 
         // open epoll
         this.epfd = epollCreate();
@@ -167,6 +178,12 @@ final class EPollPort
         }
     }
 
+    @Override
+    Port portForAcceptedChannel() {
+        // spread accepted connections over the shards of the group
+        return (group != null) ? group.nextPort() : this;
+    }
+
     // invoke by clients to register a file descriptor
     @Override
     void startPoll(int fd, int events) {
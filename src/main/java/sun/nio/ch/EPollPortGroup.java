@@ -0,0 +1,120 @@
+package sun.nio.ch;
+
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.spi.AsynchronousChannelProvider;
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AsynchronousChannelGroup implementation that shards its channels over
+ * several EPollPorts. Each port has its own epoll file descriptor, wakeup
+ * socketpair and fixed pool of handler threads, so an event for a channel
+ * is polled and its completion handler is invoked on the threads of the
+ * shard the channel is registered with.
+ */
+
+final class EPollPortGroup
+    extends AsynchronousChannelGroup
+{
+    // the shards
+    private final EPollPort[] ports;
+
+    // round-robin index used to assign channels to shards
+    private final AtomicInteger next = new AtomicInteger();
+
+    EPollPortGroup(AsynchronousChannelProvider provider,
+                   int nPorts,
+                   int nThreads,
+                   ThreadFactory factory)
+        throws IOException
+    {
+        super(provider);
+        if (nPorts <= 0 || nPorts > nThreads)
+            throw new IllegalArgumentException("'nPorts' out of range");
+        EPollPort[] ports = new EPollPort[nPorts];
+        try {
+            for (int i=0; i<nPorts; i++) {
+                // spread the threads as evenly as possible
+                int n = nThreads / nPorts + ((i < nThreads % nPorts) ? 1 : 0);
+                ports[i] = new EPollPort(provider, ThreadPool.create(n, factory), this);
+            }
+        } catch (IOException x) {
+            for (EPollPort port: ports) {
+                if (port != null)
+                    port.shutdownNow();
+            }
+            throw x;
+        }
+        for (EPollPort port: ports) {
+            port.start();
+        }
+        this.ports = ports;
+    }
+
+    /**
+     * Returns the shard that the next channel should be registered with.
+     */
+    EPollPort nextPort() {
+        int i = next.getAndIncrement() & Integer.MAX_VALUE;
+        return ports[i % ports.length];
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (EPollPort port: ports) {
+            if (!port.isShutdown())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (EPollPort port: ports) {
+            if (!port.isTerminated())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        for (EPollPort port: ports) {
+            port.shutdown();
+        }
+    }
+
+    @Override
+    public void shutdownNow() throws IOException {
+        IOException exc = null;
+        for (EPollPort port: ports) {
+            try {
+                port.shutdownNow();
+            } catch (IOException x) {
+                if (exc == null) {
+                    exc = x;
+                } else {
+                    exc.addSuppressed(x);
+                }
+            }
+        }
+        if (exc != null)
+            throw exc;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        for (EPollPort port: ports) {
+            long start = System.nanoTime();
+            if (!port.awaitTermination(Math.max(nanos, 0L), TimeUnit.NANOSECONDS))
+                return false;
+            nanos -= System.nanoTime() - start;
+        }
+        return true;
+    }
+}
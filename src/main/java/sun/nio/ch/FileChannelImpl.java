@@ -42,7 +42,10 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.WritableByteChannel;
 import java.security.AccessController;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import sun.misc.Cleaner;
 import sun.security.action.GetPropertyAction;
@@ -394,6 +397,34 @@ public class FileChannelImpl
         }
     }
 
+    public FileChannel advise(long position, long size, Advice advice)
+        throws IOException
+    {
+        if (position < 0)
+            throw new IllegalArgumentException("Negative position");
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size");
+        if (advice == null)
+            throw new NullPointerException();
+        ensureOpen();
+        int rv = -1;
+        int ti = -1;
+        try {
+            begin();
+            ti = threads.add();
+            if (!isOpen())
+                return null;
+            do {
+                rv = nd.advise(fd, position, size, advice.ordinal());
+            } while ((rv == IOStatus.INTERRUPTED) && isOpen());
+            return this;
+        } finally {
+            threads.remove(ti);
+            end(rv > -1);
+            assert IOStatus.check(rv);
+        }
+    }
+
     // Assume at first that the underlying kernel supports sendfile();
     // set this to false if we find out later that it doesn't
     //
@@ -782,6 +813,18 @@ public class FileChannelImpl
 
     // -- Memory-mapped buffers --
 
+    // the file descriptors of the private mappings not yet unmapped
+    private static final Set<FileDescriptor> privateMappings =
+        Collections.newSetFromMap(new ConcurrentHashMap<FileDescriptor,Boolean>());
+
+    /**
+     * Tells whether the mapped buffer of the given file descriptor is a
+     * private (copy-on-write) mapping.
+     */
+    public static boolean isPrivateMapping(FileDescriptor fd) {
+        return privateMappings.contains(fd);
+    }
+
     private static class Unmapper
         implements Runnable
     {
@@ -819,6 +862,7 @@ public class FileChannelImpl
                 return;
             unmap0(address, size);
             address = 0;
+            privateMappings.remove(fd);
 
             // if this mapping has a valid file descriptor then we close it
             if (fd.valid()) {
@@ -954,6 +998,8 @@ public class FileChannelImpl
             assert (addr % allocationGranularity == 0);
             int isize = (int)size;
             Unmapper um = new Unmapper(addr, mapSize, isize, mfd);
+            if (imode == MAP_PV)
+                privateMappings.add(mfd);
             if ((!writable) || (imode == MAP_RO)) {
                 return Util.newMappedByteBufferR(isize,
                                                  addr + pagePosition,
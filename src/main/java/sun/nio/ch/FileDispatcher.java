@@ -63,6 +63,14 @@ abstract class FileDispatcher extends NativeDispatcher {
     abstract FileDescriptor duplicateForMapping(FileDescriptor fd)
         throws IOException;
 
+    /**
+     * Announces the intended access pattern for the given range of the
+     * file. The advice is the ordinal of FileChannel.Advice, whose order
+     * matches the POSIX_FADV_* values.
+     */
+    abstract int advise(FileDescriptor fd, long pos, long len, int advice)
+        throws IOException;
+
     abstract boolean canTransferToDirectly(SelectableChannel sc);
 
     abstract boolean transferToDirectlyNeedsPositionLock();
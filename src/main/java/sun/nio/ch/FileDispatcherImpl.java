@@ -56,6 +56,12 @@ class FileDispatcherImpl extends FileDispatcher {
         return readv0(fd, address, len);
     }
 
+    long preadv(FileDescriptor fd, long address, int len, long position)
+        throws IOException
+    {
+        return preadv0(fd, address, len, position);
+    }
+
     int write(FileDescriptor fd, long address, int len) throws IOException {
         return write0(fd, address, len);
     }
@@ -98,6 +104,12 @@ class FileDispatcherImpl extends FileDispatcher {
         release0(fd, pos, size);
     }
 
+    int advise(FileDescriptor fd, long pos, long len, int advice)
+        throws IOException
+    {
+        return fadvise0(fd, pos, len, advice);
+    }
+
     void close(FileDescriptor fd) throws IOException {
         close0(fd);
     }
@@ -131,6 +143,9 @@ class FileDispatcherImpl extends FileDispatcher {
     static native long readv0(FileDescriptor fd, long address, int len)
         throws IOException;
 
+    static native long preadv0(FileDescriptor fd, long address, int len,
+                               long position) throws IOException;
+
     static native int write0(FileDescriptor fd, long address, int len)
         throws IOException;
 
@@ -157,6 +172,9 @@ class FileDispatcherImpl extends FileDispatcher {
     static native void release0(FileDescriptor fd, long pos, long size)
         throws IOException;
 
+    static native int fadvise0(FileDescriptor fd, long pos, long len,
+                               int advice) throws IOException;
+
     static native void close0(FileDescriptor fd) throws IOException;
 
     static native void preClose0(FileDescriptor fd) throws IOException;
@@ -236,6 +236,13 @@ public class IOUtil {
     static long read(FileDescriptor fd, ByteBuffer[] bufs, int offset, int length,
                      NativeDispatcher nd)
         throws IOException
+    {
+        return read(fd, bufs, offset, length, -1, nd);
+    }
+
+    static long read(FileDescriptor fd, ByteBuffer[] bufs, int offset, int length,
+                     long position, NativeDispatcher nd)
+        throws IOException
     {
         IOVecWrapper vec = IOVecWrapper.get(length);
 
@@ -275,7 +282,12 @@ public class IOUtil {
             if (iov_len == 0)
                 return 0L;
 
-            long bytesRead = nd.readv(fd, vec.address, iov_len);
+            long bytesRead;
+            if (position != -1) {
+                bytesRead = nd.preadv(fd, vec.address, iov_len, position);
+            } else {
+                bytesRead = nd.readv(fd, vec.address, iov_len);
+            }
 
             // Notify the buffers how many bytes were read
             long left = bytesRead;
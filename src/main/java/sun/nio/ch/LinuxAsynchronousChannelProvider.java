@@ -27,12 +27,19 @@ package sun.nio.ch;
 
 import java.nio.channels.*;
 import java.nio.channels.spi.AsynchronousChannelProvider;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.io.IOException;
+import java.security.AccessController;
+import sun.security.action.GetIntegerAction;
 
 public class LinuxAsynchronousChannelProvider
     extends AsynchronousChannelProvider
 {
+    // number of epoll ports that a fixed thread pool group is sharded over
+    private static final int portCount = AccessController.doPrivileged(
+        new GetIntegerAction("sun.nio.ch.epollPortCount", 1));
+
     private static volatile EPollPort defaultPort;
 
     private EPollPort defaultEventPort() throws IOException {
@@ -53,6 +60,9 @@ public class LinuxAsynchronousChannelProvider
     public AsynchronousChannelGroup openAsynchronousChannelGroup(int nThreads, ThreadFactory factory)
         throws IOException
     {
+        int nPorts = Math.min(portCount, nThreads);
+        if (nPorts > 1)
+            return new EPollPortGroup(this, nPorts, nThreads, factory);
         return new EPollPort(this, ThreadPool.create(nThreads, factory)).start();
     }
 
@@ -66,6 +76,8 @@ public class LinuxAsynchronousChannelProvider
     private Port toPort(AsynchronousChannelGroup group) throws IOException {
         if (group == null) {
             return defaultEventPort();
+        } else if (group instanceof EPollPortGroup) {
+            return ((EPollPortGroup)group).nextPort();
         } else {
             if (!(group instanceof EPollPort))
                 throw new IllegalChannelGroupException();
@@ -55,6 +55,12 @@ abstract class NativeDispatcher
     abstract long readv(FileDescriptor fd, long address, int len)
         throws IOException;
 
+    long preadv(FileDescriptor fd, long address, int len, long position)
+        throws IOException
+    {
+        throw new IOException("Operation Unsupported");
+    }
+
     abstract int write(FileDescriptor fd, long address, int len)
         throws IOException;
 
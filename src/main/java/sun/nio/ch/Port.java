@@ -107,6 +107,14 @@ abstract class Port extends AsynchronousChannelGroupImpl {
             } catch (IOException ignore) { }
         }
     }
+    /**
+     * Returns the port that a channel accepted by a channel registered with
+     * this port should be registered with.
+     */
+    Port portForAcceptedChannel() {
+        return this;
+    }
+
     /**
      * Register file descriptor with polling mechanism for given events.
      * The implementation should translate the events as required.
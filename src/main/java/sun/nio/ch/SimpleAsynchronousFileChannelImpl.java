@@ -27,6 +27,10 @@ package sun.nio.ch;
 
 import java.nio.channels.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.Arrays;
 import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -393,4 +397,140 @@ public class SimpleAsynchronousFileChannelImpl
         executor.execute(task);
         return result;
     }
+
+    /**
+     * Reads a batch of ranges from this channel, the i-th range starting at
+     * positions[i] being read into dsts[i]. Ranges that are adjacent in the
+     * file are coalesced into a single preadv and the resulting runs are
+     * read in parallel on the channel's thread pool. The returned Future
+     * completes, with the total number of bytes read, when all runs have
+     * completed. A buffer is left partially filled if the end of file is
+     * reached.
+     */
+    public Future<Long> read(long[] positions, ByteBuffer[] dsts) {
+        return implReadBatch(positions, dsts, null, null);
+    }
+
+    /**
+     * Reads a batch of ranges from this channel, invoking the handler once
+     * with the total number of bytes read when all ranges have been read.
+     *
+     * @see #read(long[],ByteBuffer[])
+     */
+    public <A> void read(long[] positions,
+                         ByteBuffer[] dsts,
+                         A attachment,
+                         CompletionHandler<Long,? super A> handler)
+    {
+        if (handler == null)
+            throw new NullPointerException("'handler' is null");
+        implReadBatch(positions, dsts, attachment, handler);
+    }
+
+    private <A> Future<Long> implReadBatch(final long[] positions,
+                                           final ByteBuffer[] dsts,
+                                           final A attachment,
+                                           final CompletionHandler<Long,? super A> handler)
+    {
+        if (positions.length != dsts.length)
+            throw new IllegalArgumentException("Array lengths differ");
+        if (!reading)
+            throw new NonReadableChannelException();
+        for (int i=0; i<dsts.length; i++) {
+            if (positions[i] < 0)
+                throw new IllegalArgumentException("Negative position");
+            if (dsts[i].isReadOnly())
+                throw new IllegalArgumentException("Read-only buffer");
+        }
+
+        // order the ranges by position, dropping those with no space remaining
+        Integer[] sorted = new Integer[dsts.length];
+        int count = 0;
+        for (int i=0; i<dsts.length; i++) {
+            if (dsts[i].hasRemaining())
+                sorted[count++] = i;
+        }
+        Arrays.sort(sorted, 0, count,
+                    (a, b) -> Long.compare(positions[a], positions[b]));
+
+        // coalesce adjacent ranges into runs of at most IOV_MAX buffers
+        int[] runStart = new int[count];
+        int runs = 0;
+        long end = -1L;
+        for (int i=0; i<count; i++) {
+            long pos = positions[sorted[i]];
+            if (runs == 0 || pos != end
+                    || i - runStart[runs-1] >= IOUtil.IOV_MAX) {
+                runStart[runs++] = i;
+            }
+            end = pos + dsts[sorted[i]].remaining();
+        }
+
+        // complete immediately if channel closed or no space remaining
+        if (!isOpen() || (runs == 0)) {
+            Throwable exc = (isOpen()) ? null : new ClosedChannelException();
+            if (handler == null)
+                return CompletedFuture.withResult(0L, exc);
+            Invoker.invokeIndirectly(handler, attachment, 0L, exc, executor);
+            return null;
+        }
+
+        final PendingFuture<Long,A> result = (handler == null) ?
+            new PendingFuture<Long,A>(this) : null;
+        final AtomicInteger pending = new AtomicInteger(runs);
+        final AtomicLong total = new AtomicLong();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int r=0; r<runs; r++) {
+            int from = runStart[r];
+            int to = (r + 1 < runs) ? runStart[r+1] : count;
+            final ByteBuffer[] bufs = new ByteBuffer[to - from];
+            for (int i=from; i<to; i++)
+                bufs[i - from] = dsts[sorted[i]];
+            final long position = positions[sorted[from]];
+            Runnable task = new Runnable() {
+                public void run() {
+                    int ti = threads.add();
+                    try {
+                        begin();
+                        long p = position;
+                        int off = 0;
+                        while (off < bufs.length) {
+                            long n;
+                            do {
+                                n = IOUtil.read(fdObj, bufs, off,
+                                                bufs.length - off, p, nd);
+                            } while ((n == IOStatus.INTERRUPTED) && isOpen());
+                            if (n < 0 && !isOpen())
+                                throw new AsynchronousCloseException();
+                            if (n <= 0)
+                                break;      // EOF
+                            total.addAndGet(n);
+                            p += n;
+                            while (off < bufs.length && !bufs[off].hasRemaining())
+                                off++;
+                        }
+                    } catch (IOException x) {
+                        if (!isOpen())
+                            x = new AsynchronousCloseException();
+                        failure.compareAndSet(null, x);
+                    } finally {
+                        end();
+                        threads.remove(ti);
+                    }
+                    // last run to complete completes the batch
+                    if (pending.decrementAndGet() == 0) {
+                        Throwable exc = failure.get();
+                        Long n = (exc == null) ? total.get() : null;
+                        if (handler == null) {
+                            result.setResult(n, exc);
+                        } else {
+                            Invoker.invokeUnchecked(handler, attachment, n, exc);
+                        }
+                    }
+                }
+            };
+            executor.execute(task);
+        }
+        return result;
+    }
 }
@@ -207,7 +207,8 @@ class UnixAsynchronousServerSocketChannelImpl
     {
         AsynchronousSocketChannel ch = null;
         try {
-            ch = new UnixAsynchronousSocketChannelImpl(port, newfd, remote);
+            ch = new UnixAsynchronousSocketChannelImpl(port.portForAcceptedChannel(),
+                                                       newfd, remote);
         } catch (IOException x) {
             nd.close(newfd);
             throw x;
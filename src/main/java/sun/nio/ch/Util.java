@@ -347,6 +347,20 @@ public class Util {
         };
     }
 
+    /**
+     * Tells whether the channel is one of the JDK's own file, socket,
+     * datagram or pipe channels. These only copy into or out of the buffers
+     * given to read and write, and keep no reference to them.
+     */
+    public static boolean isJdkChannel(Channel ch) {
+        Class<?> c = ch.getClass();
+        return c == FileChannelImpl.class
+            || c == SocketChannelImpl.class
+            || c == DatagramChannelImpl.class
+            || c == SourceChannelImpl.class
+            || c == SinkChannelImpl.class;
+    }
+
 
     // -- Unsafe access --
 
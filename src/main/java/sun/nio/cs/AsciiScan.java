@@ -0,0 +1,101 @@
+package sun.nio.cs;
+
+import sun.misc.Unsafe;
+
+/**
+ * Word-at-a-time scans for runs of ASCII (or Latin-1) characters, used by
+ * the fast paths of the UTF-8, US-ASCII and ISO-8859-1 coders. Eight bytes,
+ * or four chars, are tested with a single aligned Unsafe.getLong, for byte
+ * and char arrays as well as for the memory of direct buffers.
+ */
+
+final class AsciiScan {
+    private AsciiScan() { }
+
+    private static final Unsafe unsafe = Unsafe.getUnsafe();
+
+    private static final long BYTE_BASE = Unsafe.ARRAY_BYTE_BASE_OFFSET;
+    private static final long CHAR_BASE = Unsafe.ARRAY_CHAR_BASE_OFFSET;
+
+    // bits that are set in a word of bytes if one is not ASCII
+    private static final long NON_ASCII_BYTES = 0x8080808080808080L;
+
+    // bits that are set in a word of chars if one is not ASCII or Latin-1
+    static final long NON_ASCII_CHARS  = 0xFF80FF80FF80FF80L;
+    static final long NON_LATIN1_CHARS = 0xFF00FF00FF00FF00L;
+
+    /**
+     * Returns the number of ASCII bytes at the start of ba[off, off+len).
+     */
+    static int countAscii(byte[] ba, int off, int len) {
+        int i = 0;
+        // bytes up to a word boundary
+        while (i < len && ((BYTE_BASE + off + i) & 7) != 0) {
+            if (ba[off + i] < 0)
+                return i;
+            i++;
+        }
+        while (len - i >= 8 &&
+               (unsafe.getLong(ba, BYTE_BASE + off + i) & NON_ASCII_BYTES) == 0)
+            i += 8;
+        while (i < len && ba[off + i] >= 0)
+            i++;
+        return i;
+    }
+
+    /**
+     * Returns the number of ASCII bytes at the start of the len bytes of
+     * memory at the given address.
+     */
+    static int countAscii(long address, int len) {
+        int i = 0;
+        while (i < len && ((address + i) & 7) != 0) {
+            if (unsafe.getByte(address + i) < 0)
+                return i;
+            i++;
+        }
+        while (len - i >= 8 &&
+               (unsafe.getLong(address + i) & NON_ASCII_BYTES) == 0)
+            i += 8;
+        while (i < len && unsafe.getByte(address + i) >= 0)
+            i++;
+        return i;
+    }
+
+    /**
+     * Returns the number of chars at the start of ca[off, off+len) that have
+     * none of the bits of the given mask set. The mask is NON_ASCII_CHARS or
+     * NON_LATIN1_CHARS.
+     */
+    static int countChars(char[] ca, int off, int len, long mask) {
+        char bits = (char)mask;
+        int i = 0;
+        while (i < len && ((CHAR_BASE + ((long)(off + i) << 1)) & 7) != 0) {
+            if ((ca[off + i] & bits) != 0)
+                return i;
+            i++;
+        }
+        while (len - i >= 4 &&
+               (unsafe.getLong(ca, CHAR_BASE + ((long)(off + i) << 1)) & mask) == 0)
+            i += 4;
+        while (i < len && (ca[off + i] & bits) == 0)
+            i++;
+        return i;
+    }
+
+    /**
+     * Copies n bytes, known to be ASCII or Latin-1, from memory to chars.
+     */
+    static void inflate(long address, char[] da, int dp, int n) {
+        for (int i = 0; i < n; i++)
+            da[dp + i] = (char)(unsafe.getByte(address + i) & 0xff);
+    }
+
+    /**
+     * Copies n chars, known to be ASCII or Latin-1, from chars to memory.
+     */
+    static void compress(char[] sa, int sp, long address, int n) {
+        for (int i = 0; i < n; i++)
+            unsafe.putByte(address + i, (byte)sa[sp + i]);
+    }
+}
@@ -0,0 +1,206 @@
+package sun.nio.cs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.security.AccessController;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import sun.security.action.GetIntegerAction;
+
+/**
+ * A bounded pool of the decoders, encoders and byte buffers used by
+ * StreamDecoder and StreamEncoder, so that short-lived readers and writers
+ * do not each allocate a new codec and an 8K buffer.
+ *
+ * Codecs are pooled per charset and are those that the streams create for
+ * a Charset, that is with malformed input and unmappable characters
+ * replaced. Buffers, heap and direct, are pooled when they have the default
+ * capacity and the stream reads or writes the JDK's own streams and
+ * channels. A stream borrows its codec and buffer when it is created and
+ * returns them, reset, when it is closed; a stream that is never closed
+ * just leaves them to the garbage collector.
+ *
+ * The number of slots for each charset is given by the system property
+ * sun.nio.cs.coderPoolSize, 0 disables the pool.
+ */
+
+final class CoderPool {
+    private CoderPool() { }
+
+    static final int BUFFER_SIZE = 8192;
+
+    // slots per charset, and per kind of codec
+    private static final int SIZE;
+
+    // the number of charsets with pooled codecs is bounded too
+    private static final int MAX_CHARSETS = 64;
+
+    private static final ConcurrentHashMap<Charset,Slots> pools =
+        new ConcurrentHashMap<>();
+
+    private static final AtomicReferenceArray<ByteBuffer> heapBuffers;
+    private static final AtomicReferenceArray<ByteBuffer> directBuffers;
+
+    static {
+        int size = AccessController.doPrivileged(
+            new GetIntegerAction("sun.nio.cs.coderPoolSize", 8));
+        SIZE = Math.max(size, 0);
+        heapBuffers = new AtomicReferenceArray<>(SIZE * 4);
+        directBuffers = new AtomicReferenceArray<>(SIZE);
+    }
+
+    private static final class Slots {
+        final AtomicReferenceArray<CharsetDecoder> decoders =
+            new AtomicReferenceArray<>(SIZE);
+        final AtomicReferenceArray<CharsetEncoder> encoders =
+            new AtomicReferenceArray<>(SIZE);
+    }
+
+    private static Slots slots(Charset cs) {
+        Slots s = pools.get(cs);
+        if (s == null && SIZE > 0 && pools.size() < MAX_CHARSETS) {
+            Slots ns = new Slots();
+            s = pools.putIfAbsent(cs, ns);
+            if (s == null)
+                s = ns;
+        }
+        return s;
+    }
+
+    // Threads start their search at different slots to spread contention
+    private static int start(int length) {
+        return (int)(Thread.currentThread().getId() % length);
+    }
+
+    private static <T> T take(AtomicReferenceArray<T> a) {
+        int n = a.length();
+        if (n == 0)
+            return null;
+        int i = start(n);
+        for (int k = 0; k < n; k++) {
+            T t = a.get(i);
+            if (t != null && a.compareAndSet(i, t, null))
+                return t;
+            if (++i == n)
+                i = 0;
+        }
+        return null;
+    }
+
+    private static <T> void put(AtomicReferenceArray<T> a, T t) {
+        int n = a.length();
+        if (n == 0)
+            return;
+        int i = start(n);
+        for (int k = 0; k < n; k++) {
+            if (a.get(i) == null && a.compareAndSet(i, null, t))
+                return;
+            if (++i == n)
+                i = 0;
+        }
+    }
+
+    /**
+     * Returns a decoder for the given charset that replaces malformed input
+     * and unmappable characters.
+     */
+    static CharsetDecoder decoderFor(Charset cs) {
+        Slots s = slots(cs);
+        CharsetDecoder dec = (s != null) ? take(s.decoders) : null;
+        if (dec == null)
+            dec = cs.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return dec;
+    }
+
+    /**
+     * Returns an encoder for the given charset that replaces malformed input
+     * and unmappable characters.
+     */
+    static CharsetEncoder encoderFor(Charset cs) {
+        Slots s = slots(cs);
+        CharsetEncoder enc = (s != null) ? take(s.encoders) : null;
+        if (enc == null)
+            enc = cs.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return enc;
+    }
+
+    /**
+     * Returns a decoder obtained from decoderFor to the pool.
+     */
+    static void release(CharsetDecoder dec) {
+        Slots s = pools.get(dec.charset());
+        if (s != null)
+            put(s.decoders, dec.reset());
+    }
+
+    /**
+     * Returns an encoder obtained from encoderFor to the pool.
+     */
+    static void release(CharsetEncoder enc) {
+        Slots s = pools.get(enc.charset());
+        if (s != null)
+            put(s.encoders, enc.reset());
+    }
+
+    /**
+     * Tells whether a pooled buffer may be handed to the given stream or
+     * channel. Once released, the buffer is reused by other streams, so it
+     * is only lent to the JDK's own streams and channels, which keep no
+     * reference to it. Subclasses may override read and write, so the
+     * class of a stream must match exactly.
+     */
+    static boolean mayLend(Object target) {
+        if (target instanceof Channel)
+            return sun.nio.ch.Util.isJdkChannel((Channel)target);
+        Class<?> c = target.getClass();
+        return c == FileInputStream.class
+            || c == FileOutputStream.class
+            || c == ByteArrayInputStream.class
+            || c == ByteArrayOutputStream.class;
+    }
+
+    /**
+     * Returns a cleared buffer of BUFFER_SIZE bytes.
+     */
+    static ByteBuffer buffer(boolean direct) {
+        ByteBuffer bb = take(direct ? directBuffers : heapBuffers);
+        if (bb == null)
+            bb = direct ? ByteBuffer.allocateDirect(BUFFER_SIZE)
+                        : ByteBuffer.allocate(BUFFER_SIZE);
+        return bb;
+    }
+
+    /**
+     * Returns a buffer to the pool, if it has the default capacity. The
+     * buffer must not be used by the caller afterwards.
+     */
+    static void release(ByteBuffer bb) {
+        if (bb.capacity() != BUFFER_SIZE || bb.isReadOnly())
+            return;
+        bb.clear();
+        put(bb.isDirect() ? directBuffers : heapBuffers, bb);
+    }
+
+    /**
+     * Tells whether the coders of the given charset have fast paths for
+     * direct buffers, so that channel streams may use a direct buffer
+     * rather than having the channel copy through a temporary one.
+     */
+    static boolean hasDirectPaths(Charset cs) {
+        return cs instanceof UTF_8
+            || cs instanceof US_ASCII
+            || cs instanceof ISO_8859_1;
+    }
+}
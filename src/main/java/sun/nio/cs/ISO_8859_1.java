@@ -32,6 +32,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 import java.util.Arrays;
+import sun.nio.ch.DirectBuffer;
 
 class ISO_8859_1
     extends Charset
@@ -99,6 +100,16 @@ class ISO_8859_1
         {
             int mark = src.position();
             try {
+                if (src.isDirect() && dst.hasArray()) {
+                    // every byte maps to a char so copy straight from memory
+                    int n = Math.min(src.remaining(), dst.remaining());
+                    int dp = dst.position();
+                    AsciiScan.inflate(((DirectBuffer)src).address() + mark,
+                                      dst.array(), dst.arrayOffset() + dp, n);
+                    dst.position(dp + n);
+                    mark += n;
+                    src.position(mark);
+                }
                 while (src.hasRemaining()) {
                     byte b = src.get();
                     if (!dst.hasRemaining())
@@ -203,6 +214,19 @@ class ISO_8859_1
         {
             int mark = src.position();
             try {
+                if (src.hasArray() && dst.isDirect() && !dst.isReadOnly()) {
+                    // Latin-1 run, a word at a time
+                    int sp = src.arrayOffset() + mark;
+                    int n = AsciiScan.countChars(src.array(), sp,
+                                Math.min(src.remaining(), dst.remaining()),
+                                AsciiScan.NON_LATIN1_CHARS);
+                    int dp = dst.position();
+                    AsciiScan.compress(src.array(), sp,
+                                       ((DirectBuffer)dst).address() + dp, n);
+                    dst.position(dp + n);
+                    mark += n;
+                    src.position(mark);
+                }
                 while (src.hasRemaining()) {
                     char c = src.get();
                     if (c <= '\u00FF') {
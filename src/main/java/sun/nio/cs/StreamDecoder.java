@@ -223,21 +223,29 @@ public class StreamDecoder extends Reader
     private CharsetDecoder decoder;
     private ByteBuffer bb;
 
+    // Whether the decoder and the buffer were borrowed from the CoderPool
+    private boolean pooledDecoder;
+    private boolean pooledBuffer;
+
     // Exactly one of these is non-null
     private InputStream in;
     private ReadableByteChannel ch;
 
     StreamDecoder(InputStream in, Object lock, Charset cs) {
-        this(in, lock,
-         cs.newDecoder()
-         .onMalformedInput(CodingErrorAction.REPLACE)
-         .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        this(in, lock, CoderPool.decoderFor(cs), true);
     }
 
     StreamDecoder(InputStream in, Object lock, CharsetDecoder dec) {
+        this(in, lock, dec, false);
+    }
+
+    private StreamDecoder(InputStream in, Object lock, CharsetDecoder dec,
+                          boolean pooled)
+    {
         super(lock);
         this.cs = dec.charset();
         this.decoder = dec;
+        this.pooledDecoder = pooled;
 
         // This path disabled until direct buffers are faster
         if (false && in instanceof FileInputStream) {
@@ -248,7 +256,9 @@ public class StreamDecoder extends Reader
         if (ch == null) {
         this.in = in;
         this.ch = null;
-        bb = ByteBuffer.allocate(DEFAULT_BYTE_BUFFER_SIZE);
+        pooledBuffer = CoderPool.mayLend(in);
+        bb = pooledBuffer ? CoderPool.buffer(false)
+                          : ByteBuffer.allocate(DEFAULT_BYTE_BUFFER_SIZE);
         }
         bb.flip();                      // So that bb is initially empty
     }
@@ -258,11 +268,22 @@ public class StreamDecoder extends Reader
         this.ch = ch;
         this.decoder = dec;
         this.cs = dec.charset();
-        this.bb = ByteBuffer.allocate(mbc < 0
-                                  ? DEFAULT_BYTE_BUFFER_SIZE
-                                  : (mbc < MIN_BYTE_BUFFER_SIZE
-                                     ? MIN_BYTE_BUFFER_SIZE
-                                     : mbc));
+        int cap = (mbc < 0
+                   ? DEFAULT_BYTE_BUFFER_SIZE
+                   : (mbc < MIN_BYTE_BUFFER_SIZE
+                      ? MIN_BYTE_BUFFER_SIZE
+                      : mbc));
+        // The JDK's file and socket channels read into a heap buffer by way
+        // of a temporary direct buffer, so read into a direct buffer instead
+        // when the decoder is as fast at decoding it
+        boolean jdk = sun.nio.ch.Util.isJdkChannel(ch);
+        boolean direct = jdk && CoderPool.hasDirectPaths(cs);
+        this.pooledBuffer = jdk && cap == DEFAULT_BYTE_BUFFER_SIZE;
+        if (pooledBuffer)
+            this.bb = CoderPool.buffer(direct);
+        else
+            this.bb = direct ? ByteBuffer.allocateDirect(cap)
+                             : ByteBuffer.allocate(cap);
         bb.flip();
     }
 
@@ -376,6 +397,14 @@ public class StreamDecoder extends Reader
         ch.close();
         else
         in.close();
+
+        // The stream is closed, return the decoder and buffer for reuse
+        if (pooledDecoder)
+            CoderPool.release(decoder);
+        if (pooledBuffer)
+            CoderPool.release(bb);
+        decoder = null;
+        bb = null;
     }
 
 }
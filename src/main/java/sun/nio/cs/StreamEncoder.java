@@ -162,6 +162,10 @@ public class StreamEncoder extends Writer
     private CharsetEncoder encoder;
     private ByteBuffer bb;
 
+    // Whether the encoder and the buffer were borrowed from the CoderPool
+    private boolean pooledEncoder;
+    private boolean pooledBuffer;
+
     // Exactly one of these is non-null
     private final OutputStream out;
     private WritableByteChannel ch;
@@ -172,18 +176,22 @@ public class StreamEncoder extends Writer
     private CharBuffer lcb = null;
 
     private StreamEncoder(OutputStream out, Object lock, Charset cs) {
-        this(out, lock,
-         cs.newEncoder()
-         .onMalformedInput(CodingErrorAction.REPLACE)
-         .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        this(out, lock, CoderPool.encoderFor(cs), true);
     }
 
     private StreamEncoder(OutputStream out, Object lock, CharsetEncoder enc) {
+        this(out, lock, enc, false);
+    }
+
+    private StreamEncoder(OutputStream out, Object lock, CharsetEncoder enc,
+                          boolean pooled)
+    {
         super(lock);
         this.out = out;
         this.ch = null;
         this.cs = enc.charset();
         this.encoder = enc;
+        this.pooledEncoder = pooled;
 
         // This path disabled until direct buffers are faster
         if (false && out instanceof FileOutputStream) {
@@ -192,7 +200,9 @@ public class StreamEncoder extends Writer
                     bb = ByteBuffer.allocateDirect(DEFAULT_BYTE_BUFFER_SIZE);
         }
             if (ch == null) {
-        bb = ByteBuffer.allocate(DEFAULT_BYTE_BUFFER_SIZE);
+        pooledBuffer = CoderPool.mayLend(out);
+        bb = pooledBuffer ? CoderPool.buffer(false)
+                          : ByteBuffer.allocate(DEFAULT_BYTE_BUFFER_SIZE);
         }
     }
 
@@ -201,9 +211,17 @@ public class StreamEncoder extends Writer
         this.ch = ch;
         this.cs = enc.charset();
         this.encoder = enc;
-        this.bb = ByteBuffer.allocate(mbc < 0
-                                  ? DEFAULT_BYTE_BUFFER_SIZE
-                                  : mbc);
+        int cap = (mbc < 0 ? DEFAULT_BYTE_BUFFER_SIZE : mbc);
+        // See StreamDecoder: write from a direct buffer rather than have
+        // the channel copy a heap buffer into a temporary one
+        boolean jdk = sun.nio.ch.Util.isJdkChannel(ch);
+        boolean direct = jdk && CoderPool.hasDirectPaths(cs);
+        this.pooledBuffer = jdk && cap == DEFAULT_BYTE_BUFFER_SIZE;
+        if (pooledBuffer)
+            this.bb = CoderPool.buffer(direct);
+        else
+            this.bb = direct ? ByteBuffer.allocateDirect(cap)
+                             : ByteBuffer.allocate(cap);
     }
 
     private void writeBytes() throws IOException {
@@ -322,6 +340,14 @@ public class StreamEncoder extends Writer
             encoder.reset();
             throw x;
         }
+
+        // The stream is closed, return the encoder and buffer for reuse
+        if (pooledEncoder)
+            CoderPool.release(encoder);
+        if (pooledBuffer)
+            CoderPool.release(bb);
+        encoder = null;
+        bb = null;
     }
 
     String encodingName() {
@@ -32,6 +32,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 import java.util.Arrays;
+import sun.nio.ch.DirectBuffer;
 
 public class US_ASCII
     extends Charset
@@ -80,6 +81,12 @@ public class US_ASCII
             dp = (dp <= dl ? dp : dl);
 
             try {
+                // ASCII run, a word at a time
+                int n = AsciiScan.countAscii(sa, sp, Math.min(sl - sp, dl - dp));
+                for (int i = 0; i < n; i++)
+                    da[dp + i] = (char)sa[sp + i];
+                sp += n;
+                dp += n;
                 while (sp < sl) {
                     byte b = sa[sp];
                     if (b >= 0) {
@@ -103,6 +110,18 @@ public class US_ASCII
         {
             int mark = src.position();
             try {
+                if (src.isDirect() && dst.hasArray()) {
+                    // ASCII run, a word at a time
+                    long address = ((DirectBuffer)src).address() + mark;
+                    int n = AsciiScan.countAscii(address,
+                                Math.min(src.remaining(), dst.remaining()));
+                    int dp = dst.position();
+                    AsciiScan.inflate(address, dst.array(),
+                                      dst.arrayOffset() + dp, n);
+                    dst.position(dp + n);
+                    mark += n;
+                    src.position(mark);
+                }
                 while (src.hasRemaining()) {
                     byte b = src.get();
                     if (b >= 0) {
@@ -135,8 +154,11 @@ public class US_ASCII
         }
 
         public int decode(byte[] src, int sp, int len, char[] dst) {
-            int dp = 0;
             len = Math.min(len, dst.length);
+            int dp = AsciiScan.countAscii(src, sp, len);
+            for (int i = 0; i < dp; i++)
+                dst[i] = (char)src[sp + i];
+            sp += dp;
             while (dp < len) {
                 byte b = src[sp++];
                 if (b >= 0)
@@ -180,6 +202,13 @@ public class US_ASCII
             dp = (dp <= dl ? dp : dl);
 
             try {
+                // ASCII run, a word at a time
+                int n = AsciiScan.countChars(sa, sp, Math.min(sl - sp, dl - dp),
+                                             AsciiScan.NON_ASCII_CHARS);
+                for (int i = 0; i < n; i++)
+                    da[dp + i] = (byte)sa[sp + i];
+                sp += n;
+                dp += n;
                 while (sp < sl) {
                     char c = sa[sp];
                     if (c < 0x80) {
@@ -205,6 +234,19 @@ public class US_ASCII
         {
             int mark = src.position();
             try {
+                if (src.hasArray() && dst.isDirect() && !dst.isReadOnly()) {
+                    // ASCII run, a word at a time
+                    int sp = src.arrayOffset() + mark;
+                    int n = AsciiScan.countChars(src.array(), sp,
+                                Math.min(src.remaining(), dst.remaining()),
+                                AsciiScan.NON_ASCII_CHARS);
+                    int dp = dst.position();
+                    AsciiScan.compress(src.array(), sp,
+                                       ((DirectBuffer)dst).address() + dp, n);
+                    dst.position(dp + n);
+                    mark += n;
+                    src.position(mark);
+                }
                 while (src.hasRemaining()) {
                     char c = src.get();
                     if (c < 0x80) {
@@ -33,6 +33,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import sun.nio.ch.DirectBuffer;
 
 /* Legal UTF-8 Byte Sequences
  *
@@ -229,17 +230,23 @@ class UTF_8 extends Unicode
             int dl = dst.arrayOffset() + dst.limit();
             int dlASCII = dp + Math.min(sl - sp, dl - dp);
 
-            // ASCII only loop
-            while (dp < dlASCII && sa[sp] >= 0)
-                da[dp++] = (char) sa[sp++];
+            // ASCII only loop, a word at a time
+            int n = AsciiScan.countAscii(sa, sp, dlASCII - dp);
+            for (int i = 0; i < n; i++)
+                da[dp + i] = (char) sa[sp + i];
+            sp += n;
+            dp += n;
             while (sp < sl) {
                 int b1 = sa[sp];
                 if (b1 >= 0) {
-                    // 1 byte, 7 bits: 0xxxxxxx
+                    // 1 byte, 7 bits: 0xxxxxxx, and the ASCII run it starts
                     if (dp >= dl)
                         return xflow(src, sp, sl, dst, dp, 1);
-                    da[dp++] = (char) b1;
-                    sp++;
+                    n = AsciiScan.countAscii(sa, sp, Math.min(sl - sp, dl - dp));
+                    for (int i = 0; i < n; i++)
+                        da[dp + i] = (char) sa[sp + i];
+                    sp += n;
+                    dp += n;
                 } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
                     // 2 bytes, 11 bits: 110xxxxx 10xxxxxx
                     //                   [C2..DF] [80..BF]
@@ -324,14 +331,28 @@ class UTF_8 extends Unicode
         {
             int mark = src.position();
             int limit = src.limit();
+            // ASCII runs are copied a word at a time from direct buffers
+            long address = (src.isDirect() && dst.hasArray())
+                           ? ((DirectBuffer)src).address() : 0L;
             while (mark < limit) {
                 int b1 = src.get();
                 if (b1 >= 0) {
                     // 1 byte, 7 bits: 0xxxxxxx
                     if (dst.remaining() < 1)
                         return xflow(src, mark, 1); // overflow
-                    dst.put((char) b1);
-                    mark++;
+                    if (address != 0L) {
+                        int n = AsciiScan.countAscii(address + mark,
+                                    Math.min(limit - mark, dst.remaining()));
+                        int dp = dst.position();
+                        AsciiScan.inflate(address + mark, dst.array(),
+                                          dst.arrayOffset() + dp, n);
+                        dst.position(dp + n);
+                        mark += n;
+                        src.position(mark);
+                    } else {
+                        dst.put((char) b1);
+                        mark++;
+                    }
                 } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
                     // 2 bytes, 11 bits: 110xxxxx 10xxxxxx
                     if (limit - mark < 2|| dst.remaining() < 1)
@@ -430,9 +451,12 @@ class UTF_8 extends Unicode
             int dlASCII = Math.min(len, da.length);
             ByteBuffer bb = null;  // only necessary if malformed
 
-            // ASCII only optimized loop
-            while (dp < dlASCII && sa[sp] >= 0)
-                da[dp++] = (char) sa[sp++];
+            // ASCII only optimized loop, a word at a time
+            int n = AsciiScan.countAscii(sa, sp, dlASCII);
+            for (int i = 0; i < n; i++)
+                da[i] = (char) sa[sp + i];
+            sp += n;
+            dp = n;
 
             while (sp < sl) {
                 int b1 = sa[sp++];
@@ -591,9 +615,13 @@ class UTF_8 extends Unicode
             int dl = dst.arrayOffset() + dst.limit();
             int dlASCII = dp + Math.min(sl - sp, dl - dp);
 
-            // ASCII only loop
-            while (dp < dlASCII && sa[sp] < '\u0080')
-                da[dp++] = (byte) sa[sp++];
+            // ASCII only loop, a word at a time
+            int n = AsciiScan.countChars(sa, sp, dlASCII - dp,
+                                         AsciiScan.NON_ASCII_CHARS);
+            for (int i = 0; i < n; i++)
+                da[dp + i] = (byte) sa[sp + i];
+            sp += n;
+            dp += n;
             while (sp < sl) {
                 char c = sa[sp];
                 if (c < 0x80) {
@@ -641,13 +669,28 @@ class UTF_8 extends Unicode
                                              ByteBuffer dst)
         {
             int mark = src.position();
+            // ASCII runs are copied a word at a time to direct buffers
+            long address = (src.hasArray() && dst.isDirect() && !dst.isReadOnly())
+                           ? ((DirectBuffer)dst).address() : 0L;
             while (src.hasRemaining()) {
                 char c = src.get();
                 if (c < 0x80) {
                     // Have at most seven bits
                     if (!dst.hasRemaining())
                         return overflow(src, mark);
-                    dst.put((byte)c);
+                    if (address != 0L) {
+                        int sp = src.arrayOffset() + mark;
+                        int dp = dst.position();
+                        int n = AsciiScan.countChars(src.array(), sp,
+                                    Math.min(src.limit() - mark, dst.remaining()),
+                                    AsciiScan.NON_ASCII_CHARS);
+                        AsciiScan.compress(src.array(), sp, address + dp, n);
+                        dst.position(dp + n);
+                        mark += n - 1;
+                        src.position(mark + 1);
+                    } else {
+                        dst.put((byte)c);
+                    }
                 } else if (c < 0x800) {
                     // 2 bytes, 11 bits
                     if (dst.remaining() < 2)
@@ -705,9 +748,13 @@ class UTF_8 extends Unicode
             int dp = 0;
             int dlASCII = dp + Math.min(len, da.length);
 
-            // ASCII only optimized loop
-            while (dp < dlASCII && sa[sp] < '\u0080')
-                da[dp++] = (byte) sa[sp++];
+            // ASCII only optimized loop, a word at a time
+            int n = AsciiScan.countChars(sa, sp, dlASCII,
+                                         AsciiScan.NON_ASCII_CHARS);
+            for (int i = 0; i < n; i++)
+                da[i] = (byte) sa[sp + i];
+            sp += n;
+            dp = n;
 
             while (sp < sl) {
                 char c = sa[sp++];
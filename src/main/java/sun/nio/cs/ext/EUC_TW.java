@@ -62,17 +62,18 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
 
        Decoding:
        (1) save the lower 16-bit value of all codepoints of b->c mapping
-           in a String array table  String[plane] b2c.
+           in the pages of a PagedTable b2c, PLANE_PAGES to a plane.
        (2) save "codepoint is supplementary" info (one bit) in a
            byte[] b2cIsSupp, so 8 codepoints (same codepoint value, different
            plane No) share one byte.
 
        Encoding:
-       (1)c->b mappings are stored in
-          char[]c2b/char[]c2bIndex
-          char[]c2bSupp/char[]c2bIndexsupp  (indexed by lower 16-bit
-       (2)byte[] c2bPlane stores the "plane info" of each euc-tw codepoints,
-          BMP and Supp share the low/high 4 bits of one byte.
+       (1)c->b mappings are stored in the pages of
+          PagedTable c2b, selected by char[]c2bIndex
+          PagedTable c2bSupp, selected by char[]c2bSuppIndex (indexed by
+          the lower 16-bit
+       (2)each page ends with the "plane info" of its euc-tw codepoints,
+          4 bits each.
 
        Mapping tables are stored separated in EUC_TWMapping, which
        is generated by tool.
@@ -110,7 +111,6 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
             return decode(b1, b2, p, c1, c2);
         }
 
-        static final String[] b2c =  EUC_TWMapping.b2c;
         static final int b1Min    =  EUC_TWMapping.b1Min;
         static final int b1Max    =  EUC_TWMapping.b1Max;
         static final int b2Min    =  EUC_TWMapping.b2Min;
@@ -151,7 +151,7 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
             if (b1 < b1Min || b1 > b1Max || b2 < b2Min || b2 > b2Max)
                 return null;
             int index = (b1 - b1Min) * dbSegSize + b2 - b2Min;
-            char c = b2c[p].charAt(index);
+            char c = EUC_TWMapping.b2c(p, index);
             if (c == UNMAPPABLE_DECODING)
                 return null;
             if ((b2cIsSupp[index] & (1 << p)) == 0) {
@@ -447,11 +447,10 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
             int index = c2bSuppIndex[c >> 8];
             if (index  == UNMAPPABLE_ENCODING)
                 return -1;
-            index = index + (c & 0xff);
-            int db = c2bSupp[index];
+            int db = c2bSupp.charAt(index >> 8, c & 0xff);
             if (db == UNMAPPABLE_ENCODING)
                 return -1;
-            int p = (c2bPlane[index] >> 4) & 0xf;
+            int p = plane(c2bSupp, index >> 8, c & 0xff);
             bb[0] = (byte)SS2;
             bb[1] = (byte)(0xa0 | p);
             bb[2] = (byte)(db >> 8);
@@ -463,11 +462,10 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
             int index = c2bIndex[c >> 8];
             if (index  == UNMAPPABLE_ENCODING)
                 return -1;
-            index = index + (c & 0xff);
-            int db = c2b[index];
+            int db = c2b.charAt(index >> 8, c & 0xff);
             if (db == UNMAPPABLE_ENCODING)
                 return -1;
-            int p = c2bPlane[index] & 0xf;
+            int p = plane(c2b, index >> 8, c & 0xff);
             if (p == 0) {
                 bb[0] = (byte)(db >> 8);
                 bb[1] = (byte)db;
@@ -481,66 +479,15 @@ public class EUC_TW extends Charset implements HistoricallyNamedCharset
             }
         }
 
-        static final char[] c2b;
-        static final char[] c2bIndex;
-        static final char[] c2bSupp;
-        static final char[] c2bSuppIndex;
-        static final byte[] c2bPlane;
-        static {
-            int b1Min    =  Decoder.b1Min;
-            int b1Max    =  Decoder.b1Max;
-            int b2Min    =  Decoder.b2Min;
-            int b2Max    =  Decoder.b2Max;
-            int dbSegSize = Decoder.dbSegSize;
-            String[] b2c = Decoder.b2c;
-            byte[] b2cIsSupp = Decoder.b2cIsSupp;
-
-            c2bIndex = EUC_TWMapping.c2bIndex;
-            c2bSuppIndex = EUC_TWMapping.c2bSuppIndex;
-            char[] c2b0 = new char[EUC_TWMapping.C2BSIZE];
-            char[] c2bSupp0 = new char[EUC_TWMapping.C2BSUPPSIZE];
-            byte[] c2bPlane0 = new byte[Math.max(EUC_TWMapping.C2BSIZE,
-                                                 EUC_TWMapping.C2BSUPPSIZE)];
-
-            Arrays.fill(c2b0, (char)UNMAPPABLE_ENCODING);
-            Arrays.fill(c2bSupp0, (char)UNMAPPABLE_ENCODING);
-
-            for (int p = 0; p < b2c.length; p++) {
-                String db = b2c[p];
-                /*
-                   adjust the "plane" from 0..7 to 0, 2, 3, 4, 5, 6, 7, 0xf,
-                   which helps balance between footprint (to save the plane
-                   info in 4 bits) and runtime performance (to require only
-                   one operation "0xa0 | plane" to encode the plane byte)
-                */
-                int plane = p;
-                if (plane == 7)
-                    plane = 0xf;
-                else if (plane != 0)
-                    plane = p + 1;
-
-                int off = 0;
-                for (int b1 = b1Min; b1 <= b1Max; b1++) {
-                    for (int b2 = b2Min; b2 <= b2Max; b2++) {
-                        char c = db.charAt(off);
-                        if (c != UNMAPPABLE_DECODING) {
-                            if ((b2cIsSupp[off] & (1 << p)) != 0) {
-                                int index = c2bSuppIndex[c >> 8] + (c&0xff);
-                                c2bSupp0[index] = (char)((b1 << 8) + b2);
-                                c2bPlane0[index] |= (byte)(plane << 4);
-                            } else {
-                                int index = c2bIndex[c >> 8] + (c&0xff);
-                                c2b0[index] = (char)((b1 << 8) + b2);
-                                c2bPlane0[index] |= (byte)plane;
-                            }
-                        }
-                        off++;
-                    }
-                }
-            }
-            c2b = c2b0;
-            c2bSupp = c2bSupp0;
-            c2bPlane = c2bPlane0;
+        // the plane of the char at the given offset of a page of c2b or
+        // c2bSupp, from the four bits of it after the 256 two-byte codes
+        private static int plane(PagedTable table, int page, int off) {
+            return (table.charAt(page, 256 + (off >> 2)) >> ((off & 3) << 2)) & 0xf;
         }
+
+        static final PagedTable c2b = EUC_TWMapping.Encoding.c2b;
+        static final char[] c2bIndex = EUC_TWMapping.c2bIndex;
+        static final PagedTable c2bSupp = EUC_TWMapping.Encoding.c2bSupp;
+        static final char[] c2bSuppIndex = EUC_TWMapping.c2bSuppIndex;
     }
 }
@@ -0,0 +1,38 @@
+package sun.nio.cs.ext;
+
+/**
+ * A mapping table of a charset in pages, each a string constant returned
+ * by load(int). A page is materialized the first time a coder reads it and
+ * is then kept for all the coders of the charset, so that a coder only
+ * holds the pages of the characters it has met.
+ *
+ * The pages are cached here, rather than loaded at each read, so that
+ * load(int) runs once per page. A compiled method resolves all the string
+ * constants it uses, and load(int) is only called often enough to be
+ * compiled once most of its pages are in use.
+ */
+abstract class PagedTable {
+
+    private final String[] pages;
+
+    PagedTable(int size) {
+        pages = new String[size];
+    }
+
+    /**
+     * Returns the given page of the table.
+     */
+    protected abstract String load(int page);
+
+    /**
+     * Returns the char at the given offset of the given page.
+     */
+    final char charAt(int page, int offset) {
+        String p = pages[page];
+        if (p == null) {
+            // a race only loads the same constant twice
+            pages[page] = p = load(page);
+        }
+        return p.charAt(offset);
+    }
+}
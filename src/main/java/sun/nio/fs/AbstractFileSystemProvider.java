@@ -29,12 +29,13 @@ import java.nio.file.*;
 import java.nio.file.spi.FileSystemProvider;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Spliterator;
 
 /**
  * Base implementation class of FileSystemProvider
  */
 
-abstract class AbstractFileSystemProvider extends FileSystemProvider {
+public abstract class AbstractFileSystemProvider extends FileSystemProvider {
     protected AbstractFileSystemProvider() { }
 
     /**
@@ -107,4 +108,17 @@ abstract class AbstractFileSystemProvider extends FileSystemProvider {
     public final boolean deleteIfExists(Path file) throws IOException {
         return implDelete(file, false);
     }
+
+    /**
+     * Returns a Spliterator over the file tree rooted at start, for
+     * Files.walkParallel, or {@code null} if the provider has no walker of
+     * its own and the tree is to be walked with Files.walk.
+     */
+    public Spliterator<Path> walkSpliterator(Path start,
+                                             int maxDepth,
+                                             boolean followLinks)
+        throws IOException
+    {
+        return null;
+    }
 }
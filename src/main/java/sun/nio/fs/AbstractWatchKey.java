@@ -138,6 +138,7 @@ abstract class AbstractWatchKey implements WatchKey {
                 // if the list has reached the limit then drop pending events
                 // and queue an OVERFLOW event
                 if (size >= MAX_EVENT_LIST_SIZE) {
+                    watcher.eventListOverflowed();
                     kind = StandardWatchEventKinds.OVERFLOW;
                     isModify = false;
                     context = null;
@@ -27,6 +27,7 @@ package sun.nio.fs;
 
 import java.nio.file.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.io.IOException;
 
 /**
@@ -52,6 +53,9 @@ abstract class AbstractWatchService implements WatchService {
             }
         };
 
+    // number of times that the events of a key were dropped
+    private final AtomicLong eventListOverflows = new AtomicLong();
+
     // used when closing watch service
     private volatile boolean closed;
     private final Object closeLock = new Object();
@@ -72,6 +76,19 @@ abstract class AbstractWatchService implements WatchService {
         pendingKeys.offer(key);
     }
 
+    // used by AbstractWatchKey when its pending events are dropped
+    final void eventListOverflowed() {
+        eventListOverflows.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of times that the pending events of a key were
+     * dropped and replaced by an OVERFLOW event.
+     */
+    public long eventListOverflowCount() {
+        return eventListOverflows.get();
+    }
+
     /**
      * Throws ClosedWatchServiceException if watch service is closed
      */
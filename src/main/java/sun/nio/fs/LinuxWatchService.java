@@ -30,7 +30,10 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
 import java.io.IOException;
+import com.sun.nio.file.ExtendedWatchEventModifier;
+import com.sun.nio.file.WatchServiceStatistics;
 import sun.misc.Unsafe;
+import sun.security.action.GetIntegerAction;
 
 import static sun.nio.fs.UnixNativeDispatcher.*;
 import static sun.nio.fs.UnixConstants.*;
@@ -42,13 +45,29 @@ import static sun.nio.fs.UnixConstants.*;
  * mechanism. Requests to add or remove a watch, or close the watch service,
  * cause the thread to wakeup and process the request. Events are processed
  * by the thread which causes it to signal/queue the corresponding watch keys.
+ *
+ * A directory registered with the {@link ExtendedWatchEventModifier#FILE_TREE
+ * FILE_TREE} modifier is watched together with all of its subdirectories;
+ * the context of each event is the path of the file relative to the
+ * registered directory. Watches are added as subdirectories are created or
+ * moved into the tree, and removed as they are moved out of it.
+ *
+ * If the {@code sun.nio.fs.watchCoalesceWindow} property is set to a number
+ * of milliseconds then events are held back for that long after the first
+ * event of a burst is received. Repeated events for the same file within the
+ * window are merged, and the keys are signalled once with the whole batch.
  */
 
 class LinuxWatchService
     extends AbstractWatchService
+    implements WatchServiceStatistics
 {
     private static final Unsafe unsafe = Unsafe.getUnsafe();
 
+    // time, in milliseconds, that events are held back to be coalesced
+    private static final int COALESCE_WINDOW = AccessController.doPrivileged(
+        new GetIntegerAction("sun.nio.fs.watchCoalesceWindow", 0)).intValue();
+
     // background thread to read change events
     private final Poller poller;
 
@@ -96,6 +115,21 @@ class LinuxWatchService
         poller.close();
     }
 
+    @Override
+    public long kernelQueueOverflowCount() {
+        return poller.kernelOverflows;
+    }
+
+    @Override
+    public long coalescedEventCount() {
+        return poller.coalescedEvents;
+    }
+
+    @Override
+    public int watchedDirectoryCount() {
+        return poller.watchCount;
+    }
+
     /**
      * WatchKey implementation
      */
@@ -105,16 +139,31 @@ class LinuxWatchService
         // watch descriptor
         private volatile int wd;
 
+        // the following fields are only accessed by the poller thread
+
+        // inotify events requested at registration
+        private int mask;
+        // true if the subdirectories are also watched
+        private boolean fileTree;
+        // watch descriptors of the subdirectories in the file tree
+        private final Set<Integer> subdirs;
+
         LinuxWatchKey(UnixPath dir, LinuxWatchService watcher, int ifd, int wd) {
             super(dir, watcher);
             this.ifd = ifd;
             this.wd = wd;
+            this.subdirs = new HashSet<Integer>();
         }
 
         int descriptor() {
             return wd;
         }
 
+        // the events to watch for in each directory of the key
+        int watchMask() {
+            return fileTree ? (mask | IN_CREATE | IN_MOVED_TO | IN_MOVED_FROM) : mask;
+        }
+
         void invalidate(boolean remove) {
             if (remove) {
                 try {
@@ -159,20 +208,12 @@ class LinuxWatchService
         private static final int OFFSETOF_LEN          = offsets[3];
         private static final int OFFSETOF_NAME         = offsets[4];
 
-        private static final int IN_MODIFY          = 0x00000002;
-        private static final int IN_ATTRIB          = 0x00000004;
-        private static final int IN_MOVED_FROM      = 0x00000040;
-        private static final int IN_MOVED_TO        = 0x00000080;
-        private static final int IN_CREATE          = 0x00000100;
-        private static final int IN_DELETE          = 0x00000200;
-
-        private static final int IN_UNMOUNT         = 0x00002000;
-        private static final int IN_Q_OVERFLOW      = 0x00004000;
-        private static final int IN_IGNORED         = 0x00008000;
-
         // sizeof buffer for when polling inotify
         private static final int BUFFER_SIZE = 8192;
 
+        // maximum number of events held back before the window closes
+        private static final int MAX_HELD_EVENTS = 16384;
+
         private final UnixFileSystem fs;
         private final LinuxWatchService watcher;
 
@@ -180,17 +221,32 @@ class LinuxWatchService
         private final int ifd;
         // socketpair used to shutdown polling thread
         private final int socketpair[];
-        // maps watch descriptor to Key
+        // maps watch descriptor to Key, including the descriptors of the
+        // subdirectories of file trees
         private final Map<Integer,LinuxWatchKey> wdToKey;
+        // maps watch descriptor of a subdirectory to its path relative to
+        // the directory of the file tree's key
+        private final Map<Integer,UnixPath> wdToSubdir;
+        // events held back until the coalescing window closes
+        private final Map<LinuxWatchKey,Map<Object,HeldEvent>> held;
+        private int heldCount;
+        private long windowEnd;
         // address of read buffer
         private final long address;
 
+        // statistics, only updated by the poller thread
+        private volatile long kernelOverflows;
+        private volatile long coalescedEvents;
+        private volatile int watchCount;
+
         Poller(UnixFileSystem fs, LinuxWatchService watcher, int ifd, int[] sp) {
             this.fs = fs;
             this.watcher = watcher;
             this.ifd = ifd;
             this.socketpair = sp;
             this.wdToKey = new HashMap<Integer,LinuxWatchKey>();
+            this.wdToSubdir = new HashMap<Integer,UnixPath>();
+            this.held = new LinkedHashMap<LinuxWatchKey,Map<Object,HeldEvent>>();
             this.address = unsafe.allocateMemory(BUFFER_SIZE);
         }
 
@@ -227,16 +283,22 @@ class LinuxWatchService
                 }
             }
 
-            // no modifiers supported at this time
+            boolean fileTree = false;
             if (modifiers.length > 0) {
                 for (WatchEvent.Modifier modifier: modifiers) {
                     if (modifier == null)
                         return new NullPointerException();
+                    if (modifier == ExtendedWatchEventModifier.FILE_TREE) {
+                        fileTree = true;
+                        continue;
+                    }
                     if (modifier instanceof com.sun.nio.file.SensitivityWatchEventModifier)
                         continue; // ignore
                     return new UnsupportedOperationException("Modifier not supported");
                 }
             }
+            int watchMask = fileTree ?
+                (mask | IN_CREATE | IN_MOVED_TO | IN_MOVED_FROM) : mask;
 
             // check file is directory
             UnixFileAttributes attrs = null;
@@ -255,7 +317,7 @@ class LinuxWatchService
                 NativeBuffer buffer =
                     NativeBuffers.asNativeBuffer(dir.getByteArrayForSysCalls());
                 try {
-                    wd = inotifyAddWatch(ifd, buffer.address(), mask);
+                    wd = inotifyAddWatch(ifd, buffer.address(), watchMask);
                 } finally {
                     buffer.release();
                 }
@@ -268,9 +330,33 @@ class LinuxWatchService
 
             // ensure watch descriptor is in map
             LinuxWatchKey key = wdToKey.get(wd);
+            boolean created = false;
             if (key == null) {
                 key = new LinuxWatchKey(dir, watcher, ifd, wd);
-                wdToKey.put(wd, key);
+                addDescriptor(wd, key);
+                created = true;
+            }
+            key.mask = mask;
+
+            // add or remove the watches on the subdirectories
+            if (fileTree) {
+                key.fileTree = true;
+                try {
+                    watchSubtree(key, new UnixPath(fs, new byte[0]), false);
+                } catch (UnixException x) {
+                    if (created) {
+                        removeSubdirs(key, true);
+                        removeDescriptor(wd);
+                        key.invalidate(true);
+                    }
+                    if (x.errno() == ENOSPC) {
+                        return new IOException("User limit of inotify watches reached");
+                    }
+                    return x.asIOException(dir);
+                }
+            } else if (key.fileTree) {
+                removeSubdirs(key, true);
+                key.fileTree = false;
             }
             return key;
         }
@@ -280,11 +366,239 @@ class LinuxWatchService
         void implCancelKey(WatchKey obj) {
             LinuxWatchKey key = (LinuxWatchKey)obj;
             if (key.isValid()) {
-                wdToKey.remove(key.descriptor());
+                heldCount -= discardHeld(key);
+                removeSubdirs(key, true);
+                removeDescriptor(key.descriptor());
                 key.invalidate(true);
             }
         }
 
+        private void addDescriptor(int wd, LinuxWatchKey key) {
+            wdToKey.put(wd, key);
+            watchCount = wdToKey.size();
+        }
+
+        private void removeDescriptor(int wd) {
+            wdToKey.remove(wd);
+            watchCount = wdToKey.size();
+        }
+
+        /**
+         * Adds a watch on a subdirectory of the key's file tree. The directory
+         * is ignored if it no longer exists. If the directory is already
+         * watched by another key then its events continue to be delivered to
+         * that key.
+         */
+        private void addWatch(LinuxWatchKey key, UnixPath subdir)
+            throws UnixException
+        {
+            UnixPath dir = ((UnixPath)key.watchable()).resolve(subdir);
+            int wd;
+            NativeBuffer buffer =
+                NativeBuffers.asNativeBuffer(dir.getByteArrayForSysCalls());
+            try {
+                wd = inotifyAddWatch(ifd, buffer.address(),
+                                     key.watchMask() | IN_MASK_ADD);
+            } catch (UnixException x) {
+                if (x.errno() == ENOENT || x.errno() == ENOTDIR ||
+                    x.errno() == EACCES)
+                    return;
+                throw x;
+            } finally {
+                buffer.release();
+            }
+            LinuxWatchKey other = wdToKey.get(wd);
+            if (other != null && other != key)
+                return;
+            addDescriptor(wd, key);
+            wdToSubdir.put(wd, subdir);
+            key.subdirs.add(wd);
+        }
+
+        /**
+         * Adds watches on the subdirectories of the given directory of the
+         * key's file tree, descending into each of them. If {@code report} is
+         * true then an ENTRY_CREATE event is queued for each entry found as
+         * the entries may have been created before the watch on their
+         * directory was in place.
+         */
+        private void watchSubtree(LinuxWatchKey key, UnixPath start, boolean report)
+            throws UnixException
+        {
+            UnixPath root = (UnixPath)key.watchable();
+            boolean reportCreate = report && (key.mask & IN_CREATE) != 0;
+            int[] type = new int[1];
+            ArrayDeque<UnixPath> stack = new ArrayDeque<UnixPath>();
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                UnixPath subdir = stack.pop();
+                long dp;
+                try {
+                    dp = opendir(root.resolve(subdir));
+                } catch (UnixException x) {
+                    continue;   // removed or not accessible
+                }
+                try {
+                    for (;;) {
+                        byte[] name = readdirWithType(dp, type);
+                        if (name == null)
+                            break;
+                        if (name[0] == '.' && (name.length == 1 ||
+                                (name.length == 2 && name[1] == '.')))
+                            continue;
+                        UnixPath entry = subdir.resolve(name);
+                        if (reportCreate)
+                            queueEvent(key, StandardWatchEventKinds.ENTRY_CREATE, entry);
+
+                        // symbolic links to directories are not followed
+                        boolean isDirectory = (type[0] == DT_DIR);
+                        if (type[0] == DT_UNKNOWN) {
+                            try {
+                                isDirectory = UnixFileAttributes
+                                    .get(root.resolve(entry), false).isDirectory();
+                            } catch (UnixException ignore) { }
+                        }
+                        if (isDirectory) {
+                            addWatch(key, entry);
+                            stack.push(entry);
+                        }
+                    }
+                } catch (UnixException x) {
+                    if (x.errno() == ENOSPC)
+                        throw x;
+                } finally {
+                    try {
+                        closedir(dp);
+                    } catch (UnixException ignore) { }
+                }
+            }
+        }
+
+        /**
+         * Removes the watches on all subdirectories of the key's file tree.
+         */
+        private void removeSubdirs(LinuxWatchKey key, boolean remove) {
+            for (Integer wd: key.subdirs) {
+                removeDescriptor(wd);
+                wdToSubdir.remove(wd);
+                if (remove) {
+                    try {
+                        inotifyRmWatch(ifd, wd);
+                    } catch (UnixException x) {
+                        // ignore
+                    }
+                }
+            }
+            key.subdirs.clear();
+        }
+
+        /**
+         * Removes the watches on the given subdirectory, and the directories
+         * below it, after it has been moved out of the file tree.
+         */
+        private void removeSubtree(LinuxWatchKey key, UnixPath subdir) {
+            Iterator<Integer> it = key.subdirs.iterator();
+            while (it.hasNext()) {
+                Integer wd = it.next();
+                if (wdToSubdir.get(wd).startsWith(subdir)) {
+                    it.remove();
+                    removeDescriptor(wd);
+                    wdToSubdir.remove(wd);
+                    try {
+                        inotifyRmWatch(ifd, wd);
+                    } catch (UnixException x) {
+                        // ignore
+                    }
+                }
+            }
+        }
+
+        /**
+         * An event held back during the coalescing window.
+         */
+        private static class HeldEvent {
+            final WatchEvent.Kind<?> kind;
+            int count;
+
+            HeldEvent(WatchEvent.Kind<?> kind) {
+                this.kind = kind;
+                this.count = 1;
+            }
+        }
+
+        /**
+         * Queues an event to the key, holding it back to be coalesced with
+         * later events for the same file if a coalescing window is set.
+         */
+        private void queueEvent(LinuxWatchKey key, WatchEvent.Kind<?> kind,
+                                Object context)
+        {
+            if (COALESCE_WINDOW <= 0) {
+                key.signalEvent(kind, context);
+                return;
+            }
+
+            Map<Object,HeldEvent> events = held.get(key);
+            if (events == null) {
+                events = new LinkedHashMap<Object,HeldEvent>();
+                held.put(key, events);
+            }
+            HeldEvent ev = events.get(context);
+            if (ev != null) {
+                if (ev.kind == kind) {
+                    ev.count++;
+                    coalescedEvents++;
+                    return;
+                }
+                // a file that is modified after being created is reported
+                // as created only
+                if (kind == StandardWatchEventKinds.ENTRY_MODIFY &&
+                    ev.kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                    coalescedEvents++;
+                    return;
+                }
+                // deliver the earlier event now so that the events for the
+                // file are delivered in order
+                events.remove(context);
+                heldCount--;
+                deliver(key, context, ev);
+            }
+            events.put(context, new HeldEvent(kind));
+            if (heldCount++ == 0)
+                windowEnd = System.nanoTime() + COALESCE_WINDOW * 1000000L;
+            if (heldCount >= MAX_HELD_EVENTS)
+                flushHeld();
+        }
+
+        private void deliver(LinuxWatchKey key, Object context, HeldEvent ev) {
+            for (int i = 0; i < ev.count; i++) {
+                key.signalEvent(ev.kind, context);
+            }
+        }
+
+        /**
+         * Delivers all held events, signalling each key once.
+         */
+        private void flushHeld() {
+            for (Map.Entry<LinuxWatchKey,Map<Object,HeldEvent>> entry: held.entrySet()) {
+                LinuxWatchKey key = entry.getKey();
+                for (Map.Entry<Object,HeldEvent> e: entry.getValue().entrySet()) {
+                    deliver(key, e.getKey(), e.getValue());
+                }
+            }
+            held.clear();
+            heldCount = 0;
+        }
+
+        /**
+         * Discards the held events of the given key, returning the number of
+         * events discarded.
+         */
+        private int discardHeld(LinuxWatchKey key) {
+            Map<Object,HeldEvent> events = held.remove(key);
+            return (events == null) ? 0 : events.size();
+        }
+
         // close watch service
         @Override
         void implCloseAll() {
@@ -293,6 +607,10 @@ class LinuxWatchService
                 entry.getValue().invalidate(true);
             }
             wdToKey.clear();
+            wdToSubdir.clear();
+            held.clear();
+            heldCount = 0;
+            watchCount = 0;
 
             // free resources
             unsafe.freeMemory(address);
@@ -310,8 +628,15 @@ class LinuxWatchService
                 for (;;) {
                     int nReady, bytesRead;
 
-                    // wait for close or inotify event
-                    nReady = poll(ifd, socketpair[0]);
+                    // wait for close or inotify event, or for the coalescing
+                    // window to close
+                    if (heldCount > 0) {
+                        long remaining = windowEnd - System.nanoTime();
+                        int timeout = (int)Math.max(1L, (remaining + 999999L) / 1000000L);
+                        nReady = timedPoll(ifd, socketpair[0], timeout);
+                    } else {
+                        nReady = poll(ifd, socketpair[0]);
+                    }
 
                     // read from inotify
                     try {
@@ -357,6 +682,10 @@ class LinuxWatchService
                         offset += (SIZEOF_INOTIFY_EVENT + len);
                     }
 
+                    // deliver held events once the window has closed
+                    if (heldCount > 0 && System.nanoTime() - windowEnd >= 0)
+                        flushHeld();
+
                     // process any pending requests
                     if ((nReady > 1) || (nReady == 1 && bytesRead == 0)) {
                         try {
@@ -401,9 +730,21 @@ class LinuxWatchService
         private void processEvent(int wd, int mask, final UnixPath name) {
             // overflow - signal all keys
             if ((mask & IN_Q_OVERFLOW) > 0) {
-                for (Map.Entry<Integer,LinuxWatchKey> entry: wdToKey.entrySet()) {
-                    entry.getValue()
-                        .signalEvent(StandardWatchEventKinds.OVERFLOW, null);
+                kernelOverflows++;
+                flushHeld();
+                Set<LinuxWatchKey> keys = new HashSet<LinuxWatchKey>(wdToKey.values());
+                for (LinuxWatchKey key: keys) {
+                    key.signalEvent(StandardWatchEventKinds.OVERFLOW, null);
+
+                    // subdirectories created since the overflow may not be
+                    // watched yet
+                    if (key.fileTree) {
+                        try {
+                            watchSubtree(key, new UnixPath(fs, new byte[0]), false);
+                        } catch (UnixException x) {
+                            // ignore, limit of inotify watches reached
+                        }
+                    }
                 }
                 return;
             }
@@ -413,9 +754,20 @@ class LinuxWatchService
             if (key == null)
                 return; // should not happen
 
+            // subdirectory of a file tree, null for the key's directory
+            UnixPath subdir = key.fileTree ? wdToSubdir.get(wd) : null;
+
             // file deleted
             if ((mask & IN_IGNORED) > 0) {
-                wdToKey.remove(wd);
+                if (subdir != null) {
+                    removeDescriptor(wd);
+                    wdToSubdir.remove(wd);
+                    key.subdirs.remove(wd);
+                    return;
+                }
+                flushHeld();
+                removeSubdirs(key, true);
+                removeDescriptor(wd);
                 key.invalidate(false);
                 key.signal();
                 return;
@@ -425,14 +777,45 @@ class LinuxWatchService
             if (name == null)
                 return;
 
+            UnixPath context = (subdir == null) ? name : subdir.resolve(name);
+
+            // track subdirectories moved into or out of the file tree
+            if (key.fileTree && (mask & IN_ISDIR) != 0) {
+                if ((mask & (IN_CREATE | IN_MOVED_TO)) != 0) {
+                    try {
+                        addWatch(key, context);
+                        watchSubtree(key, context, true);
+                    } catch (UnixException x) {
+                        // limit of inotify watches reached
+                        key.signalEvent(StandardWatchEventKinds.OVERFLOW, null);
+                    }
+                } else if ((mask & IN_MOVED_FROM) != 0) {
+                    removeSubtree(key, context);
+                }
+            }
+
             // map to event and queue to key
             WatchEvent.Kind<?> kind = maskToEventKind(mask);
-            if (kind != null) {
-                key.signalEvent(kind, name);
+            if (kind != null && (mask & key.mask) != 0) {
+                queueEvent(key, kind, context);
             }
         }
     }
 
+    private static final int IN_MODIFY          = 0x00000002;
+    private static final int IN_ATTRIB          = 0x00000004;
+    private static final int IN_MOVED_FROM      = 0x00000040;
+    private static final int IN_MOVED_TO        = 0x00000080;
+    private static final int IN_CREATE          = 0x00000100;
+    private static final int IN_DELETE          = 0x00000200;
+
+    private static final int IN_UNMOUNT         = 0x00002000;
+    private static final int IN_Q_OVERFLOW      = 0x00004000;
+    private static final int IN_IGNORED         = 0x00008000;
+
+    private static final int IN_MASK_ADD        = 0x20000000;
+    private static final int IN_ISDIR           = 0x40000000;
+
     // -- native methods --
 
     // sizeof inotify_event
@@ -456,6 +839,11 @@ class LinuxWatchService
 
     private static native int poll(int fd1, int fd2) throws UnixException;
 
+    // as poll, but returns 0 if neither descriptor is ready within the
+    // timeout (in ms); only used while events are held for coalescing
+    private static native int timedPoll(int fd1, int fd2, int timeout)
+        throws UnixException;
+
     static {
         AccessController.doPrivileged(new PrivilegedAction<Void>() {
             public Void run() {
@@ -75,6 +75,13 @@ class UnixConstants {
     static final int ENODATA = 61;
     static final int ERANGE = 34;
     static final int EMFILE = 24;
+    static final int ENOTTY = 25;
+    static final int EOPNOTSUPP = 95;
+    static final int ECANCELED = 125;
     static final int AT_SYMLINK_NOFOLLOW = 0x100;
     static final int AT_REMOVEDIR = 0x200;
+    static final int DT_UNKNOWN = 0;
+    static final int DT_DIR = 4;
+    static final int DT_REG = 8;
+    static final int DT_LNK = 10;
 }                                                                              
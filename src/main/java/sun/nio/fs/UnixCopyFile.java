@@ -32,6 +32,7 @@ import java.security.PrivilegedAction;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import com.sun.nio.file.ExtendedCopyOption;
+import sun.misc.Unsafe;
 
 import static sun.nio.fs.UnixNativeDispatcher.*;
 import static sun.nio.fs.UnixConstants.*;
@@ -44,12 +45,15 @@ import static sun.nio.fs.UnixConstants.*;
 class UnixCopyFile {
     private UnixCopyFile() {  }
 
+    private static final Unsafe unsafe = Unsafe.getUnsafe();
+
     // The flags that control how a file is copied or moved
     private static class Flags {
         boolean replaceExisting;
         boolean atomicMove;
         boolean followLinks;
         boolean interruptible;
+        boolean clone;
 
         // the attributes to copy
         boolean copyBasicAttributes;
@@ -86,6 +90,10 @@ class UnixCopyFile {
                     flags.interruptible = true;
                     continue;
                 }
+                if (option == ExtendedCopyOption.CLONE) {
+                    flags.clone = true;
+                    continue;
+                }
                 if (option == null)
                     throw new NullPointerException();
                 throw new UnsupportedOperationException("Unsupported copy option");
@@ -215,6 +223,74 @@ class UnixCopyFile {
         }
     }
 
+    // size of each in-kernel copy, bounds the time to notice cancellation
+    private static final long COPY_CHUNK_SIZE = 16L * 1024L * 1024L;
+
+    // set to false when the kernel does not implement the system call
+    private static volatile boolean cloneSupported = true;
+    private static volatile boolean copyFileRangeSupported = true;
+
+    // true if the error indicates that an in-kernel copy is not possible
+    // between the two files, so the data must be copied through user space
+    private static boolean isCopyUnsupported(int errno) {
+        return errno == EXDEV || errno == EINVAL || errno == EOPNOTSUPP ||
+               errno == ENOTTY || errno == ENOSYS;
+    }
+
+    /**
+     * Copies the data of the file open on src to the file open on dst. The
+     * file is cloned when requested and supported by the file system, or
+     * copied in the kernel with copy_file_range; otherwise the data is read
+     * and written by the native transfer loop. Both file offsets are advanced
+     * by in-kernel copies so a copy that fails part way, or stops early, is
+     * always continued by the transfer loop.
+     */
+    private static void copyData(int dst, int src, long size, boolean clone,
+                                 long addressToPollForCancel)
+        throws UnixException
+    {
+        if (clone && cloneSupported) {
+            try {
+                ficlone(dst, src);
+                return;
+            } catch (UnixException x) {
+                if (x.errno() == ENOSYS || x.errno() == ENOTTY)
+                    cloneSupported = false;
+                if (!isCopyUnsupported(x.errno()))
+                    throw x;
+            } catch (UnsatisfiedLinkError x) {
+                // libnio without the native
+                cloneSupported = false;
+            }
+        }
+
+        // files in pseudo file systems may report a size of 0 but have
+        // contents that copy_file_range would not copy
+        if (size > 0 && copyFileRangeSupported) {
+            try {
+                long n;
+                do {
+                    if (addressToPollForCancel != 0L &&
+                        unsafe.getIntVolatile(null, addressToPollForCancel) != 0)
+                        throw new UnixException(ECANCELED);
+                    n = copyFileRange(src, dst, COPY_CHUNK_SIZE);
+                } while (n > 0);
+            } catch (UnixException x) {
+                if (x.errno() == ENOSYS)
+                    copyFileRangeSupported = false;
+                if (!isCopyUnsupported(x.errno()))
+                    throw x;
+            } catch (UnsatisfiedLinkError x) {
+                // libnio without the native
+                copyFileRangeSupported = false;
+            }
+        }
+
+        // copies whatever copy_file_range left, e.g. data appended since
+        // the size was taken; at end of file this reads nothing
+        transfer(dst, src, addressToPollForCancel);
+    }
+
     // copy regular file from source to target
     private static void copyFile(UnixPath source,
                                  UnixFileAttributes attrs,
@@ -248,7 +324,8 @@ class UnixCopyFile {
             try {
                 // transfer bytes to target file
                 try {
-                    transfer(fo, fi, addressToPollForCancel);
+                    copyData(fo, fi, attrs.size(), flags.clone,
+                             addressToPollForCancel);
                 } catch (UnixException x) {
                     x.rethrowAsIOException(source, target);
                 }
@@ -605,6 +682,14 @@ class UnixCopyFile {
     static native void transfer(int dst, int src, long addressToPollForCancel)
         throws UnixException;
 
+    // clones the file open on src to the file open on dst with the FICLONE ioctl
+    static native void ficlone(int dst, int src) throws UnixException;
+
+    // copies up to len bytes from the current offset of src to the current
+    // offset of dst, returning the number of bytes copied or 0 at end of file
+    static native long copyFileRange(int src, int dst, long len)
+        throws UnixException;
+
     static {
         AccessController.doPrivileged(new PrivilegedAction<Void>() {
             @Override
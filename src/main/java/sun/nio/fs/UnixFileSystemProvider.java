@@ -33,6 +33,7 @@ import java.net.URI;
 import java.io.IOException;
 import java.io.FilePermission;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 
 import sun.nio.ch.ThreadPool;
 import sun.security.util.SecurityConstants;
@@ -384,6 +385,16 @@ public abstract class UnixFileSystemProvider
     }
 
 
+    @Override
+    public Spliterator<Path> walkSpliterator(Path start,
+                                             int maxDepth,
+                                             boolean followLinks)
+        throws IOException
+    {
+        return UnixFileTreeWalker.spliterator(UnixPath.toUnixPath(start),
+                                              maxDepth, followLinks);
+    }
+
     @Override
     public DirectoryStream<Path> newDirectoryStream(Path obj, DirectoryStream.Filter<? super Path> filter)
         throws IOException
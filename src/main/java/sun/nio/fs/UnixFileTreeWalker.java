@@ -0,0 +1,243 @@
+package sun.nio.fs;
+
+import java.nio.file.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import static sun.nio.fs.UnixNativeDispatcher.*;
+import static sun.nio.fs.UnixConstants.*;
+
+/**
+ * Walks a file tree for Files.walkParallel, through
+ * UnixFileSystemProvider.walkSpliterator. The tree is delivered as a
+ * Spliterator that splits off pending subdirectories, so that parallel
+ * streams spread the walk over the ForkJoinPool with work stealing.
+ * Directories are read with readdir and the type of each entry is taken
+ * from d_type, so that entries are only stat'ed when the file system does
+ * not report the type or when symbolic links are followed.
+ *
+ * With a security manager, each directory is checked for read access
+ * before it is opened, and as with Files.walk the entries that may not be
+ * read are skipped.
+ */
+
+final class UnixFileTreeWalker {
+    private UnixFileTreeWalker() { }
+
+    /**
+     * Returns a Spliterator over the file tree rooted at start.
+     */
+    static Spliterator<Path> spliterator(UnixPath start,
+                                         int maxDepth,
+                                         boolean followLinks)
+        throws IOException
+    {
+        if (maxDepth < 0)
+            throw new IllegalArgumentException("'maxDepth' is negative");
+        UnixPath dir = start;
+        dir.checkRead();
+
+        // the starting file is always returned, walk it only if a directory
+        UnixFileAttributes attrs = null;
+        try {
+            attrs = UnixFileAttributes.get(dir, followLinks);
+        } catch (UnixException x) {
+            if (!followLinks || x.errno() != ENOENT)
+                x.rethrowAsIOException(dir);
+            // broken link, return it as a file
+        }
+        TreeSpliterator result = new TreeSpliterator();
+        result.ready.add(dir);
+        if (attrs != null && attrs.isDirectory() && maxDepth > 0) {
+            result.pending.add(new Directory(dir, 0,
+                followLinks ? attrs.fileKey() : null, null));
+        }
+        result.maxDepth = maxDepth;
+        result.followLinks = followLinks;
+        return result;
+    }
+
+    /**
+     * A directory that has yet to be read.
+     */
+    private static final class Directory {
+        final UnixPath path;
+        final int depth;
+        // file key and parent, only used for cycle detection when following links
+        final UnixFileKey key;
+        final Directory parent;
+
+        Directory(UnixPath path, int depth, UnixFileKey key, Directory parent) {
+            this.path = path;
+            this.depth = depth;
+            this.key = key;
+            this.parent = parent;
+        }
+
+        boolean isAncestor(UnixFileKey k) {
+            for (Directory d = this; d != null; d = d.parent) {
+                if (k.equals(d.key))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class TreeSpliterator implements Spliterator<Path> {
+        // split off the entries read so far when there are at least this many
+        private static final int MIN_SPLIT_ENTRIES = 64;
+
+        final ArrayDeque<Directory> pending = new ArrayDeque<>();
+        final ArrayDeque<Path> ready = new ArrayDeque<>();
+        int maxDepth;
+        boolean followLinks;
+
+        private final int[] type = new int[1];
+
+        private TreeSpliterator split() {
+            TreeSpliterator s = new TreeSpliterator();
+            s.maxDepth = maxDepth;
+            s.followLinks = followLinks;
+            return s;
+        }
+
+        /**
+         * Reads a directory, queueing its entries and subdirectories.
+         */
+        private void read(Directory dir) {
+            SecurityManager sm = System.getSecurityManager();
+            if (sm != null)
+                dir.path.checkRead();
+            long dp;
+            try {
+                dp = opendir(dir.path);
+            } catch (UnixException x) {
+                throw new UncheckedIOException(x.asIOException(dir.path));
+            }
+            try {
+                for (;;) {
+                    byte[] name = readdirWithType(dp, type);
+                    if (name == null)
+                        break;
+                    if (name[0] == '.' && (name.length == 1 ||
+                            (name.length == 2 && name[1] == '.')))
+                        continue;
+                    UnixPath entry = dir.path.resolve(name);
+                    if (sm != null && !canRead(entry))
+                        continue;
+                    ready.add(entry);
+                    if (dir.depth + 1 < maxDepth)
+                        visit(dir, entry, type[0]);
+                }
+            } catch (UnixException x) {
+                throw new UncheckedIOException(x.asIOException(dir.path));
+            } finally {
+                try {
+                    closedir(dp);
+                } catch (UnixException ignore) { }
+            }
+        }
+
+        private static boolean canRead(UnixPath entry) {
+            try {
+                entry.checkRead();
+                return true;
+            } catch (SecurityException x) {
+                return false;
+            }
+        }
+
+        /**
+         * Queues the entry if it is a directory, using d_type when possible.
+         */
+        private void visit(Directory dir, UnixPath entry, int dtype)
+            throws UnixException
+        {
+            if (!followLinks) {
+                if (dtype == DT_DIR) {
+                    pending.push(new Directory(entry, dir.depth + 1, null, dir));
+                    return;
+                }
+                if (dtype != DT_UNKNOWN)
+                    return;
+            } else if (dtype != DT_DIR && dtype != DT_LNK && dtype != DT_UNKNOWN) {
+                return;
+            }
+
+            UnixFileAttributes attrs;
+            try {
+                attrs = UnixFileAttributes.get(entry, followLinks);
+            } catch (UnixException x) {
+                // removed while walking, or a broken link
+                if (x.errno() == ENOENT)
+                    return;
+                throw x;
+            }
+            if (!attrs.isDirectory())
+                return;
+            UnixFileKey key = null;
+            if (followLinks) {
+                key = attrs.fileKey();
+                if (dir.isAncestor(key)) {
+                    throw new UncheckedIOException(
+                        new FileSystemLoopException(entry.toString()));
+                }
+            }
+            pending.push(new Directory(entry, dir.depth + 1, key, dir));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Path> action) {
+            for (;;) {
+                Path p = ready.poll();
+                if (p != null) {
+                    action.accept(p);
+                    return true;
+                }
+                Directory dir = pending.poll();
+                if (dir == null)
+                    return false;
+                read(dir);
+            }
+        }
+
+        @Override
+        public Spliterator<Path> trySplit() {
+            // a single pending directory is read so its subdirectories can be split
+            if (pending.size() == 1 && ready.isEmpty())
+                read(pending.poll());
+
+            // hand off the older half of the pending directories, these are
+            // nearer the root and so likely to have larger subtrees
+            int n = pending.size();
+            if (n >= 2) {
+                TreeSpliterator s = split();
+                for (int i = 0; i < n / 2; i++)
+                    s.pending.push(pending.pollLast());
+                return s;
+            }
+
+            // otherwise hand off half of the entries read so far
+            n = ready.size();
+            if (n >= MIN_SPLIT_ENTRIES) {
+                TreeSpliterator s = split();
+                for (int i = 0; i < n / 2; i++)
+                    s.ready.add(ready.poll());
+                return s;
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return pending.isEmpty() ? ready.size() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL;
+        }
+    }
+}
@@ -435,6 +435,15 @@ class UnixNativeDispatcher {
      */
     static native byte[] readdir(long dir) throws UnixException;
 
+    /**
+     * struct dirent* readdir(DIR *dirp)
+     *
+     * @return  dirent->d_name, with dirent->d_type stored in type[0]
+     *          (DT_UNKNOWN if the file system does not fill it in)
+     */
+    static native byte[] readdirWithType(long dir, int[] type)
+        throws UnixException;
+
     /**
      * size_t read(int fildes, void* buf, size_t nbyte)
      */